@@ -0,0 +1,91 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.benchmark;
+
+import com.serial4j.core.errno.Errno;
+import com.serial4j.core.errno.ErrnoToException;
+import com.serial4j.core.serial.throwable.SerialThrowable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the translation of the native error codes into exceptions using
+ * {@link ErrnoToException#throwFromErrno(int)}, for a code mapped late in {@link Errno},
+ * and for the success code which throws nothing.
+ *
+ * @author pavl_g
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ErrnoBenchmark {
+
+    static {
+        BenchmarkNatives.configure();
+    }
+
+    private final int tryAgain = Errno.EAGAIN.getValue();
+    private final int succeeded = Errno.OPERATION_SUCCEEDED.getValue();
+    private final int inputOutput = Errno.EIO.getValue();
+
+    @Benchmark
+    public Object throwTryAgain() {
+        try {
+            ErrnoToException.throwFromErrno(tryAgain);
+            return null;
+        } catch (final SerialThrowable e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object throwInputOutput() {
+        try {
+            ErrnoToException.throwFromErrno(inputOutput);
+            return null;
+        } catch (final SerialThrowable e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public int operationSucceeded() {
+        ErrnoToException.throwFromErrno(succeeded);
+        return succeeded;
+    }
+}
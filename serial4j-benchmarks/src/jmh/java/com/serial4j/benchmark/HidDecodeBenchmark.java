@@ -0,0 +1,83 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.benchmark;
+
+import com.serial4j.core.hid.device.dataframe.registry.JoystickRegistry;
+import com.serial4j.core.hid.device.standard.component.analog.AnalogRegistry;
+import com.serial4j.core.hid.device.standard.component.digital.GpioRegistry;
+import com.serial4j.core.hid.device.standard.mouse.MouseRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the report descriptor decoders of the built-in human interface devices.
+ *
+ * @author pavl_g
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HidDecodeBenchmark {
+
+    private final JoystickRegistry.Decoder joystickDecoder = new JoystickRegistry.Decoder();
+    private final MouseRegistry.Decoder mouseDecoder = new MouseRegistry.Decoder();
+    private final GpioRegistry.Decoder gpioDecoder = new GpioRegistry.Decoder();
+    private final AnalogRegistry.Decoder analogDecoder = new AnalogRegistry.Decoder();
+    private final String joystickReport = "[x = 1023, y = 512, b = 1]\n\r";
+    private final Integer encodedReport = 0x12345678;
+
+    @Benchmark
+    public JoystickRegistry joystickDecode() {
+        return joystickDecoder.decode(joystickReport);
+    }
+
+    @Benchmark
+    public MouseRegistry mouseDecode() {
+        return mouseDecoder.decode(encodedReport);
+    }
+
+    @Benchmark
+    public GpioRegistry gpioDecode() {
+        return gpioDecoder.decode(encodedReport);
+    }
+
+    @Benchmark
+    public AnalogRegistry analogDecode() {
+        return analogDecoder.decode(encodedReport);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.benchmark;
+
+import com.serial4j.core.terminal.PseudoTerminal;
+import com.serial4j.core.terminal.ReadConfiguration;
+import com.serial4j.core.terminal.TerminalDevice;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A benchmark state holding a pseudo-terminal pair, the master device plays the peer,
+ * and the slave device is the port under measurement in the polling read mode.
+ *
+ * @author pavl_g
+ */
+@State(Scope.Benchmark)
+public class PseudoTerminalState {
+
+    static {
+        BenchmarkNatives.configure();
+    }
+
+    public PseudoTerminal pseudoTerminal;
+    public TerminalDevice master;
+    public TerminalDevice slave;
+
+    @Setup(Level.Trial)
+    public void open() {
+        pseudoTerminal = PseudoTerminal.openPair();
+        master = pseudoTerminal.getMaster();
+        slave = pseudoTerminal.getSlave();
+        slave.setReadConfigurationMode(ReadConfiguration.POLLING_READ, 0, 0);
+        master.setReadConfigurationMode(ReadConfiguration.POLLING_READ, 0, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        pseudoTerminal.close();
+    }
+
+    /**
+     * Writes the whole region of an array to a device.
+     */
+    static void writeFully(final TerminalDevice device, final byte[] data, final int length) {
+        int offset = 0;
+        while (offset < length) {
+            offset += (int) device.write(data, offset, length - offset);
+        }
+    }
+
+    /**
+     * Reads and discards the data of a device until a number of bytes is read.
+     */
+    static void drain(final TerminalDevice device, final byte[] buffer, final int length) {
+        int count = 0;
+        while (count < length) {
+            count += (int) device.read(buffer, 0, Math.min(buffer.length, length - count));
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.benchmark;
+
+import com.serial4j.core.serial.entity.impl.WritableCapsule;
+import com.serial4j.core.serial.monitor.BulkSerialDataListener;
+import com.serial4j.core.serial.monitor.SerialMonitor;
+import com.serial4j.core.terminal.control.BaudRate;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the monitor hot paths over a pseudo-terminal pair, the monitor is started on the slave device,
+ * and the master device plays the peer.
+ *
+ * <p>
+ * {@link SerialMonitorBenchmark#frameRoundTrip()} writes a data frame at the master device, and waits for the
+ * {@link com.serial4j.core.serial.entity.impl.SerialReadEntity} to read and frame it; {@link SerialMonitorBenchmark#capsuleDrain()}
+ * queues a burst of capsules, and waits for the {@link com.serial4j.core.serial.entity.impl.SerialWriteEntity} to drain them,
+ * while a peer thread discards the data at the master device.
+ * </p>
+ *
+ * @author pavl_g
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SerialMonitorBenchmark extends PseudoTerminalState {
+
+    private static final int CAPSULES_PER_BURST = 64;
+
+    @Param({"32", "256"})
+    public int frameSize;
+
+    private final AtomicLong receivedFrames = new AtomicLong();
+    private final AtomicLong transmittedBytes = new AtomicLong();
+    private SerialMonitor serialMonitor;
+    private byte[] frame;
+    private String capsuleData;
+    private volatile boolean peerDraining;
+    private Thread peer;
+
+    @Setup(Level.Trial)
+    public void startMonitor() throws Exception {
+        frame = new byte[frameSize];
+        for (int i = 0; i < frameSize - 2; i++) {
+            frame[i] = (byte) ('a' + i % 26);
+        }
+        frame[frameSize - 2] = '\n';
+        frame[frameSize - 1] = '\r';
+        capsuleData = new String(frame, StandardCharsets.US_ASCII);
+
+        serialMonitor = new SerialMonitor("benchmark-monitor");
+        serialMonitor.setSerialDataListener(new BulkSerialDataListener() {
+            @Override
+            public void onDataReceived(final ByteBuffer chunk) {
+            }
+
+            @Override
+            public void onDataTransmitted(final ByteBuffer chunk) {
+                transmittedBytes.addAndGet(chunk.remaining());
+            }
+
+            @Override
+            public void onDataReceived(final String data) {
+                receivedFrames.incrementAndGet();
+            }
+        });
+        serialMonitor.startDataMonitoring(pseudoTerminal.getSlavePath(), BaudRate.B115200, null);
+        while (!serialMonitor.isMonitoringStarted) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopMonitor() throws InterruptedException {
+        serialMonitor.setTerminate();
+        serialMonitor.getMonitorThread().join();
+    }
+
+    @Setup(Level.Iteration)
+    public void startPeer() {
+        peerDraining = true;
+        peer = new Thread(() -> {
+            final byte[] buffer = new byte[4096];
+            while (peerDraining) {
+                if (master.awaitReadable(TimeUnit.MILLISECONDS.toNanos(10))) {
+                    master.read(buffer, 0, buffer.length);
+                }
+            }
+        }, "benchmark-peer");
+        peer.start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopPeer() throws InterruptedException {
+        peerDraining = false;
+        master.wakeup();
+        peer.join();
+    }
+
+    @Benchmark
+    public long frameRoundTrip() {
+        final long target = receivedFrames.get() + 1;
+        writeFully(master, frame, frameSize);
+        long frames;
+        while ((frames = receivedFrames.get()) < target) {
+            Thread.onSpinWait();
+        }
+        return frames;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CAPSULES_PER_BURST)
+    public long capsuleDrain() {
+        final long target = transmittedBytes.get() + (long) CAPSULES_PER_BURST * frameSize;
+        for (int i = 0; i < CAPSULES_PER_BURST; i++) {
+            final WritableCapsule capsule = new WritableCapsule();
+            capsule.write(capsuleData);
+            serialMonitor.getSerialWriteEntity().addWritableCapsule(capsule);
+        }
+        long bytes;
+        while ((bytes = transmittedBytes.get()) < target) {
+            Thread.onSpinWait();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.benchmark;
+
+import com.serial4j.core.terminal.NativeBufferInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the JNI read and write paths of the terminal device over a pseudo-terminal pair,
+ * each operation transfers a payload between the slave device and the master device.
+ *
+ * <p>
+ * The read benchmarks write the payload from the master device, and read it back at the slave device
+ * using the measured read path; the write benchmarks write the payload at the slave device using the
+ * measured write path, and drain it at the master device. The transferred bytes are reported as the
+ * "bytes" secondary result in bytes per second.
+ * </p>
+ *
+ * @author pavl_g
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TerminalDeviceBenchmark extends PseudoTerminalState {
+
+    @Param({"16", "256", "4096"})
+    public int payloadSize;
+
+    private byte[] payload;
+    private String payloadString;
+    private byte[] buffer;
+    private NativeBufferInputStream inputStream;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        payload = new byte[payloadSize];
+        Arrays.fill(payload, (byte) 'A');
+        payloadString = new String(payload, StandardCharsets.US_ASCII);
+        buffer = new byte[payloadSize];
+        inputStream = new NativeBufferInputStream(slave);
+    }
+
+    @Benchmark
+    public long writeByteArray(final BytesCounter counter) {
+        writeFully(slave, payload, payloadSize);
+        drain(master, buffer, payloadSize);
+        return counter.add(payloadSize);
+    }
+
+    @Benchmark
+    public long writeString(final BytesCounter counter) {
+        long count = 0;
+        while (count < payloadSize) {
+            count += slave.write(count == 0 ? payloadString : payloadString.substring((int) count));
+        }
+        drain(master, buffer, payloadSize);
+        return counter.add(payloadSize);
+    }
+
+    @Benchmark
+    public long readByteArray(final BytesCounter counter) {
+        writeFully(master, payload, payloadSize);
+        drain(slave, buffer, payloadSize);
+        return counter.add(payloadSize);
+    }
+
+    @Benchmark
+    public long iread(final BytesCounter counter) {
+        writeFully(master, payload, payloadSize);
+        long count = 0;
+        while (count < payloadSize) {
+            count += slave.iread((int) (payloadSize - count));
+        }
+        return counter.add(payloadSize);
+    }
+
+    @Benchmark
+    public long sread(final BytesCounter counter) {
+        writeFully(master, payload, payloadSize);
+        long count = 0;
+        while (count < payloadSize) {
+            count += slave.sread((int) (payloadSize - count));
+        }
+        return counter.add(payloadSize);
+    }
+
+    @Benchmark
+    public long inputStreamRead(final BytesCounter counter) {
+        writeFully(master, payload, payloadSize);
+        int count = 0;
+        while (count < payloadSize) {
+            count += inputStream.read(buffer, count, payloadSize - count);
+        }
+        return counter.add(payloadSize);
+    }
+
+    /**
+     * Counts the transferred bytes of a benchmark, reported as a throughput.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class BytesCounter {
+        public long bytes;
+
+        long add(final int count) {
+            return bytes += count;
+        }
+    }
+}
@@ -35,6 +35,7 @@ import com.avrsandbox.snaploader.LoadingCriterion;
 import com.serial4j.util.loader.NativeImageLoader;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 
 /**
  * The entry point of the API modular test cases, it reflectively runs
@@ -64,7 +65,8 @@ public final class Launcher {
             , NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         final Class<?> clazz = Class.forName(args[0]);
         final Method method = clazz.getMethod("main", String[].class);
-        final String[] args0 = new String[] { args[1] };
+        /* the pseudo-terminal test cases need no port argument */
+        final String[] args0 = Arrays.copyOfRange(args, 1, args.length);
         method.invoke(null, (Object) args0);
     }
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The Arithmos Project.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.example.capture;
+
+import com.serial4j.core.serial.capture.SerialRecorder;
+import com.serial4j.core.serial.capture.SerialReplayer;
+import com.serial4j.core.terminal.PseudoTerminal;
+import com.serial4j.core.terminal.ReadConfiguration;
+import com.serial4j.core.terminal.TerminalDevice;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Tests a round trip of the {@link SerialRecorder} and the {@link SerialReplayer} over two
+ * pseudo-terminal pairs, no serial device is required.
+ *
+ * <p>
+ * The traffic of the first pair is captured into small segments, the transmitted chunks
+ * are recorded from the master device, and the received chunks are recorded from the slave
+ * device; the received records are then replayed into the master device of the second pair
+ * at the original speed, and its slave device must read the same data in about the same time.
+ * </p>
+ *
+ * @author pavl_g
+ */
+public final class TestSerialCapture {
+
+    private static final String NAME = "pty-capture";
+    private static final int PORT_ID = 1;
+    private static final int CHUNKS = 30;
+    private static final int CHUNK_LENGTH = 256;
+    private static final long CHUNK_GAP_MILLIS = 20;
+    private static final long TIMEOUT = TimeUnit.SECONDS.toNanos(2);
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        final Path directory = Files.createTempDirectory("serial4j-capture");
+        try {
+            /* a stray file resembling a segment must be ignored by the recorder and the replayer */
+            Files.createFile(directory.resolve(NAME + "-abcdef.s4jcap"));
+            final byte[] captured = capture(directory);
+            final long capturedMillis = (CHUNKS - 1) * CHUNK_GAP_MILLIS;
+
+            /* a chunk that doesn't fit the rest of a segment is split into two records */
+            final long[] bytes = new long[2];
+            final long records = new SerialReplayer(directory, NAME)
+                    .setSpeed(0)
+                    .replay((timestamp, direction, portId, data) -> bytes[direction] += data.remaining());
+            System.out.println("Captured records: " + records + ", received = " + bytes[SerialRecorder.DIRECTION_RECEIVED]
+                    + " bytes, transmitted = " + bytes[SerialRecorder.DIRECTION_TRANSMITTED] + " bytes");
+            if (bytes[SerialRecorder.DIRECTION_TRANSMITTED] != (long) CHUNKS * CHUNK_LENGTH
+                    || bytes[SerialRecorder.DIRECTION_RECEIVED] != captured.length) {
+                fail("captured data are lost");
+            }
+
+            try (PseudoTerminal pty = PseudoTerminal.openPair()) {
+                final TerminalDevice slave = pty.getSlave();
+                slave.setReadConfigurationMode(ReadConfiguration.POLLING_READ, 0, 0);
+                final ByteArrayOutputStream replayed = new ByteArrayOutputStream();
+                final Thread reader = new Thread(() -> {
+                    final byte[] buffer = new byte[CHUNK_LENGTH];
+                    while (replayed.size() < captured.length && slave.awaitReadable(TIMEOUT)) {
+                        final int count = (int) slave.read(buffer, 0, buffer.length);
+                        replayed.write(buffer, 0, count);
+                    }
+                }, "Reader");
+                reader.start();
+
+                final long start = System.nanoTime();
+                new SerialReplayer(directory, NAME)
+                        .setSpeed(1)
+                        .setPortId(PORT_ID)
+                        .setDirection(SerialRecorder.DIRECTION_RECEIVED)
+                        .replay(pty.getMaster());
+                final long replayedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                reader.join();
+
+                if (!Arrays.equals(captured, replayed.toByteArray())) {
+                    fail("replayed " + replayed.size() + " bytes differ from the " + captured.length + " captured bytes");
+                }
+                System.out.println("Replayed " + replayed.size() + " bytes in " + replayedMillis
+                        + " ms, captured in " + capturedMillis + " ms");
+                if (replayedMillis < capturedMillis * 8 / 10) {
+                    fail("the original timing is not reproduced");
+                }
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+        System.out.println("Serial capture test passed!");
+    }
+
+    /**
+     * Writes the chunks to the first pseudo-terminal pair and records both directions.
+     *
+     * @return the received data
+     */
+    private static byte[] capture(final Path directory) throws IOException, InterruptedException {
+        final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        try (PseudoTerminal pty = PseudoTerminal.openPair();
+             SerialRecorder recorder = new SerialRecorder(directory, NAME, 4096)) {
+            final TerminalDevice master = pty.getMaster();
+            final TerminalDevice slave = pty.getSlave();
+            slave.setReadConfigurationMode(ReadConfiguration.POLLING_READ, 0, 0);
+            final byte[] chunk = new byte[CHUNK_LENGTH];
+            final byte[] buffer = new byte[CHUNK_LENGTH];
+            for (int i = 0; i < CHUNKS; i++) {
+                Arrays.fill(chunk, (byte) ('A' + i % 26));
+                master.write(chunk, 0, chunk.length);
+                recorder.record(PORT_ID, SerialRecorder.DIRECTION_TRANSMITTED, chunk, 0, chunk.length);
+                for (int count = 0; count < CHUNK_LENGTH; ) {
+                    if (!slave.awaitReadable(TIMEOUT)) {
+                        fail("chunk " + i + " is not received");
+                    }
+                    final int read = (int) slave.read(buffer, 0, CHUNK_LENGTH - count);
+                    recorder.record(PORT_ID, SerialRecorder.DIRECTION_RECEIVED, buffer, 0, read);
+                    received.write(buffer, 0, read);
+                    count += read;
+                }
+                Thread.sleep(CHUNK_GAP_MILLIS);
+            }
+            System.out.println("Recorded " + recorder.getRecordCount() + " records into " + directory);
+        }
+        return received.toByteArray();
+    }
+
+    private static void fail(final String message) {
+        System.err.println("Serial capture test failed: " + message);
+        System.exit(1);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The Arithmos Project.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.example.concurrent;
+
+import com.serial4j.core.terminal.PseudoTerminal;
+import com.serial4j.core.terminal.ReadConfiguration;
+import com.serial4j.core.terminal.TerminalDevice;
+import com.serial4j.util.concurrent.BackpressurePolicy;
+import com.serial4j.util.concurrent.MpscRingBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the {@link MpscRingBuffer} over a pseudo-terminal pair, no serial device
+ * is required; several producer threads offer frames to a small ring buffer
+ * using the blocking policy, a single consumer thread writes the frames to the
+ * master device, and the slave device verifies that no frame is lost, and that
+ * the frames of each producer arrive in order.
+ *
+ * @author pavl_g
+ */
+public final class TestMpscRingBuffer {
+
+    private static final int PRODUCERS = 4;
+    private static final int FRAMES_PER_PRODUCER = 5000;
+    private static final int FRAME_LENGTH = 3;
+    private static final long TIMEOUT = TimeUnit.SECONDS.toNanos(5);
+
+    public static void main(String[] args) throws InterruptedException {
+        testPolicies();
+        try (PseudoTerminal pty = PseudoTerminal.openPair()) {
+            final TerminalDevice master = pty.getMaster();
+            final TerminalDevice slave = pty.getSlave();
+            slave.setReadConfigurationMode(ReadConfiguration.POLLING_READ, 0, 0);
+
+            final MpscRingBuffer<byte[]> ringBuffer = new MpscRingBuffer<>(16);
+            final Thread[] producers = new Thread[PRODUCERS];
+            for (int i = 0; i < PRODUCERS; i++) {
+                final byte id = (byte) i;
+                producers[i] = new Thread(() -> {
+                    for (int sequence = 0; sequence < FRAMES_PER_PRODUCER; sequence++) {
+                        ringBuffer.offer(new byte[] {id, (byte) (sequence >> 8), (byte) sequence},
+                                BackpressurePolicy.BLOCK);
+                    }
+                }, "Producer-" + i);
+                producers[i].start();
+            }
+
+            final int total = PRODUCERS * FRAMES_PER_PRODUCER;
+            final Thread consumer = new Thread(() -> {
+                for (int frames = 0; frames < total; ) {
+                    final byte[] frame = ringBuffer.poll();
+                    if (frame == null) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    int offset = 0;
+                    while (offset < frame.length) {
+                        offset += (int) master.write(frame, offset, frame.length - offset);
+                    }
+                    frames++;
+                }
+            }, "Consumer");
+            consumer.start();
+
+            final int[] nextSequence = new int[PRODUCERS];
+            final byte[] frame = new byte[FRAME_LENGTH];
+            final long deadline = System.nanoTime() + TIMEOUT;
+            for (int frames = 0; frames < total; frames++) {
+                int count = 0;
+                while (count < FRAME_LENGTH) {
+                    if (System.nanoTime() > deadline) {
+                        fail("timed out after " + frames + " frames");
+                    }
+                    slave.awaitReadable(TIMEOUT);
+                    count += (int) slave.read(frame, count, FRAME_LENGTH - count);
+                }
+                final int id = frame[0];
+                final int sequence = ((frame[1] & 0xFF) << 8) | (frame[2] & 0xFF);
+                if (sequence != nextSequence[id]++) {
+                    fail("producer " + id + " frame " + sequence + " is out of order");
+                }
+            }
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            consumer.join();
+            if (!ringBuffer.isEmpty()) {
+                fail("ring buffer is not drained, size = " + ringBuffer.size());
+            }
+            System.out.println("Received " + total + " frames from " + PRODUCERS + " producers in order");
+        }
+        System.out.println("MPSC ring buffer test passed!");
+    }
+
+    private static void testPolicies() {
+        final MpscRingBuffer<Integer> ringBuffer = new MpscRingBuffer<>(3);
+        if (ringBuffer.getCapacity() != 4) {
+            fail("capacity is not rounded up to a power of two: " + ringBuffer.getCapacity());
+        }
+        for (int i = 0; i < ringBuffer.getCapacity(); i++) {
+            ringBuffer.offer(i);
+        }
+        if (ringBuffer.offer(4, BackpressurePolicy.DROP)) {
+            fail("a full buffer accepted a dropped element");
+        }
+        try {
+            ringBuffer.offer(4, BackpressurePolicy.FAIL);
+            fail("a full buffer accepted a failed element");
+        } catch (IllegalStateException e) {
+            System.out.println("FAIL policy: " + e.getMessage());
+        }
+        for (int i = 0; i < ringBuffer.getCapacity(); i++) {
+            if (ringBuffer.poll() != i) {
+                fail("elements are not polled in the insertion order");
+            }
+        }
+        if (ringBuffer.poll() != null) {
+            fail("an empty buffer returned an element");
+        }
+        System.out.println("Backpressure policies: DROP and FAIL rejected the elements of a full buffer");
+    }
+
+    private static void fail(final String message) {
+        System.err.println("MPSC ring buffer test failed: " + message);
+        System.exit(1);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The Arithmos Project.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.example.concurrent;
+
+import com.serial4j.core.terminal.PseudoTerminal;
+import com.serial4j.core.terminal.ReadConfiguration;
+import com.serial4j.core.terminal.TerminalDevice;
+import com.serial4j.util.concurrent.TimerWheel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the {@link TimerWheel} as a request timeout scheduler over a pseudo-terminal pair,
+ * no serial device is required; the master device sends numbered requests and schedules a
+ * timeout for each, the slave device answers only the even requests, so the answered requests
+ * cancel their timeouts, while the odd requests expire.
+ *
+ * <p>
+ * Note: a pseudo-terminal master device ignores the read configuration, and blocks the read
+ * until data is available, so it is read only after {@link TerminalDevice#awaitReadable(long)}
+ * reports a readable device.
+ * </p>
+ *
+ * @author pavl_g
+ */
+public final class TestTimerWheel {
+
+    private static final int REQUESTS = 10;
+    private static final long TICK = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long REQUEST_TIMEOUT = TimeUnit.MILLISECONDS.toNanos(300);
+
+    public static void main(String[] args) throws InterruptedException {
+        testRounds();
+        try (PseudoTerminal pty = PseudoTerminal.openPair()) {
+            final TerminalDevice master = pty.getMaster();
+            final TerminalDevice slave = pty.getSlave();
+            slave.setReadConfigurationMode(ReadConfiguration.POLLING_READ, 0, 0);
+
+            /* the device: echoes the even requests, and ignores the odd ones */
+            final Thread device = new Thread(() -> {
+                final byte[] request = new byte[1];
+                for (int i = 0; i < REQUESTS; ) {
+                    slave.awaitReadable(-1);
+                    if (slave.read(request, 0, 1) == 1) {
+                        if (request[0] % 2 == 0) {
+                            slave.write(request, 0, 1);
+                        }
+                        i++;
+                    }
+                }
+            }, "Device");
+            device.start();
+
+            final TimerWheel<Integer> wheel = new TimerWheel<>(TICK, 64, System.nanoTime());
+            final List<TimerWheel.Timeout<Integer>> timeouts = new ArrayList<>();
+            final TreeSet<Integer> answered = new TreeSet<>();
+            final TreeSet<Integer> expired = new TreeSet<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                master.write(new byte[] {(byte) i}, 0, 1);
+                timeouts.add(wheel.schedule(i, REQUEST_TIMEOUT, System.nanoTime()));
+            }
+
+            final byte[] response = new byte[REQUESTS];
+            final long deadline = System.nanoTime() + 4 * REQUEST_TIMEOUT;
+            while (wheel.size() > 0) {
+                if (System.nanoTime() > deadline) {
+                    fail("the pending requests never expired: " + wheel.size());
+                }
+                /* sleep until a response arrives, or until the next tick is due */
+                if (master.awaitReadable(wheel.nanosToNextTick(System.nanoTime()))) {
+                    final int count = (int) master.read(response, 0, response.length);
+                    for (int i = 0; i < count; i++) {
+                        wheel.cancel(timeouts.get(response[i]));
+                        answered.add((int) response[i]);
+                    }
+                }
+                wheel.advance(System.nanoTime(), expired::add);
+            }
+            device.join();
+
+            System.out.println("Answered requests: " + answered);
+            System.out.println("Expired requests: " + expired);
+            for (int i = 0; i < REQUESTS; i++) {
+                if ((i % 2 == 0) != answered.contains(i) || (i % 2 != 0) != expired.contains(i)) {
+                    fail("request " + i + " is misclassified");
+                }
+            }
+        }
+        System.out.println("Timer wheel test passed!");
+    }
+
+    private static void testRounds() {
+        /* a simulated clock, the 20-tick timeout wraps around the 8-bucket wheel twice */
+        final TimerWheel<String> wheel = new TimerWheel<>(1, 8, 0);
+        final List<String> expired = new ArrayList<>();
+        final TimerWheel.Timeout<String> late = wheel.schedule("late", 20, 0);
+        final TimerWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 5, 0);
+        wheel.cancel(cancelled);
+        wheel.advance(19, expired::add);
+        if (!expired.isEmpty() || !late.isScheduled() || cancelled.isScheduled()) {
+            fail("a timeout has expired early, or the cancelled timeout has expired: " + expired);
+        }
+        wheel.advance(20, expired::add);
+        if (!expired.equals(List.of("late")) || late.isScheduled() || wheel.size() != 0) {
+            fail("the 20-tick timeout has not expired on time: " + expired);
+        }
+        System.out.println("Timeout rounds: expired " + expired + " on the 20th tick");
+    }
+
+    private static void fail(final String message) {
+        System.err.println("Timer wheel test failed: " + message);
+        System.exit(1);
+    }
+}
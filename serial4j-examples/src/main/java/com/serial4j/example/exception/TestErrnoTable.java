@@ -0,0 +1,139 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The Arithmos Project.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.example.exception;
+
+import com.serial4j.core.errno.Errno;
+import com.serial4j.core.errno.ErrnoToException;
+import com.serial4j.core.serial.SerialPort;
+import com.serial4j.core.serial.throwable.InputOutputException;
+import com.serial4j.core.serial.throwable.NoSuchFileException;
+import com.serial4j.core.serial.throwable.NotInterpretableErrnoError;
+import com.serial4j.core.serial.throwable.SerialThrowable;
+import com.serial4j.core.terminal.PseudoTerminal;
+import com.serial4j.core.terminal.TerminalDevice;
+
+/**
+ * Examines the {@link Errno} lookup table, and the exceptions thrown by
+ * {@link ErrnoToException} for each native errno value, then provokes real
+ * native errors using a pseudo-terminal pair, no serial device is required.
+ *
+ * <p>
+ * Note: closing the slave device hangs up the master device, so reading the
+ * master device fails with "EIO".
+ * </p>
+ *
+ * @author pavl_g
+ */
+public final class TestErrnoTable {
+
+    public static void main(String[] args) {
+        testTable();
+        testThrowables();
+
+        /* an unknown pseudo-terminal slave device */
+        try {
+            new TerminalDevice().openPort(new SerialPort("/dev/pts/" + Integer.MAX_VALUE));
+            fail("opened an unknown pseudo-terminal slave device");
+        } catch (NoSuchFileException e) {
+            System.out.println("Unknown slave device: " + e.getMessage() + " " + e.getCausingErrno());
+        }
+
+        try (PseudoTerminal pty = PseudoTerminal.openPair()) {
+            final TerminalDevice master = pty.getMaster();
+            pty.getSlave().closePort();
+            final byte[] buffer = new byte[1];
+            final long status = master.tryRead(buffer, 0, buffer.length);
+            if (status >= 0 || Errno.fromValue((int) -status) != Errno.EIO) {
+                fail("hung up master read returned " + status);
+            }
+            System.out.println("Hung up master tryRead: " + status + " " + Errno.fromValue((int) -status));
+            try {
+                master.read(buffer, 0, buffer.length);
+                fail("hung up master read succeeded");
+            } catch (InputOutputException e) {
+                System.out.println("Hung up master read: " + e.getMessage() + " " + e.getCausingErrno());
+            }
+        }
+        System.out.println("Errno table test passed!");
+    }
+
+    private static void testTable() {
+        for (Errno errno : Errno.values()) {
+            final Errno found = Errno.fromValue(errno.getValue());
+            if (found == null || found.getValue() != errno.getValue()) {
+                fail(errno + " (" + errno.getValue() + ") is not found, got " + found);
+            }
+            if (found != errno) {
+                /* the first declared constant wins on duplicate native values */
+                System.out.println(errno + " shares the value " + errno.getValue() + " with " + found);
+            }
+        }
+        if (Errno.fromValue(Integer.MAX_VALUE) != null || Errno.fromValue(Integer.MIN_VALUE) != null) {
+            fail("an unknown value is interpreted");
+        }
+        System.out.println("Lookup table: " + Errno.values().length + " error codes round trip");
+    }
+
+    private static void testThrowables() {
+        for (Errno errno : Errno.values()) {
+            final int value = errno.getValue();
+            try {
+                ErrnoToException.throwFromErrno(value);
+                if (errno != Errno.OPERATION_SUCCEEDED) {
+                    fail(errno + " threw nothing");
+                }
+            } catch (SerialThrowable e) {
+                if (e.getCausingErrno().getValue() != value
+                        || !Errno.fromValue(value).getDescription().equals(e.getMessage())) {
+                    fail(errno + " threw " + e.getClass().getSimpleName() + " of " + e.getCausingErrno());
+                }
+                /* the transient errors are thrown without a stack trace */
+                if (ErrnoToException.isTransient(value) == (e.getStackTrace().length > 0)) {
+                    fail(errno + " has an unexpected stack trace length " + e.getStackTrace().length);
+                }
+            }
+        }
+        try {
+            ErrnoToException.throwFromErrno(Integer.MAX_VALUE);
+            fail("an unknown value threw nothing");
+        } catch (NotInterpretableErrnoError e) {
+            System.out.println("Unknown errno: " + e.getMessage());
+        }
+        System.out.println("Throwables: each errno throws an exception caused by the same errno");
+    }
+
+    private static void fail(final String message) {
+        System.err.println("Errno table test failed: " + message);
+        System.exit(1);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The Arithmos Project.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.example.frame;
+
+import com.serial4j.core.serial.FrameDecoder;
+import com.serial4j.core.serial.FrameOverflowException;
+import com.serial4j.core.serial.frame.CobsFrameDecoder;
+import com.serial4j.core.serial.frame.DelimiterFrameDecoder;
+import com.serial4j.core.serial.frame.FixedLengthFrameDecoder;
+import com.serial4j.core.serial.frame.LengthPrefixedFrameDecoder;
+import com.serial4j.core.serial.frame.SlipFrameDecoder;
+import com.serial4j.core.terminal.PseudoTerminal;
+import com.serial4j.core.terminal.ReadConfiguration;
+import com.serial4j.core.terminal.TerminalDevice;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the frame decoders over a pseudo-terminal pair, no serial device
+ * is required; the master device writes the encoded frames, the slave device
+ * reads them and pushes the received bytes into a decoder.
+ *
+ * <p>
+ * The oversized frames are reported as "overflow", and the decoding must resume
+ * at the next frame boundary.
+ * </p>
+ *
+ * @author pavl_g
+ */
+public final class TestFrameDecoders {
+
+    private static final String OVERFLOW = "overflow";
+    private static final long TIMEOUT = TimeUnit.SECONDS.toNanos(2);
+
+    public static void main(String[] args) {
+        try (PseudoTerminal pty = PseudoTerminal.openPair()) {
+            pty.getSlave().setReadConfigurationMode(ReadConfiguration.POLLING_READ, 0, 0);
+
+            test(pty, "Delimiter", new DelimiterFrameDecoder(new byte[] {'\r', '\n'}, false, 8),
+                    bytes("abc\r\nTOO-LONG-FRAME\r\nok\r\n"),
+                    "616263", OVERFLOW, "6f6b");
+
+            test(pty, "SLIP", new SlipFrameDecoder(4),
+                    concat(new byte[] {SlipFrameDecoder.END, 'a', 'b', SlipFrameDecoder.ESC,
+                                    SlipFrameDecoder.ESC_END, 'c', SlipFrameDecoder.END},
+                            new byte[] {'1', '2', '3', '4', '5', '6', SlipFrameDecoder.END},
+                            new byte[] {'x', SlipFrameDecoder.END}),
+                    "6162c063", OVERFLOW, "78");
+
+            test(pty, "COBS", new CobsFrameDecoder(4),
+                    concat(new byte[] {0x03, 'a', 'b', 0x02, 'c', 0x00},
+                            new byte[] {0x01, 0x00},
+                            new byte[] {0x06, '1', '2', '3', '4', '5', 0x00},
+                            new byte[] {0x02, 'z', 0x00}),
+                    "61620063", "", OVERFLOW, "7a");
+
+            test(pty, "Fixed-length", new FixedLengthFrameDecoder(3),
+                    bytes("abcdef"),
+                    "616263", "646566");
+
+            test(pty, "Length-prefixed", new LengthPrefixedFrameDecoder(2, ByteOrder.LITTLE_ENDIAN, 4),
+                    concat(new byte[] {0x02, 0x00, 'h', 'i'},
+                            new byte[] {0x05, 0x00},
+                            new byte[] {0x00, 0x00},
+                            new byte[] {0x01, 0x00, '!'}),
+                    "6869", OVERFLOW, "", "21");
+        }
+        System.out.println("Frame decoders test passed!");
+    }
+
+    private static void test(final PseudoTerminal pty, final String name, final FrameDecoder decoder,
+                             final byte[] data, final String... expected) {
+        final TerminalDevice master = pty.getMaster();
+        final TerminalDevice slave = pty.getSlave();
+        master.write(data, 0, data.length);
+
+        final List<String> frames = new ArrayList<>();
+        final byte[] buffer = new byte[data.length];
+        int received = 0;
+        final long deadline = System.nanoTime() + TIMEOUT;
+        while (received < data.length && System.nanoTime() < deadline) {
+            slave.awaitReadable(TIMEOUT);
+            final int count = (int) slave.read(buffer, 0, data.length - received);
+            for (int i = 0; i < count; i++) {
+                try {
+                    if (decoder.push(buffer[i])) {
+                        frames.add(hex(decoder.getFrame()));
+                    }
+                } catch (FrameOverflowException e) {
+                    frames.add(OVERFLOW);
+                }
+            }
+            received += count;
+        }
+
+        if (!frames.equals(Arrays.asList(expected))) {
+            System.err.println(name + " failed: expected " + Arrays.toString(expected) + " but got " + frames);
+            System.exit(1);
+        }
+        System.out.println(name + " frames: " + frames);
+    }
+
+    private static String hex(final ByteBuffer frame) {
+        final StringBuilder builder = new StringBuilder();
+        while (frame.hasRemaining()) {
+            builder.append(String.format("%02x", frame.get()));
+        }
+        return builder.toString();
+    }
+
+    private static byte[] bytes(final String data) {
+        return data.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] concat(final byte[]... chunks) {
+        final ByteBuffer buffer = ByteBuffer.allocate(Arrays.stream(chunks).mapToInt(chunk -> chunk.length).sum());
+        for (byte[] chunk : chunks) {
+            buffer.put(chunk);
+        }
+        return buffer.array();
+    }
+}
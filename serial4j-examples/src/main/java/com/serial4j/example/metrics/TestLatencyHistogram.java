@@ -0,0 +1,145 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The Arithmos Project.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.example.metrics;
+
+import com.serial4j.core.terminal.PseudoTerminal;
+import com.serial4j.core.terminal.ReadConfiguration;
+import com.serial4j.core.terminal.TerminalDevice;
+import com.serial4j.util.metrics.LatencyHistogram;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the {@link LatencyHistogram} buckets, then records the round-trip latency of
+ * a pseudo-terminal pair, no serial device is required.
+ *
+ * <p>
+ * The bucket layout is examined through the percentiles: a value recorded alongside a far
+ * larger value is reported at the 50th percentile as the upper bound of its bucket, which
+ * must equal the values below 32, and must not exceed the other values by more than 1/32.
+ * </p>
+ *
+ * @author pavl_g
+ */
+public final class TestLatencyHistogram {
+
+    private static final int ROUND_TRIPS = 1000;
+    private static final long TIMEOUT = TimeUnit.SECONDS.toNanos(2);
+
+    public static void main(String[] args) {
+        testBuckets();
+        try (PseudoTerminal pty = PseudoTerminal.openPair()) {
+            final TerminalDevice master = pty.getMaster();
+            final TerminalDevice slave = pty.getSlave();
+            slave.setReadConfigurationMode(ReadConfiguration.POLLING_READ, 0, 0);
+
+            final LatencyHistogram histogram = new LatencyHistogram();
+            final byte[] data = new byte[] {'A'};
+            final byte[] buffer = new byte[1];
+            for (int i = 0; i < ROUND_TRIPS; i++) {
+                final long start = System.nanoTime();
+                master.write(data, 0, data.length);
+                while (slave.read(buffer, 0, 1) < 1) {
+                    if (!slave.awaitReadable(TIMEOUT)) {
+                        fail("round trip " + i + " timed out");
+                    }
+                }
+                histogram.record(System.nanoTime() - start);
+            }
+            if (histogram.getCount() != ROUND_TRIPS) {
+                fail("recorded " + histogram.getCount() + " values");
+            }
+            final long p50 = histogram.getValueAtPercentile(50);
+            final long p99 = histogram.getValueAtPercentile(99);
+            if (p50 > p99 || p99 > histogram.getMax()) {
+                fail("the percentiles are not monotonic: p50 = " + p50 + ", p99 = " + p99
+                        + ", max = " + histogram.getMax());
+            }
+            System.out.printf("Pseudo-terminal round trip: mean = %.0f ns, p50 = %d ns, p99 = %d ns, max = %d ns%n",
+                    histogram.getMean(), p50, p99, histogram.getMax());
+        }
+        System.out.println("Latency histogram test passed!");
+    }
+
+    private static void testBuckets() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        long previousBound = -1;
+        int buckets = 0;
+        for (long value = 0; value < (1L << 12); value++) {
+            final long bound = upperBoundOf(histogram, value);
+            if (value < 32 && bound != value) {
+                fail("value " + value + " is not recorded exactly: " + bound);
+            }
+            if (bound < value || bound - value > value / 32) {
+                fail("value " + value + " is out of precision: " + bound);
+            }
+            if (bound != previousBound) {
+                /* a new bucket starts right after the upper bound of the previous one */
+                if (value != previousBound + 1) {
+                    fail("bucket of value " + value + " does not follow the bound " + previousBound);
+                }
+                previousBound = bound;
+                buckets++;
+            }
+        }
+        for (int exponent = 12; exponent < 63; exponent++) {
+            /* the first and the last values of each power of two range */
+            for (long value : new long[] {1L << exponent, (1L << exponent) - 1 + (1L << exponent)}) {
+                final long bound = upperBoundOf(histogram, value);
+                if (bound < value || bound - value > value / 32) {
+                    fail("value " + value + " is out of precision: " + bound);
+                }
+            }
+        }
+        histogram.reset();
+        if (histogram.getCount() != 0 || histogram.getMax() != 0 || histogram.getValueAtPercentile(99) != 0) {
+            fail("the histogram is not cleared");
+        }
+        System.out.println("Buckets: values [0, 2^12) map to " + buckets + " contiguous buckets within 1/32");
+    }
+
+    /**
+     * Retrieves the upper bound of the bucket holding a value, by recording a larger value
+     * to keep the maximum from clamping the 50th percentile.
+     */
+    private static long upperBoundOf(final LatencyHistogram histogram, final long value) {
+        histogram.reset();
+        histogram.record(value);
+        histogram.record(Long.MAX_VALUE);
+        return histogram.getValueAtPercentile(50);
+    }
+
+    private static void fail(final String message) {
+        System.err.println("Latency histogram test failed: " + message);
+        System.exit(1);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The Arithmos Project.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.example.monitor;
+
+import com.serial4j.core.serial.entity.impl.WritableCapsule;
+import com.serial4j.core.serial.monitor.SerialDataListener;
+import com.serial4j.core.serial.monitor.SerialMonitor;
+import com.serial4j.core.serial.monitor.SerialReactor;
+import com.serial4j.core.terminal.PseudoTerminal;
+import com.serial4j.core.terminal.TerminalDevice;
+import com.serial4j.core.terminal.control.BaudRate;
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests a writable capsule larger than the write batch of a monitor over a pseudo-terminal pair,
+ * no serial device is required; the monitor writes to the slave device, and the master device
+ * reads the data back.
+ *
+ * <p>
+ * The capsule spans multiple batches, and its tail must be written right after the first batch,
+ * both by the monitor thread and by a {@link SerialReactor}, without waiting for the read await
+ * timeout, nor for a writable event that is never armed.
+ * </p>
+ *
+ * @author pavl_g
+ */
+public final class TestLargeWritableCapsule {
+
+    private static final int CAPSULE_LENGTH = 12000;
+    private static final long TIMEOUT = TimeUnit.SECONDS.toNanos(2);
+    private static final long MAX_WRITE_MILLIS = 250;
+
+    public static void main(String[] args) throws FileNotFoundException, InterruptedException {
+        final StringBuilder data = new StringBuilder(CAPSULE_LENGTH);
+        for (int i = 0; i < CAPSULE_LENGTH; i++) {
+            data.append((char) ('A' + i % 26));
+        }
+        test(data.toString(), null);
+        final SerialReactor serialReactor = new SerialReactor("ttyReactor", 1);
+        try {
+            test(data.toString(), serialReactor);
+        } finally {
+            serialReactor.close();
+        }
+        System.out.println("Large writable capsule test passed!");
+    }
+
+    private static void test(final String data, final SerialReactor serialReactor)
+            throws FileNotFoundException, InterruptedException {
+        final String mode = serialReactor == null ? "Monitor thread" : "Reactor";
+        try (PseudoTerminal pty = PseudoTerminal.openPair()) {
+            final SerialMonitor serialMonitor = new SerialMonitor("ttyLarge-monitor");
+            serialMonitor.setSerialReactor(serialReactor);
+            serialMonitor.setSerialDataListener(new SerialDataListener() {
+                @Override
+                public void onDataReceived(int data) {
+                }
+
+                @Override
+                public void onDataTransmitted(int data) {
+                }
+
+                @Override
+                public void onDataReceived(String data) {
+                }
+            });
+            serialMonitor.startDataMonitoring(pty.getSlavePath(), BaudRate.B115200, null);
+            try {
+                final WritableCapsule writableCapsule = new WritableCapsule();
+                writableCapsule.write(data);
+                final long start = System.nanoTime();
+                serialMonitor.getSerialWriteEntity().addWritableCapsule(writableCapsule);
+
+                final TerminalDevice master = pty.getMaster();
+                final byte[] buffer = new byte[data.length()];
+                int count = 0;
+                /* the master device blocks the reads, so it is read only when it is readable */
+                while (count < buffer.length && master.awaitReadable(TIMEOUT)) {
+                    count += (int) master.read(buffer, count, buffer.length - count);
+                }
+                final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                if (count != buffer.length || !data.equals(new String(buffer, 0, count, StandardCharsets.ISO_8859_1))) {
+                    fail(mode + " has written " + count + " of " + data.length() + " bytes");
+                }
+                System.out.println(mode + ": written " + count + " bytes in "
+                        + serialMonitor.getMaxWriteBatchSize() + "-byte batches within " + millis + " ms");
+                if (millis > MAX_WRITE_MILLIS) {
+                    fail(mode + " has stalled between the batches");
+                }
+            } finally {
+                serialMonitor.setTerminate();
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    private static void fail(final String message) {
+        System.err.println("Large writable capsule test failed: " + message);
+        System.exit(1);
+    }
+}
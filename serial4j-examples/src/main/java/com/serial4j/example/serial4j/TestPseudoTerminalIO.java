@@ -0,0 +1,133 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The Arithmos Project.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.example.serial4j;
+
+import com.serial4j.core.terminal.PseudoTerminal;
+import com.serial4j.core.terminal.ReadConfiguration;
+import com.serial4j.core.terminal.TerminalDevice;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the terminal device I/O over a pseudo-terminal pair, no serial device
+ * is required; the master device writes using a heap buffer, a direct buffer
+ * and a gathering write, the slave device reads the data back, then transfers
+ * a chunk of data into a temporary file.
+ *
+ * @author pavl_g
+ */
+public final class TestPseudoTerminalIO {
+
+    private static final long TIMEOUT = TimeUnit.SECONDS.toNanos(2);
+
+    public static void main(String[] args) throws IOException {
+        try (PseudoTerminal pty = PseudoTerminal.openPair()) {
+            final TerminalDevice master = pty.getMaster();
+            final TerminalDevice slave = pty.getSlave();
+            slave.setReadConfigurationMode(ReadConfiguration.POLLING_READ, 0, 0);
+            System.out.println("Opened pseudo-terminal slave: " + pty.getSlavePath());
+
+            /* heap buffer write, heap buffer read */
+            final byte[] data = "Hello Serial4j".getBytes(StandardCharsets.US_ASCII);
+            master.write(data, 0, data.length);
+            assertEquals("byte[] I/O", data, readFully(slave, data.length));
+
+            /* direct buffer write, direct buffer read */
+            final ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+            direct.put(data).flip();
+            master.write(direct);
+            final ByteBuffer received = ByteBuffer.allocateDirect(data.length);
+            long deadline = System.nanoTime() + TIMEOUT;
+            while (received.hasRemaining() && System.nanoTime() < deadline) {
+                slave.awaitReadable(TIMEOUT);
+                slave.read(received);
+            }
+            received.flip();
+            final byte[] bytes = new byte[received.remaining()];
+            received.get(bytes);
+            assertEquals("ByteBuffer I/O", data, bytes);
+
+            /* gathering write: header + payload + trailer in a single "writev(2)" call */
+            final ByteBuffer header = ByteBuffer.wrap(new byte[] {'<'});
+            final ByteBuffer payload = ByteBuffer.wrap(data);
+            final ByteBuffer trailer = ByteBuffer.wrap(new byte[] {'>'});
+            final long written = master.write(header, payload, trailer);
+            System.out.println("Gathering write: " + written + " bytes");
+            assertEquals("Gathering I/O", ("<" + new String(data, StandardCharsets.US_ASCII) + ">")
+                    .getBytes(StandardCharsets.US_ASCII), readFully(slave, data.length + 2));
+
+            /* transfer the slave input directly into a file */
+            final Path file = Files.createTempFile("serial4j", ".log");
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                master.write(data, 0, data.length);
+                long transferred = 0;
+                deadline = System.nanoTime() + TIMEOUT;
+                while (transferred < data.length && System.nanoTime() < deadline) {
+                    slave.awaitReadable(TIMEOUT);
+                    transferred += slave.transferTo(channel, data.length - transferred);
+                }
+                System.out.println("Transferred: " + transferred + " bytes into " + file);
+            }
+            assertEquals("transferTo", data, Files.readAllBytes(file));
+            Files.delete(file);
+        }
+        System.out.println("Pseudo-terminal I/O test passed!");
+    }
+
+    private static byte[] readFully(final TerminalDevice device, final int length) {
+        final byte[] buffer = new byte[length];
+        int count = 0;
+        final long deadline = System.nanoTime() + TIMEOUT;
+        while (count < length && System.nanoTime() < deadline) {
+            device.awaitReadable(TIMEOUT);
+            count += (int) device.read(buffer, count, length - count);
+        }
+        return Arrays.copyOf(buffer, count);
+    }
+
+    private static void assertEquals(final String test, final byte[] expected, final byte[] actual) {
+        if (!Arrays.equals(expected, actual)) {
+            System.err.println(test + " failed: expected \"" + new String(expected, StandardCharsets.US_ASCII)
+                    + "\" but got \"" + new String(actual, StandardCharsets.US_ASCII) + "\"");
+            System.exit(1);
+        }
+        System.out.println(test + ": " + new String(actual, StandardCharsets.US_ASCII));
+    }
+}
@@ -333,6 +333,16 @@ namespace JniUtils {
     static inline jchar* getCharArrayStartAddress(JNIEnv* env, jcharArray array) {
         return env->GetCharArrayElements(array, JNI_FALSE);
     }
+
+    /**
+     * @brief Retrieves the start address of the memory region referenced by a direct java.nio.ByteBuffer.
+     *
+     * @param buffer a direct buffer object.
+     * @return jbyte* the start address of the buffer memory, or NULL if the buffer is not a direct buffer.
+     */
+    static inline jbyte* getDirectBufferAddress(JNIEnv* env, jobject buffer) {
+        return (jbyte*) env->GetDirectBufferAddress(buffer);
+    }
 }
 
 #endif
\ No newline at end of file
@@ -0,0 +1,133 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class com_serial4j_core_terminal_NativeEventPoll */
+
+#ifndef _Included_com_serial4j_core_terminal_NativeEventPoll
+#define _Included_com_serial4j_core_terminal_NativeEventPoll
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     com_serial4j_core_terminal_NativeEventPoll
+ * Method:    getReadableEvent
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_getReadableEvent
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeEventPoll
+ * Method:    getWritableEvent
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_getWritableEvent
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeEventPoll
+ * Method:    getErrorEvent
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_getErrorEvent
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeEventPoll
+ * Method:    getHangupEvent
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_getHangupEvent
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeEventPoll
+ * Method:    getOneShotEvent
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_getOneShotEvent
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeEventPoll
+ * Method:    create
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_create
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeEventPoll
+ * Method:    add
+ * Signature: (III)I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_add
+  (JNIEnv *, jclass, jint, jint, jint);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeEventPoll
+ * Method:    modify
+ * Signature: (III)I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_modify
+  (JNIEnv *, jclass, jint, jint, jint);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeEventPoll
+ * Method:    remove
+ * Signature: (II)I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_remove
+  (JNIEnv *, jclass, jint, jint);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeEventPoll
+ * Method:    await
+ * Signature: (I[I[III)I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_await
+  (JNIEnv *, jclass, jint, jintArray, jintArray, jint, jint);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeEventPoll
+ * Method:    createWakeup
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_createWakeup
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeEventPoll
+ * Method:    wakeup
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_wakeup
+  (JNIEnv *, jclass, jint);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeEventPoll
+ * Method:    drain
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_drain
+  (JNIEnv *, jclass, jint);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeEventPoll
+ * Method:    close
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_close
+  (JNIEnv *, jclass, jint);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeEventPoll
+ * Method:    getErrno
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_getErrno
+  (JNIEnv *, jclass);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -159,6 +159,78 @@ JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_sre
 JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_iread
   (JNIEnv *, jobject, jint);
 
+/*
+ * Class:     com_serial4j_core_terminal_NativeTerminalDevice
+ * Method:    write0
+ * Signature: (II)J
+ */
+JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_write0__II
+  (JNIEnv *, jclass, jint, jint);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeTerminalDevice
+ * Method:    write0
+ * Signature: (ILjava/nio/ByteBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_write0__ILjava_nio_ByteBuffer_2II
+  (JNIEnv *, jclass, jint, jobject, jint, jint);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeTerminalDevice
+ * Method:    write0
+ * Signature: (I[BII)J
+ */
+JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_write0__I_3BII
+  (JNIEnv *, jclass, jint, jbyteArray, jint, jint);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeTerminalDevice
+ * Method:    writev0
+ * Signature: (I[Ljava/nio/ByteBuffer;[I[II)J
+ */
+JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_writev0
+  (JNIEnv *, jclass, jint, jobjectArray, jintArray, jintArray, jint);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeTerminalDevice
+ * Method:    read0
+ * Signature: (ILjava/nio/ByteBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_read0__ILjava_nio_ByteBuffer_2II
+  (JNIEnv *, jclass, jint, jobject, jint, jint);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeTerminalDevice
+ * Method:    read0
+ * Signature: (I[BII)J
+ */
+JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_read0__I_3BII
+  (JNIEnv *, jclass, jint, jbyteArray, jint, jint);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeTerminalDevice
+ * Method:    awaitReadable0
+ * Signature: (IIJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_awaitReadable0
+  (JNIEnv *, jclass, jint, jint, jlong);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeTerminalDevice
+ * Method:    available0
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_available0
+  (JNIEnv *, jclass, jint);
+
+/*
+ * Class:     com_serial4j_core_terminal_NativeTerminalDevice
+ * Method:    transferTo0
+ * Signature: (IIJ)J
+ */
+JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_transferTo0
+  (JNIEnv *, jclass, jint, jint, jlong);
+
 /*
  * Class:     com_serial4j_core_terminal_NativeTerminalDevice
  * Method:    seek
@@ -175,6 +247,14 @@ JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_see
 JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_openPort
   (JNIEnv *, jobject, jstring, jint);
 
+/*
+ * Class:     com_serial4j_core_terminal_NativeTerminalDevice
+ * Method:    openPseudoTerminal
+ * Signature: (I[B)I
+ */
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_openPseudoTerminal
+  (JNIEnv *, jobject, jint, jbyteArray);
+
 /*
  * Class:     com_serial4j_core_terminal_NativeTerminalDevice
  * Method:    setModemBitsStatus
@@ -0,0 +1,114 @@
+/**
+ * @file EventPoll.h
+ * @author pavl_g.
+ * @brief Represents an I/O event notification facility that monitors multiple terminal devices.
+ * @version 0.1
+ * 
+ * @copyright 
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+#ifndef _EVENT_POLL
+#define _EVENT_POLL
+
+#include<sys/epoll.h>
+#include<sys/eventfd.h>
+#include<unistd.h>
+#include<stdint.h>
+#include<ErrnoUtils.h>
+
+/** The maximum number of the ready events retrieved by a single wait dispatch */
+#define MAX_READY_EVENTS (256)
+
+namespace EventPoll {
+
+    /**
+     * @brief Creates a new event poll instance.
+     *
+     * @return int the event poll file descriptor, (-1) for failure.
+     */
+    int create();
+
+    /**
+     * @brief Adds, modifies or removes the interest of a file descriptor on an event poll instance.
+     *
+     * @param epfd the event poll file descriptor.
+     * @param operation one of [EPOLL_CTL_ADD], [EPOLL_CTL_MOD] or [EPOLL_CTL_DEL].
+     * @param fd the file descriptor of the target device.
+     * @param events the bit mask of the events of interest.
+     * @return int (0) for success, (-1) for failure, (-2) for invalid port.
+     */
+    int control(int epfd, int operation, int fd, int events);
+
+    /**
+     * @brief Waits for the events on the event poll instance, the ready file descriptors and their
+     * events are written to the [fds] and [events] buffers respectively.
+     *
+     * @param epfd the event poll file descriptor.
+     * @param fds a buffer to hold the ready file descriptors.
+     * @param events a buffer to hold the ready events of each file descriptor.
+     * @param capacity the capacity of the buffers.
+     * @param timeout the maximum time to wait in milliseconds, (-1) to wait indefinitely.
+     * @return int the number of the ready file descriptors, (0) for timeout, (-1) for failure.
+     */
+    int wait(int epfd, int* fds, int* events, int capacity, int timeout);
+
+    /**
+     * @brief Creates a non-blocking event file descriptor that is used to wake up a waiting thread.
+     *
+     * @return int the event file descriptor, (-1) for failure.
+     */
+    int createWakeup();
+
+    /**
+     * @brief Signals an event file descriptor, waking up the threads waiting on it.
+     *
+     * @param fd the event file descriptor.
+     * @return int (0) for success, (-1) for failure.
+     */
+    int wakeup(int fd);
+
+    /**
+     * @brief Clears the signals of an event file descriptor.
+     *
+     * @param fd the event file descriptor.
+     * @return int (0) for success, (-1) for failure.
+     */
+    int drain(int fd);
+
+    /**
+     * @brief Closes an event poll or an event file descriptor.
+     *
+     * @param fd the file descriptor to close.
+     * @return int (0) for success, (-1) for failure.
+     */
+    int close(int fd);
+}
+
+#endif
@@ -46,6 +46,10 @@
 #include<unistd.h>
 #include<string.h>
 #include<fcntl.h>
+#include<sys/uio.h>
+#include<poll.h>
+#include<sys/ioctl.h>
+#include<stdint.h>
 #include<errno.h>
 #include<dirent.h>
 
@@ -59,6 +63,13 @@
 /** The default flags for the base file api */
 #define DEFAULT_FLAGS (O_RDWR | O_NONBLOCK | O_NOCTTY)
 
+/** The buffer sizes of the native transfers */
+#define TRANSFER_CHUNK_SIZE (4096)
+#define TRANSFER_PIPE_SIZE (65536)
+
+/** The maximum length of a pseudo-terminal slave path */
+#define PTS_NAME_LENGTH (128)
+
 typedef unsigned short int TerminalFlag;
 
 namespace TerminalDevice {
@@ -95,6 +106,17 @@ namespace TerminalDevice {
      */
     int openPort(const char* port, int flag);
 
+    /**
+     * @brief Opens the master side of a new pseudo-terminal pair using "posix_openpt(3)", and unlocks
+     * its slave side to be opened by path using TerminalDevice::openPort(const char*, int).
+     *
+     * @param flag the flag for the base file control native api [fcntl].
+     * @param slaveName a buffer to hold the null-terminated path of the slave device.
+     * @param length the size of the slave name buffer.
+     * @return int the master file descriptor, (-1) for failure.
+     */
+    int openPseudoTerminal(int flag, char* slaveName, size_t length);
+
     /**
      * @brief Initializes the default terminal for this device with the following default charachteristics:
      * -----------
@@ -236,6 +258,15 @@ namespace TerminalDevice {
      */
     ssize_t writeData(const void* buffer, int length, int* fd);
 
+    /**
+     * @brief Gathers a data from multiple buffers and writes them to the serial port device in a single dispatch.
+     *
+     * @param vector an array of buffer descriptors to write to the file in order.
+     * @param count the number of the buffer descriptors in the array.
+     * @return ssize_t the total number of bytes written to the serial device, (-1) for failure, (-2) for invalid port.
+     */
+    ssize_t writeVector(const struct iovec* vector, int count, int* fd);
+
     /**
      * @brief Reads data from the serial port device and saves it to a buffer.
      *
@@ -245,6 +276,40 @@ namespace TerminalDevice {
      */
     ssize_t readData(void* buffer, int length, int* fd);
 
+    /**
+     * @brief Waits for the serial port device to become readable, or for the wakeup event
+     * file descriptor to be signalled, the wakeup signals are cleared before returning.
+     *
+     * @param fd the serial port file descriptor.
+     * @param wakeupFd an event file descriptor to wake up the wait, or (-1) to wait on the port only.
+     * @param timeoutNanos the maximum time to wait in nanoseconds, a negative value waits indefinitely.
+     * @return int (1) if the device is readable, (0) for timeout or wakeup, (-1) for failure, (-2) for invalid port.
+     */
+    int awaitReadable(int* fd, int wakeupFd, int64_t timeoutNanos);
+
+    /**
+     * @brief Retrieves the number of bytes available at the terminal input queue using the "FIONREAD" request.
+     *
+     * @param fd the serial port file descriptor.
+     * @return int the number of the available bytes, (-1) for failure, (-2) for invalid port.
+     */
+    int available(int* fd);
+
+    /**
+     * @brief Transfers the data from the serial port device to another file descriptor inside the kernel using
+     * "splice(2)" through an intermediate pipe, the data never enters the user space; a native read and write loop on
+     * a stack buffer is used instead if either file doesn't support splicing.
+     *
+     * The transfer stops when the maximum number of bytes is reached, or when a read returns no data,
+     * so in the polling read mode only the available data is transferred; the destination should be in the blocking mode.
+     *
+     * @param fd the serial port file descriptor.
+     * @param outFd the destination file descriptor, (e.g. a regular file, a socket or a pipe).
+     * @param maxBytes the maximum number of bytes to transfer.
+     * @return ssize_t the number of the transferred bytes, (-1) for failure, (-2) for invalid port.
+     */
+    ssize_t transferTo(int* fd, int outFd, ssize_t maxBytes);
+
     /**
      * @brief Seeks the file position of the file-system by offset bytes based on the whence criterion.
      *
@@ -0,0 +1,88 @@
+#include<jni/com_serial4j_core_terminal_NativeEventPoll.h>
+#include<errno.h>
+#include<EventPoll.h>
+
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_getReadableEvent
+  (JNIEnv* env, jclass clazz) {
+    return EPOLLIN;
+}
+
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_getWritableEvent
+  (JNIEnv* env, jclass clazz) {
+    return EPOLLOUT;
+}
+
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_getErrorEvent
+  (JNIEnv* env, jclass clazz) {
+    return EPOLLERR;
+}
+
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_getHangupEvent
+  (JNIEnv* env, jclass clazz) {
+    return EPOLLHUP;
+}
+
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_getOneShotEvent
+  (JNIEnv* env, jclass clazz) {
+    return (jint) EPOLLONESHOT;
+}
+
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_create
+  (JNIEnv* env, jclass clazz) {
+    return EventPoll::create();
+}
+
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_add
+  (JNIEnv* env, jclass clazz, jint epfd, jint fd, jint events) {
+    return EventPoll::control(epfd, EPOLL_CTL_ADD, fd, events);
+}
+
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_modify
+  (JNIEnv* env, jclass clazz, jint epfd, jint fd, jint events) {
+    return EventPoll::control(epfd, EPOLL_CTL_MOD, fd, events);
+}
+
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_remove
+  (JNIEnv* env, jclass clazz, jint epfd, jint fd) {
+    return EventPoll::control(epfd, EPOLL_CTL_DEL, fd, 0);
+}
+
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_await
+  (JNIEnv* env, jclass clazz, jint epfd, jintArray fds, jintArray events, jint capacity, jint timeout) {
+    
+    jint readyFds[MAX_READY_EVENTS];
+    jint readyEvents[MAX_READY_EVENTS];
+    int count = EventPoll::wait(epfd, readyFds, readyEvents, capacity, timeout);
+    /* copy only the ready entries to the java arrays */
+    if (count > 0) {
+        env->SetIntArrayRegion(fds, 0, count, readyFds);
+        env->SetIntArrayRegion(events, 0, count, readyEvents);
+    }
+
+    return count;
+}
+
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_createWakeup
+  (JNIEnv* env, jclass clazz) {
+    return EventPoll::createWakeup();
+}
+
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_wakeup
+  (JNIEnv* env, jclass clazz, jint fd) {
+    return EventPoll::wakeup(fd);
+}
+
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_drain
+  (JNIEnv* env, jclass clazz, jint fd) {
+    return EventPoll::drain(fd);
+}
+
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_close
+  (JNIEnv* env, jclass clazz, jint fd) {
+    return EventPoll::close(fd);
+}
+
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeEventPoll_getErrno
+  (JNIEnv* env, jclass clazz) {
+    return errno;
+}
@@ -42,8 +42,219 @@
 #include<stdlib.h>
 #include<JniUtils.h>
 
+/** The capacity of the stack buffer used to read data into caller-supplied java arrays */
+#define READ_BUFFER_CAPACITY (4096)
+#define WRITE_BUFFER_CAPACITY (4096)
+#define WRITE_VECTOR_CAPACITY (64)
+
 AddressesBuffer serialPorts;
 
+/**
+ * @brief Holds the java classes and field ids of the terminal device objects, resolved
+ * once at the library load time, a NULL id is resolved lazily by name on each access.
+ */
+static struct {
+    jclass nativeTerminalDeviceClass;
+    jclass serialPortClass;
+    jfieldID serialPort;
+    jfieldID serialPorts;
+    jfieldID readBuffer;
+    jfieldID buffer;
+    jfieldID fd;
+    jfieldID portOpened;
+    jfieldID ioFlag;
+    jfieldID path;
+} jniCache;
+
+static inline jclass cacheClass(JNIEnv* env, const char* clazzName) {
+    jclass clazz = JniUtils::getClassFromString(env, clazzName);
+    if (clazz == NULL) {
+        env->ExceptionClear();
+        return NULL;
+    }
+    jclass globalRef = (jclass) env->NewGlobalRef(clazz);
+    env->DeleteLocalRef(clazz);
+    return globalRef;
+}
+
+static inline jfieldID cacheField(JNIEnv* env, jclass clazz, const char* fieldName, const char* fieldSig) {
+    if (clazz == NULL) {
+        return NULL;
+    }
+    jfieldID fieldId = env->GetFieldID(clazz, fieldName, fieldSig);
+    if (fieldId == NULL) {
+        env->ExceptionClear();
+    }
+    return fieldId;
+}
+
+static inline jfieldID getFieldID(JNIEnv* env, jobject object, jfieldID cachedId, const char* fieldName, const char* fieldSig) {
+    if (cachedId != NULL) {
+        return cachedId;
+    }
+    return JniUtils::getFieldIDFromObject(env, &object, fieldName, fieldSig);
+}
+
+static inline jobject getSerialPort(JNIEnv* env, jobject object) {
+    jfieldID fieldId = getFieldID(env, object, jniCache.serialPort, "serialPort", "Lcom/serial4j/core/serial/SerialPort;");
+    return env->GetObjectField(object, fieldId);
+}
+
+static inline jint getPortDescriptor(JNIEnv* env, jobject object) {
+    jobject serialPortObject = getSerialPort(env, object);
+    jfieldID fieldId = getFieldID(env, serialPortObject, jniCache.fd, "fd", "I");
+    jint fd = env->GetIntField(serialPortObject, fieldId);
+    env->DeleteLocalRef(serialPortObject);
+    return fd;
+}
+
+static inline void setObjectField(JNIEnv* env, jobject object, jfieldID cachedId, const char* fieldName, const char* fieldSig, jobject value) {
+    env->SetObjectField(object, getFieldID(env, object, cachedId, fieldName, fieldSig), value);
+    env->DeleteLocalRef(value);
+}
+
+static inline void setIntField(JNIEnv* env, jobject object, jfieldID cachedId, const char* fieldName, jint value) {
+    env->SetIntField(object, getFieldID(env, object, cachedId, fieldName, "I"), value);
+}
+
+JNIEXPORT jint JNICALL JNI_OnLoad(JavaVM* vm, void* reserved) {
+    JNIEnv* env;
+    if (vm->GetEnv((void**) &env, JNI_VERSION_1_8) != JNI_OK) {
+        return JNI_ERR;
+    }
+    JniUtils::setupJavaEnvironment(env, JNI_VERSION_1_8);
+
+    jniCache.nativeTerminalDeviceClass = cacheClass(env, "com/serial4j/core/terminal/NativeTerminalDevice");
+    jniCache.serialPortClass = cacheClass(env, "com/serial4j/core/serial/SerialPort");
+
+    jniCache.serialPort = cacheField(env, jniCache.nativeTerminalDeviceClass, "serialPort", "Lcom/serial4j/core/serial/SerialPort;");
+    jniCache.serialPorts = cacheField(env, jniCache.nativeTerminalDeviceClass, "serialPorts", "[Ljava/lang/String;");
+    jniCache.readBuffer = cacheField(env, jniCache.nativeTerminalDeviceClass, "readBuffer", "Ljava/lang/String;");
+    jniCache.buffer = cacheField(env, jniCache.nativeTerminalDeviceClass, "buffer", "[C");
+
+    jniCache.fd = cacheField(env, jniCache.serialPortClass, "fd", "I");
+    jniCache.portOpened = cacheField(env, jniCache.serialPortClass, "portOpened", "I");
+    jniCache.ioFlag = cacheField(env, jniCache.serialPortClass, "ioFlag", "I");
+    jniCache.path = cacheField(env, jniCache.serialPortClass, "path", "Ljava/lang/String;");
+
+    return JNI_VERSION_1_8;
+}
+
+JNIEXPORT void JNICALL JNI_OnUnload(JavaVM* vm, void* reserved) {
+    JNIEnv* env;
+    if (vm->GetEnv((void**) &env, JNI_VERSION_1_8) != JNI_OK) {
+        return;
+    }
+    if (jniCache.nativeTerminalDeviceClass != NULL) {
+        env->DeleteGlobalRef(jniCache.nativeTerminalDeviceClass);
+    }
+    if (jniCache.serialPortClass != NULL) {
+        env->DeleteGlobalRef(jniCache.serialPortClass);
+    }
+    memset(&jniCache, 0, sizeof(jniCache));
+}
+
+/**
+ * @brief Encodes a native return value into the negative errno convention of the "*0" natives, the
+ * errno is read in the same dispatch of the failing system call, so the java side never needs a second
+ * dispatch to getErrno() that might retrieve a clobbered errno.
+ *
+ * @param returnValue the native return value, (-1) for failure, (-2) for invalid port
+ * @return the non-negative return value, (-errno) for failure, (-EBADF) for invalid port
+ */
+static inline jlong toStatus(ssize_t returnValue) {
+    if (returnValue >= 0) {
+        return returnValue;
+    }
+    if (returnValue == ERR_INVALID_PORT) {
+        return -EBADF;
+    }
+    return -errno;
+}
+
+static inline jlong writeDirectBuffer(JNIEnv* env, int fd, jobject buffer, jint offset, jint length) {
+    jbyte* address = JniUtils::getDirectBufferAddress(env, buffer);
+    if (address == NULL) {
+        errno = EINVAL;
+        return ERR_OPERATION_FAILED;
+    }
+    /* write directly from the memory of the caller-owned buffer */
+    return TerminalDevice::writeData((const void*) (address + offset), length, &fd);
+}
+
+static inline jlong writeByteArray(JNIEnv* env, int fd, jbyteArray buffer, jint offset, jint length) {
+    if (length <= WRITE_BUFFER_CAPACITY) {
+        /* small frames are copied into a stack buffer and written in one dispatch */
+        jbyte data[WRITE_BUFFER_CAPACITY];
+        env->GetByteArrayRegion(buffer, offset, length, data);
+        return TerminalDevice::writeData((const void*) data, length, &fd);
+    }
+    /* large frames are copied once into a temporary native buffer, only the written region
+       is copied, and the java array is not held while the write blocks */
+    jbyte* data = (jbyte*) malloc((size_t) length);
+    if (data == NULL) {
+        errno = ENOMEM;
+        return ERR_OPERATION_FAILED;
+    }
+    env->GetByteArrayRegion(buffer, offset, length, data);
+    ssize_t bytes = TerminalDevice::writeData((const void*) data, length, &fd);
+    /* retain the errno of the write, as the release might clobber it */
+    int error = errno;
+    free(data);
+    errno = error;
+
+    return bytes;
+}
+
+static inline jlong writeVector(JNIEnv* env, int fd, jobjectArray buffers, jintArray offsets, jintArray lengths, jint count) {
+    /* regions beyond the vector capacity are left for the caller to write as a partial write */
+    if (count > WRITE_VECTOR_CAPACITY) {
+        count = WRITE_VECTOR_CAPACITY;
+    }
+    jint offsetsData[WRITE_VECTOR_CAPACITY];
+    jint lengthsData[WRITE_VECTOR_CAPACITY];
+    env->GetIntArrayRegion(offsets, 0, count, offsetsData);
+    env->GetIntArrayRegion(lengths, 0, count, lengthsData);
+
+    struct iovec vector[WRITE_VECTOR_CAPACITY];
+    for (int i = 0; i < count; i++) {
+        jobject buffer = env->GetObjectArrayElement(buffers, i);
+        jbyte* address = JniUtils::getDirectBufferAddress(env, buffer);
+        env->DeleteLocalRef(buffer);
+        if (address == NULL) {
+            errno = EINVAL;
+            return ERR_OPERATION_FAILED;
+        }
+        vector[i].iov_base = (void*) (address + offsetsData[i]);
+        vector[i].iov_len = (size_t) lengthsData[i];
+    }
+    return TerminalDevice::writeVector(vector, count, &fd);
+}
+
+static inline jlong readDirectBuffer(JNIEnv* env, int fd, jobject buffer, jint offset, jint length) {
+    jbyte* address = JniUtils::getDirectBufferAddress(env, buffer);
+    if (address == NULL) {
+        errno = EINVAL;
+        return ERR_OPERATION_FAILED;
+    }
+    /* read data directly into the memory of the caller-owned buffer */
+    return TerminalDevice::readData((void*) (address + offset), length, &fd);
+}
+
+static inline jlong readByteArray(JNIEnv* env, int fd, jbyteArray array, jint offset, jint length) {
+    /* read into a stack buffer, as the java array cannot be pinned during a blocking read() */
+    jbyte buffer[READ_BUFFER_CAPACITY];
+    long bytes = TerminalDevice::readData((void*) buffer,
+                    length < READ_BUFFER_CAPACITY ? length : READ_BUFFER_CAPACITY, &fd);
+
+    /* copy only the read bytes to the caller-supplied array */
+    if (bytes > 0) {
+        env->SetByteArrayRegion(array, offset, bytes, buffer);
+    }
+
+    return bytes;
+}
+
 /**
  * @brief Deprecated for removal.
  */
@@ -54,60 +265,60 @@ JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_setu
 
 JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_setTerminalControlFlag
   (JNIEnv* env, jobject object, jint flag) {
-    jint fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    jint fd = getPortDescriptor(env, object);
     const TerminalFlag terminalFlag = flag;
     return TerminalDevice::setTerminalControlFlag(terminalFlag, &fd);
 }
 
 JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_setTerminalLocalFlag
   (JNIEnv* env, jobject object, jint flag) {
-    jint fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    jint fd = getPortDescriptor(env, object);
     const TerminalFlag terminalFlag = flag;
     return TerminalDevice::setTerminalLocalFlag(terminalFlag, &fd);
 }
 
 JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_setTerminalInputFlag
   (JNIEnv* env, jobject object, jint flag) {
-    jint fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    jint fd = getPortDescriptor(env, object);
     const TerminalFlag terminalFlag = flag;
     return TerminalDevice::setTerminalInputFlag(terminalFlag, &fd);
 }
 
 JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_setTerminalOutputFlag
   (JNIEnv* env, jobject object, jint flag) {
-    jint fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    jint fd = getPortDescriptor(env, object);
     const TerminalFlag terminalFlag = flag;
     return TerminalDevice::setTerminalOutputFlag(terminalFlag, &fd);
 }
 
 JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_getTerminalControlFlag
   (JNIEnv* env, jobject object) {
-    jint fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    jint fd = getPortDescriptor(env, object);
     return TerminalDevice::getTerminalControlFlag(&fd);
 }
 
 JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_getTerminalLocalFlag
   (JNIEnv* env, jobject object) {
-    jint fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    jint fd = getPortDescriptor(env, object);
     return TerminalDevice::getTerminalLocalFlag(&fd);
 } 
 
 JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_getTerminalInputFlag
   (JNIEnv* env, jobject object) {
-    jint fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    jint fd = getPortDescriptor(env, object);
     return TerminalDevice::getTerminalInputFlag(&fd);
 }
 
 JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_getTerminalOutputFlag
   (JNIEnv* env, jobject object) {
-    jint fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    jint fd = getPortDescriptor(env, object);
     return TerminalDevice::getTerminalOutputFlag(&fd);
 }
 
 JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_setReadConfigurationMode
   (JNIEnv* env, jobject object, jshort timeoutValue, jshort minimumBytes) {
     
-    jint fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    jint fd = getPortDescriptor(env, object);
     /* Narrowing off the [jshort] values to [unsigned char]
        will drop the bits that are not in the range of the unsigned char */
     cc_t readConfig[READ_CONFIG_SIZE] = {(cc_t) timeoutValue, (cc_t) minimumBytes};
@@ -119,7 +330,7 @@ JNIEXPORT jshortArray JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevi
   (JNIEnv* env, jobject object) {
 
     cc_t readConfig[READ_CONFIG_SIZE];
-    int fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    int fd = getPortDescriptor(env, object);
     TerminalDevice::getReadConfigurationMode(readConfig, &fd);
     /* wrap the incompatible data type into a jint primitive array */
     /* Note: at this point, casting from [unsigned char] to [short] is implicit! */
@@ -136,7 +347,7 @@ JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_fetc
      int state = TerminalDevice::fetchSerialPorts(&serialPorts);
      int length = *serialPorts.getAddressesCount();
      jobjectArray stringArray = JniUtils::getStringArrayFromBuffer(env, (const char**) serialPorts.getStartAddress(), length);
-     JniUtils::setObjectField(env, &object, "serialPorts", "[Ljava/lang/String;", stringArray);
+     setObjectField(env, object, jniCache.serialPorts, "serialPorts", "[Ljava/lang/String;", stringArray);
      serialPorts.deallocateAll();
 
      return state;  
@@ -144,14 +355,14 @@ JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_fetc
 
 JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_write__I
   (JNIEnv* env, jobject object, jint buffer) {
-    int fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    int fd = getPortDescriptor(env, object);
     return TerminalDevice::writeData(&buffer, 1, &fd);
 }
 
 JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_write__Ljava_lang_String_2I
   (JNIEnv* env, jobject object, jstring string, jint length) {
 
-    int fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    int fd = getPortDescriptor(env, object);
     const char* buffer = JniUtils::getBufferFromString(env, string);
     int state = TerminalDevice::writeData(buffer, length, &fd);
     env->ReleaseStringUTFChars(string, buffer);
@@ -162,7 +373,7 @@ JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_wri
 JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_sread__
   (JNIEnv* env, jobject object) {
 
-    int fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    int fd = getPortDescriptor(env, object);
     /* construct a termios and get the control character flag from fd */
     struct termios tty;
     TerminalDevice::getTermiosFromFd(&tty, &fd);
@@ -173,14 +384,14 @@ JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_sre
     memset(strBuffer, '\0', sizeof(strBuffer));
     long bytes = TerminalDevice::readData((void*) strBuffer, length, &fd);
     /* get the java string buffer and setup its data with the buffer */
-    JniUtils::setObjectField(env, &object, "readBuffer", "Ljava/lang/String;", env->NewStringUTF(strBuffer));
+    setObjectField(env, object, jniCache.readBuffer, "readBuffer", "Ljava/lang/String;", env->NewStringUTF(strBuffer));
 
     return bytes;
 }
 
 JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_sread__I
   (JNIEnv* env, jobject object, jint length) {
-    int fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    int fd = getPortDescriptor(env, object);
 
     /* use an additional memory block for the null terminating character '\0' */
     char strBuffer[length + 1];
@@ -188,13 +399,13 @@ JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_sre
     memset(strBuffer, '\0', sizeof(strBuffer));
     long bytes = TerminalDevice::readData((void*) strBuffer, length, &fd);
     /* get the java string buffer and setup its data with the buffer */
-    JniUtils::setObjectField(env, &object, "readBuffer", "Ljava/lang/String;", env->NewStringUTF(strBuffer));
+    setObjectField(env, object, jniCache.readBuffer, "readBuffer", "Ljava/lang/String;", env->NewStringUTF(strBuffer));
     return bytes;
 }
 
 JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_iread
   (JNIEnv* env, jobject object, jint length) {
-    int fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    int fd = getPortDescriptor(env, object);
 
     /* create the buffer and initialize it with zero */
     jchar buffer[length + 1];
@@ -205,32 +416,77 @@ JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_ire
 
     /* send the data to the Java buffer */
     jcharArray array = JniUtils::getCharArrayFromBuffer(env, buffer, length);
-    JniUtils::setObjectField(env, &object, "buffer", "[C", array);
+    setObjectField(env, object, jniCache.buffer, "buffer", "[C", array);
 
     return bytes;
 }
 
+JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_write0__II
+  (JNIEnv* env, jclass clazz, jint fd, jint data) {
+    return toStatus(TerminalDevice::writeData(&data, 1, &fd));
+}
+
+JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_write0__ILjava_nio_ByteBuffer_2II
+  (JNIEnv* env, jclass clazz, jint fd, jobject buffer, jint offset, jint length) {
+    return toStatus(writeDirectBuffer(env, fd, buffer, offset, length));
+}
+
+JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_write0__I_3BII
+  (JNIEnv* env, jclass clazz, jint fd, jbyteArray buffer, jint offset, jint length) {
+    return toStatus(writeByteArray(env, fd, buffer, offset, length));
+}
+
+JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_writev0
+  (JNIEnv* env, jclass clazz, jint fd, jobjectArray buffers, jintArray offsets, jintArray lengths, jint count) {
+    return toStatus(writeVector(env, fd, buffers, offsets, lengths, count));
+}
+
+JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_read0__ILjava_nio_ByteBuffer_2II
+  (JNIEnv* env, jclass clazz, jint fd, jobject buffer, jint offset, jint length) {
+    return toStatus(readDirectBuffer(env, fd, buffer, offset, length));
+}
+
+JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_read0__I_3BII
+  (JNIEnv* env, jclass clazz, jint fd, jbyteArray array, jint offset, jint length) {
+    return toStatus(readByteArray(env, fd, array, offset, length));
+}
+
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_awaitReadable0
+  (JNIEnv* env, jclass clazz, jint fd, jint wakeupFd, jlong timeoutNanos) {
+    return TerminalDevice::awaitReadable(&fd, wakeupFd, timeoutNanos);
+}
+
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_available0
+  (JNIEnv* env, jclass clazz, jint fd) {
+    return TerminalDevice::available(&fd);
+}
+
+JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_transferTo0
+  (JNIEnv* env, jclass clazz, jint fd, jint outFd, jlong maxBytes) {
+    return toStatus(TerminalDevice::transferTo(&fd, outFd, maxBytes));
+}
+
 JNIEXPORT jlong JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_seek
   (JNIEnv* env, jobject object, jlong offset, jint whence) {
-    int fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    int fd = getPortDescriptor(env, object);
     return TerminalDevice::seek(&fd, offset, whence);
 }
 
 JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_setBaudRate
   (JNIEnv* env, jobject object, jint baudRate) {
-    int fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    int fd = getPortDescriptor(env, object);
     return TerminalDevice::setBaudRate(baudRate, &fd);
 }
 
 JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_getBaudRate
   (JNIEnv* env, jobject object) {
-    int fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    int fd = getPortDescriptor(env, object);
     return TerminalDevice::getBaudRate(&fd);
 }
 
 JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_initTerminal
   (JNIEnv* env, jobject object) {
-    int fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    int fd = getPortDescriptor(env, object);
     return TerminalDevice::initTermios(&fd);
 }
 
@@ -239,24 +495,45 @@ JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_open
 
     const char* buffer = JniUtils::getBufferFromString(env, string);
     int fd = TerminalDevice::openPort(buffer, flag);
-    jobject serialPortObject = JniUtils::getSerialPortFromTerminalDevice(env, &object);
-    JniUtils::setIntField(env, &serialPortObject, "portOpened", "I", 1);
-    JniUtils::setIntField(env, &serialPortObject, "fd", "I", fd);
-    JniUtils::setIntField(env, &serialPortObject, "ioFlag", "I", flag);
+    jobject serialPortObject = getSerialPort(env, object);
+    setIntField(env, serialPortObject, jniCache.portOpened, "portOpened", 1);
+    setIntField(env, serialPortObject, jniCache.fd, "fd", fd);
+    setIntField(env, serialPortObject, jniCache.ioFlag, "ioFlag", flag);
     env->ReleaseStringUTFChars(string, buffer);
 
     return fd;
 }
 
+JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_openPseudoTerminal
+  (JNIEnv* env, jobject object, jint flag, jbyteArray slaveName) {
+
+    char buffer[PTS_NAME_LENGTH];
+    int fd = TerminalDevice::openPseudoTerminal(flag, buffer, sizeof(buffer));
+    if (fd < 0) {
+        return fd;
+    }
+    jobject serialPortObject = getSerialPort(env, object);
+    setIntField(env, serialPortObject, jniCache.portOpened, "portOpened", 1);
+    setIntField(env, serialPortObject, jniCache.fd, "fd", fd);
+    setIntField(env, serialPortObject, jniCache.ioFlag, "ioFlag", flag);
+
+    /* copy the null-terminated slave path, truncated to the array length */
+    jsize length = env->GetArrayLength(slaveName);
+    jsize nameLength = (jsize) strnlen(buffer, sizeof(buffer));
+    env->SetByteArrayRegion(slaveName, 0, nameLength < length ? nameLength : length, (const jbyte*) buffer);
+
+    return fd;
+}
+
 JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_setModemBitsStatus
   (JNIEnv* env, jobject object, jint status) {
-    int fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    int fd = getPortDescriptor(env, object);
     return ModemController::setModemBitsStatus(fd, &status);
 }
 
 JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_getModemBitsStatus
   (JNIEnv* env, jobject object, jintArray pointer) {
-    int fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
+    int fd = getPortDescriptor(env, object);
     jint* elements = JniUtils::getIntArrayElements(env, &pointer);
     int state = ModemController::getModemBitsStatus(fd, elements);
     env->ReleaseIntArrayElements(pointer, elements, 0);
@@ -266,11 +543,11 @@ JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_getM
 JNIEXPORT jint JNICALL Java_com_serial4j_core_terminal_NativeTerminalDevice_closePort
   (JNIEnv* env, jobject object) {
     
-    jobject serialPortObject = JniUtils::getSerialPortFromTerminalDevice(env, &object);
-    int fd = JniUtils::getPortDescriptorFromSerialPort(env, &object);
-    JniUtils::setIntField(env, &serialPortObject, "portOpened", "I", 0);
-    JniUtils::setIntField(env, &serialPortObject, "fd", "I", 0);
-    JniUtils::setObjectField(env, &serialPortObject, "path", "Ljava/lang/String;", env->NewStringUTF(""));
+    jobject serialPortObject = getSerialPort(env, object);
+    int fd = getPortDescriptor(env, object);
+    setIntField(env, serialPortObject, jniCache.portOpened, "portOpened", 0);
+    setIntField(env, serialPortObject, jniCache.fd, "fd", 0);
+    setObjectField(env, serialPortObject, jniCache.path, "path", "Ljava/lang/String;", env->NewStringUTF(""));
 
     return TerminalDevice::closePort(&fd);
 }
@@ -0,0 +1,46 @@
+#include<EventPoll.h>
+
+int EventPoll::create() {
+    return epoll_create1(EPOLL_CLOEXEC);
+}
+
+int EventPoll::control(int epfd, int operation, int fd, int events) {
+    if (fd <= 0) {
+        return ERR_INVALID_PORT;
+    }
+    struct epoll_event event;
+    event.events = (uint32_t) events;
+    event.data.fd = fd;
+    return epoll_ctl(epfd, operation, fd, &event);
+}
+
+int EventPoll::wait(int epfd, int* fds, int* events, int capacity, int timeout) {
+    if (capacity > MAX_READY_EVENTS) {
+        capacity = MAX_READY_EVENTS;
+    }
+    struct epoll_event readyEvents[MAX_READY_EVENTS];
+    int count = epoll_wait(epfd, readyEvents, capacity, timeout);
+    for (int i = 0; i < count; i++) {
+        fds[i] = readyEvents[i].data.fd;
+        events[i] = (int) readyEvents[i].events;
+    }
+    return count;
+}
+
+int EventPoll::createWakeup() {
+    return eventfd(0, EFD_NONBLOCK | EFD_CLOEXEC);
+}
+
+int EventPoll::wakeup(int fd) {
+    uint64_t signal = 1;
+    return write(fd, &signal, sizeof(signal)) == sizeof(signal) ? OPERATION_SUCCEEDED : ERR_OPERATION_FAILED;
+}
+
+int EventPoll::drain(int fd) {
+    uint64_t signals;
+    return read(fd, &signals, sizeof(signals)) == sizeof(signals) ? OPERATION_SUCCEEDED : ERR_OPERATION_FAILED;
+}
+
+int EventPoll::close(int fd) {
+    return ::close(fd);
+}
@@ -12,6 +12,27 @@ int TerminalDevice::openPort(const char* port, int flag) {
     return open(port, flag);
 }
 
+int TerminalDevice::openPseudoTerminal(int flag, char* slaveName, size_t length) {
+    int fd = posix_openpt(flag);
+    if (fd < 0) {
+        return ERR_OPERATION_FAILED;
+    }
+    int error = 0;
+    if (grantpt(fd) < 0 || unlockpt(fd) < 0) {
+        error = errno;
+    } else {
+        /* ptsname_r(3) returns the error number instead of setting errno */
+        error = ptsname_r(fd, slaveName, length);
+    }
+    if (error != 0) {
+        /* retain the errno of the failed call across the close */
+        close(fd);
+        errno = error;
+        return ERR_OPERATION_FAILED;
+    }
+    return fd;
+}
+
 int TerminalDevice::fetchSerialPorts(AddressesBuffer* serialPorts) {
 
     DIR* dirp = opendir(DEVICES_DIR);
@@ -232,6 +253,13 @@ ssize_t TerminalDevice::writeData(const void* buffer, int length, int* fd) {
     return write(*fd, buffer, length);
 }
 
+ssize_t TerminalDevice::writeVector(const struct iovec* vector, int count, int* fd) {
+    if (*fd <= 0) {
+        return ERR_INVALID_PORT;
+    }
+    return writev(*fd, vector, count);
+}
+
 ssize_t TerminalDevice::readData(void* buffer, int length, int* fd) {
     if (*fd <= 0) {
         return ERR_INVALID_PORT;
@@ -239,6 +267,182 @@ ssize_t TerminalDevice::readData(void* buffer, int length, int* fd) {
     return read(*fd, buffer, length);
 }
 
+int TerminalDevice::awaitReadable(int* fd, int wakeupFd, int64_t timeoutNanos) {
+    if (*fd <= 0) {
+        return ERR_INVALID_PORT;
+    }
+    struct pollfd fds[2];
+    fds[0].fd = *fd;
+    fds[0].events = POLLIN;
+    fds[0].revents = 0;
+    fds[1].fd = wakeupFd;
+    fds[1].events = POLLIN;
+    fds[1].revents = 0;
+
+    /* a null timeout blocks indefinitely */
+    struct timespec timeout;
+    struct timespec* timeoutPointer = NULL;
+    if (timeoutNanos >= 0) {
+        timeout.tv_sec = timeoutNanos / 1000000000LL;
+        timeout.tv_nsec = timeoutNanos % 1000000000LL;
+        timeoutPointer = &timeout;
+    }
+
+    int count = ppoll(fds, wakeupFd >= 0 ? 2 : 1, timeoutPointer, NULL);
+    if (count <= 0) {
+        return count;
+    }
+    /* clear the wakeup signals */
+    if (fds[1].revents & POLLIN) {
+        uint64_t signals;
+        read(wakeupFd, &signals, sizeof(signals));
+    }
+    /* errors and hang ups are reported as readable to be surfaced by the next read */
+    return fds[0].revents != 0 ? 1 : 0;
+}
+
+int TerminalDevice::available(int* fd) {
+    if (*fd <= 0) {
+        return ERR_INVALID_PORT;
+    }
+    int count = 0;
+    if (ioctl(*fd, FIONREAD, &count) < 0) {
+        return ERR_OPERATION_FAILED;
+    }
+    return count;
+}
+
+/**
+ * Writes the whole buffer to a file descriptor, retrying the interrupted and the partial writes.
+ */
+static int writeFully(int outFd, const char* buffer, ssize_t length) {
+    while (length > 0) {
+        ssize_t written = write(outFd, buffer, length);
+        if (written < 0) {
+            if (errno == EINTR) {
+                continue;
+            }
+            return ERR_OPERATION_FAILED;
+        }
+        buffer += written;
+        length -= written;
+    }
+    return OPERATION_SUCCEEDED;
+}
+
+/**
+ * Drains the data held by a pipe to a file descriptor using a stack buffer.
+ */
+static int drainPipe(int pipeFd, int outFd, ssize_t length) {
+    char buffer[TRANSFER_CHUNK_SIZE];
+    while (length > 0) {
+        ssize_t count = read(pipeFd, buffer, length < TRANSFER_CHUNK_SIZE ? length : TRANSFER_CHUNK_SIZE);
+        if (count < 0 && errno == EINTR) {
+            continue;
+        }
+        if (count <= 0 || writeFully(outFd, buffer, count) < 0) {
+            return ERR_OPERATION_FAILED;
+        }
+        length -= count;
+    }
+    return OPERATION_SUCCEEDED;
+}
+
+/**
+ * Transfers the data using a native read and write loop on a stack buffer.
+ */
+static ssize_t copyTo(int fd, int outFd, ssize_t maxBytes, ssize_t total) {
+    char buffer[TRANSFER_CHUNK_SIZE];
+    while (total < maxBytes) {
+        ssize_t remaining = maxBytes - total;
+        ssize_t count = read(fd, buffer, remaining < TRANSFER_CHUNK_SIZE ? remaining : TRANSFER_CHUNK_SIZE);
+        if (count < 0) {
+            if (errno == EINTR) {
+                continue;
+            }
+            /* no more data is available on the non-blocking port */
+            if (errno == EAGAIN || total > 0) {
+                break;
+            }
+            return ERR_OPERATION_FAILED;
+        }
+        if (count == 0) {
+            break;
+        }
+        if (writeFully(outFd, buffer, count) < 0) {
+            return ERR_OPERATION_FAILED;
+        }
+        total += count;
+    }
+    return total;
+}
+
+ssize_t TerminalDevice::transferTo(int* fd, int outFd, ssize_t maxBytes) {
+    if (*fd <= 0) {
+        return ERR_INVALID_PORT;
+    }
+    int pipeFds[2];
+    if (pipe2(pipeFds, O_CLOEXEC) < 0) {
+        return copyTo(*fd, outFd, maxBytes, 0);
+    }
+    ssize_t total = 0;
+    bool spliceOut = true;
+    while (total < maxBytes) {
+        ssize_t remaining = maxBytes - total;
+        ssize_t count = splice(*fd, NULL, pipeFds[1], NULL,
+                               remaining < TRANSFER_PIPE_SIZE ? remaining : TRANSFER_PIPE_SIZE, SPLICE_F_MOVE);
+        if (count < 0) {
+            if (errno == EINTR) {
+                continue;
+            }
+            /* the terminal driver doesn't support splicing */
+            if (errno == EINVAL && total == 0) {
+                close(pipeFds[0]);
+                close(pipeFds[1]);
+                return copyTo(*fd, outFd, maxBytes, 0);
+            }
+            /* no more data is available on the non-blocking port */
+            if (errno == EAGAIN || total > 0) {
+                break;
+            }
+            close(pipeFds[0]);
+            close(pipeFds[1]);
+            return ERR_OPERATION_FAILED;
+        }
+        if (count == 0) {
+            break;
+        }
+        /* move the pipe contents to the destination before reading again */
+        ssize_t pending = count;
+        while (pending > 0 && spliceOut) {
+            ssize_t moved = splice(pipeFds[0], NULL, outFd, NULL, pending, SPLICE_F_MOVE);
+            if (moved < 0) {
+                if (errno == EINTR) {
+                    continue;
+                }
+                if (errno != EINVAL) {
+                    close(pipeFds[0]);
+                    close(pipeFds[1]);
+                    return ERR_OPERATION_FAILED;
+                }
+                /* the destination doesn't support splicing */
+                spliceOut = false;
+                break;
+            }
+            pending -= moved;
+        }
+        if (pending > 0 && drainPipe(pipeFds[0], outFd, pending) < 0) {
+            close(pipeFds[0]);
+            close(pipeFds[1]);
+            return ERR_OPERATION_FAILED;
+        }
+        total += count;
+    }
+    close(pipeFds[0]);
+    close(pipeFds[1]);
+    return total;
+}
+
 off_t TerminalDevice::seek(int* fd, off_t offset, int whence) {
     if (*fd <= 0) {
         return ERR_INVALID_PORT;
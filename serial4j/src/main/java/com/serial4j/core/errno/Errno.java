@@ -47,77 +47,105 @@ public enum Errno {
     /**
      * Signifies an invalid serial port in an attempt to initialize a non-serial device.
      */
-    ERR_INVALID_PORT(NativeErrno.getInvalidPortErrno(), new InvalidPortException("Invalid Port")),
+    ERR_INVALID_PORT(NativeErrno.getInvalidPortErrno(), "Invalid Port", InvalidPortException::new),
 
     /**
      * Signifies an operation failure.
      */
-    ERR_OPERATION_FAILED(NativeErrno.getOperationFailedErrno(), new OperationFailedException("Operation Failed")),
+    ERR_OPERATION_FAILED(NativeErrno.getOperationFailedErrno(), "Operation Failed", OperationFailedException::new),
 
     /**
      * Signifies an operation succession, has no associated throwable, ignored by ErrnoToException.
      */
-    OPERATION_SUCCEEDED(NativeErrno.getOperationSucceededCode(),null),
+    OPERATION_SUCCEEDED(NativeErrno.getOperationSucceededCode(), null, null),
 
     /**
      * Signifies that there are no available typewriter devices in an attempt to fetch available serial devices.
      */
-    ERR_NO_AVAILABLE_TTY_DEVICES(NativeErrno.getNoAvailableTtyDevicesErrno(), new NoAvailableTtyDevicesException("No available teletype devices")),
+    ERR_NO_AVAILABLE_TTY_DEVICES(NativeErrno.getNoAvailableTtyDevicesErrno(), "No available teletype devices", NoAvailableTtyDevicesException::new),
 
     /* Error codes for open(const char*, int), file names and IO. */
 
     /**
      * Signifies a permission denial error in an attempt to especially trying to write to a non-writable device.
      */
-    EACCES(NativeErrno.getPermissionDeniedErrno(), new PermissionDeniedException("Permission denied")),
-    EEXIST(NativeErrno.getFileAlreadyOpenedErrno(), new FileAlreadyOpenedException("File exists")),
-    EINTR(NativeErrno.getInterruptedSystemCallErrno(), new InterruptedSystemCallException("Interrupted system call")),
-    EISDIR(NativeErrno.getFileIsDirectoryErrno(), new FileIsDirectoryException("Is a directory")),
-    EMFILE(NativeErrno.getTooManyOpenedFilesErrno(), new TooManyOpenedFilesException("Too many open files")),
-    ENFILE(NativeErrno.getFileTableOverflowErrno(), new FileTableOverflowException("File table overflow")),
-    ENOENT(NativeErrno.getNoSuchFileErrno(), new NoSuchFileException("No Such file or directory")),
-    ENOSPC(NativeErrno.getNoSpaceLeftErrno(), new NoSpaceLeftException("No space left on device")),
-    ENXIO(NativeErrno.getNoSuchDeviceErrno(), new NoSuchDeviceException("No such device or address")),
-    EROFS(NativeErrno.getReadOnlyFileSystemErrno(), new ReadOnlyFileSystemException("Read-only file system")),
-    EPIPE(NativeErrno.getBrokenPipeErrno(), new BrokenPipeException("Broken pipe")),
-    ESPIPE(NativeErrno.getIllegalSeekErrno(), new IllegalSeekException("Illegal File Seeking operation")),
+    EACCES(NativeErrno.getPermissionDeniedErrno(), "Permission denied", PermissionDeniedException::new),
+    EEXIST(NativeErrno.getFileAlreadyOpenedErrno(), "File exists", FileAlreadyOpenedException::new),
+    EINTR(NativeErrno.getInterruptedSystemCallErrno(), "Interrupted system call", InterruptedSystemCallException::new),
+    EISDIR(NativeErrno.getFileIsDirectoryErrno(), "Is a directory", FileIsDirectoryException::new),
+    EMFILE(NativeErrno.getTooManyOpenedFilesErrno(), "Too many open files", TooManyOpenedFilesException::new),
+    ENFILE(NativeErrno.getFileTableOverflowErrno(), "File table overflow", FileTableOverflowException::new),
+    ENOENT(NativeErrno.getNoSuchFileErrno(), "No Such file or directory", NoSuchFileException::new),
+    ENOSPC(NativeErrno.getNoSpaceLeftErrno(), "No space left on device", NoSpaceLeftException::new),
+    ENXIO(NativeErrno.getNoSuchDeviceErrno(), "No such device or address", NoSuchDeviceException::new),
+    EROFS(NativeErrno.getReadOnlyFileSystemErrno(), "Read-only file system", ReadOnlyFileSystemException::new),
+    EPIPE(NativeErrno.getBrokenPipeErrno(), "Broken pipe", BrokenPipeException::new),
+    ESPIPE(NativeErrno.getIllegalSeekErrno(), "Illegal File Seeking operation", IllegalSeekException::new),
 
     /**
      * Error codes for tcgetattr(int, struct termios*) and tcsetattr(int, struct termios*).
      */
-    EBADFD(NativeErrno.getBadFileDescriptorErrno(), new BadFileDescriptorException("File descriptor in bad state")),
+    EBADFD(NativeErrno.getBadFileDescriptorErrno(), "File descriptor in bad state", BadFileDescriptorException::new),
 
-    EBADF(NativeErrno.getBadFileNumberErrno(), new BadFileNumberException("Bad file number")),
-    ENOTTY(NativeErrno.getNotTtyDeviceErrno(), new NotTtyDeviceException("Not a typewriter device")),
+    EBADF(NativeErrno.getBadFileNumberErrno(), "Bad file number", BadFileNumberException::new),
+    ENOTTY(NativeErrno.getNotTtyDeviceErrno(), "Not a typewriter device", NotTtyDeviceException::new),
 
     /**
      * tcsetattr(int, struct termios*) only.
      */
-    EINVAL(NativeErrno.getInvalidArgumentErrno(), new InvalidArgumentException("Invalid argument")),
+    EINVAL(NativeErrno.getInvalidArgumentErrno(), "Invalid argument", InvalidArgumentException::new),
 
     /**
      * Additional error codes for basic R/W from <fcntl.h>
      */
-    EAGAIN(NativeErrno.getTryAgainErrno(), new TryAgainException("Try again")),
-    EIO(NativeErrno.getInputOutputErrno(), new InputOutputException("I/O Error")),
+    EAGAIN(NativeErrno.getTryAgainErrno(), "Try again", TryAgainException::new),
+    EIO(NativeErrno.getInputOutputErrno(), "I/O Error", InputOutputException::new),
 
     /**
      * For write(int, void*, int); only.
      */
-    EFBIG(NativeErrno.getFileTooLargeErrno(), new FileTooLargeException("File too large"));
+    EFBIG(NativeErrno.getFileTooLargeErrno(), "File too large", FileTooLargeException::new);
+
+    /*
+     * A dense lookup table of the error codes indexed by their native values, built once
+     * after the native values are loaded, the values range from the API business errors (negative)
+     * to the largest errno.
+     */
+    private static final int MIN_VALUE;
+    private static final Errno[] VALUES_TABLE;
+
+    static {
+        int min = 0;
+        int max = 0;
+        for (Errno errno : values()) {
+            min = Math.min(min, errno.value);
+            max = Math.max(max, errno.value);
+        }
+        VALUES_TABLE = new Errno[max - min + 1];
+        for (Errno errno : values()) {
+            /* the first declared constant wins on duplicate native values */
+            if (VALUES_TABLE[errno.value - min] == null) {
+                VALUES_TABLE[errno.value - min] = errno;
+            }
+        }
+        MIN_VALUE = min;
+    }
 
     private final int value;
-    private final SerialThrowable associatedThrowable;
+    private final String description;
+    private final ThrowableFactory throwableFactory;
 
     /**
      * Creates an error code constant with a value and a description.
      * 
-     * @param value the errno value.
-     * @param associatedThrowable the associated throwable.
+     * @param value            the errno value.
+     * @param description      the description of the error, used as the message of the thrown exceptions.
+     * @param throwableFactory creates the associated throwable on each throw.
      */
-    Errno(final int value, final SerialThrowable associatedThrowable) {
+    Errno(final int value, final String description, final ThrowableFactory throwableFactory) {
         this.value = value;
-        this.associatedThrowable = associatedThrowable;
+        this.description = description;
+        this.throwableFactory = throwableFactory;
     }
 
     /**
@@ -130,12 +158,57 @@ public enum Errno {
     }
 
     /**
-     * Retrieves the pre-defined throwable object for this
-     * particular native errno value.
+     * Retrieves the description of this error code.
+     *
+     * @return the description of the error, or null for {@link Errno#OPERATION_SUCCEEDED}
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Creates a new throwable object for this particular native errno value,
+     * so the thrown exceptions carry the stack trace of their throwing thread.
+     *
+     * @param writableStackTrace false to create a cheap stackless throwable
+     * @return a new throwable object, or null for {@link Errno#OPERATION_SUCCEEDED}
+     */
+    public SerialThrowable newThrowable(final boolean writableStackTrace) {
+        if (throwableFactory == null) {
+            return null;
+        }
+        return throwableFactory.create(description, writableStackTrace);
+    }
+
+    /**
+     * Retrieves a throwable object for this particular native errno value.
      *
-     * @return a reference to the throwable object implementation
+     * @return a new throwable object, or null for {@link Errno#OPERATION_SUCCEEDED}
+     * @deprecated the throwable objects are no longer shared, use {@link Errno#newThrowable(boolean)}
      */
+    @Deprecated
     public SerialThrowable getAssociatedThrowable() {
-        return associatedThrowable;
+        return newThrowable(true);
+    }
+
+    /**
+     * Retrieves the error code constant of a native errno value in constant time.
+     *
+     * @param value the native errno value
+     * @return the error code constant, or null if the value isn't interpretable
+     */
+    public static Errno fromValue(final int value) {
+        final int index = value - MIN_VALUE;
+        if (index < 0 || index >= VALUES_TABLE.length) {
+            return null;
+        }
+        return VALUES_TABLE[index];
+    }
+
+    /**
+     * Creates the throwable object of an error code.
+     */
+    private interface ThrowableFactory {
+        SerialThrowable create(String message, boolean writableStackTrace);
     }
 }
@@ -41,28 +41,58 @@ import com.serial4j.core.serial.throwable.SerialThrowable;
  * @author pavl_g.
  */
 public final class ErrnoToException {
-    
+
+    private static final int OPERATION_SUCCEEDED = Errno.OPERATION_SUCCEEDED.getValue();
+    private static final int TRY_AGAIN = Errno.EAGAIN.getValue();
+    private static final int INTERRUPTED = Errno.EINTR.getValue();
+
     private ErrnoToException() {
     }
 
     /**
-     * Throws a Java exception from a native errno.
+     * Throws a new Java exception from a native errno, the transient errors "EAGAIN" and "EINTR"
+     * are frequent on the polling paths and are thrown without a stack trace.
      * 
      * @param errno the native error code to which the exception will be thrown against.
      * @see SerialThrowable
+     * @see ErrnoToException#isTransient(int)
      */
     public static void throwFromErrno(final int errno) {
-        /* linearly matches the native errno with the pre-defined exceptions */
-        for (Errno errnoObj : Errno.class.getEnumConstants()) {
-            SerialThrowable throwable;
-            if (errnoObj.getValue() != errno) {
-                continue;
-            }
-            if ((throwable = errnoObj.getAssociatedThrowable()) == null) {
-                return;
-            }
-            throw throwable;
+        throwFromErrno(errno, !isTransient(errno));
+    }
+
+    /**
+     * Throws a new Java exception from a native errno.
+     *
+     * @param errno              the native error code to which the exception will be thrown against.
+     * @param writableStackTrace false to throw a cheap stackless exception
+     * @see SerialThrowable
+     */
+    public static void throwFromErrno(final int errno, final boolean writableStackTrace) {
+        /* the successful operations never enter the lookup */
+        if (errno == OPERATION_SUCCEEDED) {
+            return;
         }
-        throw new NotInterpretableErrnoError(errno);
+        /* matches the native errno with the pre-defined exceptions using the dense table */
+        final Errno errnoObj = Errno.fromValue(errno);
+        if (errnoObj == null) {
+            throw new NotInterpretableErrnoError(errno);
+        }
+        final SerialThrowable throwable = errnoObj.newThrowable(writableStackTrace);
+        if (throwable == null) {
+            return;
+        }
+        throw throwable;
+    }
+
+    /**
+     * Tests whether a native errno is a transient error, that is expected to go away on retrying
+     * the operation, "EAGAIN" and "EINTR".
+     *
+     * @param errno the native error code
+     * @return true if the error is transient, false otherwise
+     */
+    public static boolean isTransient(final int errno) {
+        return errno == TRY_AGAIN || errno == INTERRUPTED;
     }
 }
\ No newline at end of file
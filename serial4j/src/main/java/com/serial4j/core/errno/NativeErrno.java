@@ -32,6 +32,8 @@
 
 package com.serial4j.core.errno;
 
+import com.serial4j.util.loader.NativeImageLoader;
+
 /**
  * Provides the native error code that can be
  * utilized by the API.
@@ -41,7 +43,15 @@ package com.serial4j.core.errno;
  * @author pavl_g
  */
 public final class NativeErrno {
-    
+
+    /*
+     * Static initializer: Loads the native image when this object is referenced,
+     * the errno values are required before any native device is created.
+     */
+    static {
+        NativeImageLoader.loadSerial4jNatives();
+    }
+
     private NativeErrno() {
     }
 
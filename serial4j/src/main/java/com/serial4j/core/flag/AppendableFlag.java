@@ -33,11 +33,24 @@
 package com.serial4j.core.flag;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
 
 /**
  * The base class for appendable native flags.
  *
+ * <p>
+ * The flag is an integer bit mask, the descriptions of the appended flag constants are retained
+ * in a small array allocated on the first described constant, and are rendered only when
+ * requested by {@link AppendableFlag#getDescription()}; the constants without a description
+ * (e.g. the terminal flags) never allocate.
+ * </p>
+ *
+ * <p>
+ * Use {@link AppendableFlag#mask(FlagConst...)} to precompute the bit masks that are repeatedly
+ * applied, and pass them directly to the raw integer setters, e.g.
+ * {@link com.serial4j.core.terminal.TerminalDevice#setTerminalControlFlag(int)}.
+ * </p>
+ *
  * @author pavl_g
  */
 public class AppendableFlag implements FlagConst {
@@ -52,10 +65,12 @@ public class AppendableFlag implements FlagConst {
      */
     protected String description;
 
-    /**
-     * The appended flag constants.
+    /*
+     * The unique descriptions of the appended flag constants, and the rendered description cache.
      */
-    protected final ConcurrentHashMap<String, String> descriptions = new ConcurrentHashMap<>();
+    private String[] descriptions;
+    private int descriptionsCount;
+    private String renderedDescription;
 
     /**
      * Wraps a POSIX IO flag using an integer value.
@@ -73,7 +88,10 @@ public class AppendableFlag implements FlagConst {
      *
      * @param clazz the target class, must be an appendable flag
      * @return an abstract reference to the created instance
+     * @deprecated uses reflection, use the build() factory of the concrete flag instead, e.g.
+     * {@link com.serial4j.core.terminal.control.TerminalFlag#build()}
      */
+    @Deprecated
     public static AppendableFlag build(Class<? extends AppendableFlag> clazz) {
         try {
             return clazz.getDeclaredConstructor(int.class, String.class).newInstance(0, "");
@@ -82,6 +100,31 @@ public class AppendableFlag implements FlagConst {
         }
     }
 
+    /**
+     * Combines some flag constants into a primitive bit mask without creating a flag object.
+     *
+     * @param flags the flag constants to combine
+     * @return the bit mask of the combined flags
+     */
+    public static int mask(final FlagConst... flags) {
+        int mask = 0;
+        for (FlagConst flag : flags) {
+            mask |= flag.getValue();
+        }
+        return mask;
+    }
+
+    /**
+     * Clears the bits of some flag constants from a primitive bit mask.
+     *
+     * @param mask  the bit mask to clear the flags from
+     * @param flags the flag constants to clear
+     * @return the bit mask without the cleared flags
+     */
+    public static int clear(final int mask, final FlagConst... flags) {
+        return mask & ~mask(flags);
+    }
+
     /**
      * Appends a new flag constant to this flag.
      *
@@ -91,8 +134,15 @@ public class AppendableFlag implements FlagConst {
     public AppendableFlag append(final FlagConst flag) {
         /* append new values */
         this.value |= flag.getValue();
-        if (flag.getDescription() != null && descriptions.get(flag.getDescription()) == null) {
-            descriptions.put(flag.getDescription(), flag.getDescription());
+        final String flagDescription = flag.getDescription();
+        if (flagDescription != null && indexOfDescription(flagDescription) < 0) {
+            if (descriptions == null) {
+                descriptions = new String[4];
+            } else if (descriptionsCount == descriptions.length) {
+                descriptions = Arrays.copyOf(descriptions, descriptionsCount << 1);
+            }
+            descriptions[descriptionsCount++] = flagDescription;
+            renderedDescription = null;
         }
         return this;
     }
@@ -118,8 +168,12 @@ public class AppendableFlag implements FlagConst {
      */
     public AppendableFlag disable(FlagConst flag) {
         this.value &= ~flag.getValue();
-        if (flag.getDescription() != null) {
-            descriptions.remove(flag.getDescription());
+        final String flagDescription = flag.getDescription();
+        final int index;
+        if (flagDescription != null && (index = indexOfDescription(flagDescription)) >= 0) {
+            System.arraycopy(descriptions, index + 1, descriptions, index, descriptionsCount - index - 1);
+            descriptions[--descriptionsCount] = null;
+            renderedDescription = null;
         }
         return this;
     }
@@ -163,19 +217,17 @@ public class AppendableFlag implements FlagConst {
 
     @Override
     public String getDescription() {
-        final String[] description = new String[1];
-        final int[] tracker = new int[1];
-        description[0] = "";
-
-        descriptions.forEach((key, description1) -> {
-            ++tracker[0];
-
-            description[0] += description1;
-            if (tracker[0] < descriptions.values().size()) {
-                description[0] += " - ";
+        if (renderedDescription == null) {
+            final StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < descriptionsCount; i++) {
+                if (i > 0) {
+                    builder.append(" - ");
+                }
+                builder.append(descriptions[i]);
             }
-        });
-        return description[0];
+            renderedDescription = builder.toString();
+        }
+        return renderedDescription;
     }
 
     @Override
@@ -185,4 +237,13 @@ public class AppendableFlag implements FlagConst {
                 ", description='" + getDescription() + '\'' +
                 '}';
     }
+
+    private int indexOfDescription(final String flagDescription) {
+        for (int i = 0; i < descriptionsCount; i++) {
+            if (descriptions[i].equals(flagDescription)) {
+                return i;
+            }
+        }
+        return -1;
+    }
 }
@@ -38,6 +38,8 @@ import com.serial4j.core.terminal.FilePermissions;
 import com.serial4j.core.terminal.ReadConfiguration;
 import com.serial4j.core.terminal.TerminalDevice;
 import com.serial4j.core.terminal.control.BaudRate;
+import com.serial4j.util.concurrent.VirtualThreads;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Provides a standard implementation for a serial-based HID.
@@ -73,6 +75,16 @@ public abstract class StandardSerialDevice<E, D> extends HumanInterfaceDevice<E,
      */
     protected FilePermissions operativePermissions;
 
+    /**
+     * The maximum time the receive loop waits for the serial port to become readable, before
+     * re-testing the loop state.
+     */
+    protected long receiveAwaitTimeout = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private volatile boolean virtualThreadsEnabled;
+    private volatile boolean receiving;
+    private volatile Thread receiveThread;
+
     /**
      * Instantiates a serial-based human-interface-device (HID) with a terminal device to handle
      * terminal IO and line-speed operations, and a serial port to which this device is connected to.
@@ -101,8 +113,103 @@ public abstract class StandardSerialDevice<E, D> extends HumanInterfaceDevice<E,
         );
     }
 
+    /**
+     * Starts a receive loop dispatching {@link HumanInterfaceDevice#receive()} whenever the
+     * serial port becomes readable, on a virtual thread if the virtual threads are enabled.
+     *
+     * @throws IllegalStateException if the receive loop is already running
+     */
+    public synchronized void startReceiving() {
+        if (receiving) {
+            throw new IllegalStateException("Receive loop is already running!");
+        }
+        receiving = true;
+        final Runnable receiveLoop = () -> {
+            try {
+                while (receiving) {
+                    // park the loop until data arrives or the loop is stopped,
+                    // unless the data read ahead is not received yet
+                    final boolean readable = hasPendingInput() || (virtualThreadsEnabled
+                            ? terminalDevice.awaitReadableParking(receiveAwaitTimeout)
+                            : terminalDevice.awaitReadable(receiveAwaitTimeout));
+                    if (readable && receiving) {
+                        receive();
+                    }
+                }
+            } finally {
+                receiving = false;
+            }
+        };
+        final String name = getVendor() + "-receive";
+        receiveThread = virtualThreadsEnabled ? VirtualThreads.newThread(name, receiveLoop) : new Thread(receiveLoop, name);
+        receiveThread.start();
+    }
+
+    /**
+     * Tests whether this device holds data read ahead of the last received report, the receive
+     * loop dispatches {@link HumanInterfaceDevice#receive()} without awaiting the port for this data.
+     *
+     * @return true if the data read ahead is pending, default value is "false"
+     */
+    protected boolean hasPendingInput() {
+        return false;
+    }
+
+    /**
+     * Stops the receive loop, and waits for the pending receive operation to complete.
+     */
+    public void stopReceiving() {
+        final Thread thread = receiveThread;
+        if (!receiving || thread == null) {
+            return;
+        }
+        receiving = false;
+        terminalDevice.wakeup();
+        if (thread == Thread.currentThread()) {
+            return;
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Tests whether the receive loop is running.
+     *
+     * @return true if the receive loop is running, false otherwise
+     */
+    public boolean isReceiving() {
+        return receiving;
+    }
+
+    /**
+     * Tests whether the receive loop runs on a virtual thread.
+     *
+     * @return true if the virtual threads are enabled, default value is "false"
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    /**
+     * Runs the receive loop on a virtual thread awaiting the port using {@link TerminalDevice#awaitReadableParking(long)},
+     * so an idle device does not pin a carrier thread, this should be set before starting the receive loop.
+     *
+     * @param virtualThreadsEnabled true to run the receive loop on a virtual thread, false to run it on a platform thread
+     * @throws UnsupportedOperationException if the current runtime does not support the virtual threads
+     */
+    public void setVirtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+        if (virtualThreadsEnabled && !VirtualThreads.isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this runtime!");
+        }
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+    }
+
     @Override
     public void close() {
+        stopReceiving();
         terminalDevice.closePort();
         terminalDevice = null;
         serialPort = null;
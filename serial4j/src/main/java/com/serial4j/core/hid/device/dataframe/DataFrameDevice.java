@@ -35,8 +35,13 @@ package com.serial4j.core.hid.device.dataframe;
 import com.serial4j.core.hid.HumanInterfaceDevice;
 import com.serial4j.core.hid.StandardSerialDevice;
 import com.serial4j.core.hid.device.dataframe.registry.JoystickRegistry;
+import com.serial4j.core.serial.FrameDecoder;
+import com.serial4j.core.serial.FrameOverflowException;
 import com.serial4j.core.serial.SerialPort;
+import com.serial4j.core.serial.frame.DelimiterFrameDecoder;
 import com.serial4j.core.terminal.TerminalDevice;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * A shift-avr joystick serial interface device providing a data
@@ -48,7 +53,12 @@ import com.serial4j.core.terminal.TerminalDevice;
 public class DataFrameDevice<D> extends StandardSerialDevice<String, D> {
 
     /**
-     * A Global Input buffer for decoding operations.
+     * The number of bytes read from the terminal input queue in a single read operation.
+     */
+    private static final int INPUT_CHUNK_SIZE = 0x01 << 0x06;
+
+    /**
+     * A Global Input buffer holding the bytes read ahead of the decoded dataframe.
      *
      * <p>
      * <b>Global V.S. Local Buffers:</b> The use of global/heap buffer here
@@ -57,12 +67,19 @@ public class DataFrameDevice<D> extends StandardSerialDevice<String, D> {
      * available at the input queue buffer at the time of dispatching the read() operation,
      * rendering incomplete dataframe reports in case of using a local input buffer instead of the heap buffer.
      * On the contrary, utilizing a heap buffer enables the receiver software to accumulate data, whenever available,
-     * from the Data-Communication-Equipment device (DCE) data register before reaching a Line-Feed/Return-Carriage compound
-     * characters, after which the input buffer is flushed, and the decoder is dispatched, eventually dispatching the user code
-     * with the decoded data structure.
+     * from the Data-Communication-Equipment device (DCE) data register, the bytes are pushed into the {@link FrameDecoder}
+     * which accumulates them until a dataframe is completed, after which the decoder is dispatched, eventually dispatching
+     * the user code with the decoded data structure, the bytes following the dataframe are retained for the next report.
      * </p>
      */
-    protected final StringBuffer inputBuffer = new StringBuffer();
+    protected final byte[] inputBuffer = new byte[INPUT_CHUNK_SIZE];
+    private int inputPosition;
+    private int inputLimit;
+
+    /**
+     * The frame decoder splitting the received bytes into dataframe reports.
+     */
+    protected FrameDecoder frameDecoder;
 
     /**
      * Instantiates a serial shift-avr device that is capable of
@@ -75,6 +92,19 @@ public class DataFrameDevice<D> extends StandardSerialDevice<String, D> {
         super(terminalDevice, serialPort);
     }
 
+    /**
+     * Instantiates a serial device reading the dataframe reports using a frame decoder, e.g: a
+     * {@link com.serial4j.core.serial.frame.CobsFrameDecoder} for binary protocol devices.
+     *
+     * @param terminalDevice the associated terminal device
+     * @param serialPort     the serial port of the connected device
+     * @param frameDecoder   the frame decoder splitting the received bytes into dataframe reports
+     */
+    public DataFrameDevice(TerminalDevice terminalDevice, SerialPort serialPort, FrameDecoder frameDecoder) {
+        super(terminalDevice, serialPort);
+        this.frameDecoder = frameDecoder;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void init() {
@@ -82,32 +112,42 @@ public class DataFrameDevice<D> extends StandardSerialDevice<String, D> {
         decoder = (HumanInterfaceDevice.ReportDescriptor.Decoder<String, D>) new JoystickRegistry.Decoder();
         setDecoder(decoder);
         setReportDescriptor(new ReportDescriptor());
+        if (frameDecoder == null) {
+            // frames terminated by the report length byte, limited to 1024 (1 << 10 or 2^10) bytes
+            frameDecoder = new DelimiterFrameDecoder(new byte[]{(byte) reportDescriptor.getReportLength()},
+                    true, 0x01 << 0x0A);
+        }
     }
 
     @Override
     public void receive() {
-        // reads a frame terminated by LF-CR, Line feed - Carriage return ("\n\r")
+        // reads a frame completed by the frame decoder, by default
+        // a frame terminated by LF, Line feed ("\n"),
         // then finishes by dispatching the decoder implementation
         // after which the decoding listeners come into play
         // terminating the loop thereafter.
         // Note: as a part of loop control:
         // the loop self-terminates with an exception if the
-        // reading exceeds 1024 (1 << 10 or 2^10) bytes without dispatching the decoder
+        // frame exceeds the maximum frame length of the frame decoder
         super.decode(dataRegisterLength -> {
-            for (int chars = 0; getTerminalDevice().iread(dataRegisterLength) > 0; chars++) {
-                inputBuffer.append(getTerminalDevice().getBuffer());
-                if (inputBuffer.toString().endsWith(Character.toString(reportDescriptor.getReportLength()))) {
-                    final String data = inputBuffer.toString(); // create a new local pointer
-                    inputBuffer.delete(0, inputBuffer.length()); // flush the input buffer
-                    return data;
-                } else if (chars > (0x01 << 0x0A)) {
-                    throw new NotDataFrameDeviceException();
+            try {
+                while (inputPosition < inputLimit || fillInputBuffer()) {
+                    if (frameDecoder.push(inputBuffer[inputPosition++])) {
+                        return decodeFrame(frameDecoder.getFrame());
+                    }
                 }
+            } catch (FrameOverflowException e) {
+                throw new NotDataFrameDeviceException(e);
             }
             return null; // return null as of no value
         });
     }
 
+    @Override
+    protected boolean hasPendingInput() {
+        return inputPosition < inputLimit;
+    }
+
     @Override
     public void transmit(D decoded) {
         // sends the encoded values plus a '\n' for data framing
@@ -122,17 +162,62 @@ public class DataFrameDevice<D> extends StandardSerialDevice<String, D> {
 
     @Override
     public void close() {
-        inputBuffer.delete(0, inputBuffer.length()); // flush the input buffer
+        // flush the input buffer
+        inputPosition = 0;
+        inputLimit = 0;
+        if (frameDecoder != null) {
+            frameDecoder.reset();
+        }
         super.close(); // close the port and release resources
     }
 
     /**
-     * Retrieves the input buffer being in-use.
+     * Retrieves a snapshot of the input buffer holding the bytes read ahead of the decoded dataframe,
+     * the bytes are decoded as ISO-8859-1 characters; modifying the snapshot has no effect on this device.
      *
-     * @return the input buffer holding data frames
+     * @return a new string buffer holding the unconsumed bytes of the input buffer
+     * @deprecated the input buffer is a byte array consumed by the {@link FrameDecoder}, the partial dataframe
+     * is accumulated by the decoder, use {@link DataFrameDevice#getFrameDecoder()} instead.
      */
+    @Deprecated
     public final StringBuffer getInputBuffer() {
-        return inputBuffer;
+        return new StringBuffer(new String(inputBuffer, inputPosition, inputLimit - inputPosition,
+                StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Retrieves the frame decoder being in-use.
+     *
+     * @return the frame decoder splitting the dataframe reports
+     */
+    public final FrameDecoder getFrameDecoder() {
+        return frameDecoder;
+    }
+
+    /**
+     * Sets the frame decoder splitting the received bytes into dataframe reports.
+     *
+     * @param frameDecoder the new frame decoder
+     */
+    public void setFrameDecoder(FrameDecoder frameDecoder) {
+        this.frameDecoder = frameDecoder;
+    }
+
+    private boolean fillInputBuffer() {
+        final long bytes = getTerminalDevice().read(inputBuffer, 0, inputBuffer.length);
+        inputPosition = 0;
+        inputLimit = (int) Math.max(0, bytes);
+        return inputLimit > 0;
+    }
+
+    private static String decodeFrame(final ByteBuffer frame) {
+        if (frame.hasArray()) {
+            return new String(frame.array(), frame.arrayOffset() + frame.position(),
+                    frame.remaining(), StandardCharsets.ISO_8859_1);
+        }
+        final byte[] data = new byte[frame.remaining()];
+        frame.duplicate().get(data);
+        return new String(data, StandardCharsets.ISO_8859_1);
     }
 
     /**
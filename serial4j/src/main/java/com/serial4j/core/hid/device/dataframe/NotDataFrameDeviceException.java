@@ -46,4 +46,14 @@ public class NotDataFrameDeviceException extends RuntimeException {
     public NotDataFrameDeviceException() {
         super("Not a Joystick device, check the vendor sheet with the standard dataframe serial HID report descriptors!");
     }
+
+    /**
+     * Thrown to indicate a non-standard joystick device, with the cause of the
+     * violation of the local device report descriptors.
+     *
+     * @param cause the cause of the violation, e.g: an oversized dataframe
+     */
+    public NotDataFrameDeviceException(final Throwable cause) {
+        super("Not a Joystick device, check the vendor sheet with the standard dataframe serial HID report descriptors!", cause);
+    }
 }
\ No newline at end of file
@@ -47,7 +47,7 @@ public class GpioModule extends AppendableFlag {
     }
 
     public static GpioModule build() {
-        return (GpioModule) AppendableFlag.build(GpioModule.class);
+        return new GpioModule(0, "");
     }
 
     public record Pin(int value) implements FlagConst {
@@ -59,7 +59,7 @@ public final class ModemControllerFlag extends AppendableFlag {
      * @return a new instance
      */
     public static ModemControllerFlag build() {
-        return (ModemControllerFlag) AppendableFlag.build(ModemControllerFlag.class);
+        return new ModemControllerFlag(0, "");
     }
 
     /**
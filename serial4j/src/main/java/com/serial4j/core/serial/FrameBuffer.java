@@ -0,0 +1,159 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.serial4j.core.serial;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A reusable growable byte buffer assembling the serial data frames.
+ *
+ * <p>
+ * The serial data is appended to the backing array after the buffered data, and the
+ * complete frames are handed over as {@link ByteBuffer} views over the backing array
+ * without copying.
+ * </p>
+ *
+ * @author pavl_g
+ */
+public final class FrameBuffer {
+
+    private byte[] data;
+    private int length;
+    private ByteBuffer view;
+
+    /**
+     * Instantiates a frame buffer with an initial capacity.
+     *
+     * @param initialCapacity the initial capacity in bytes
+     */
+    public FrameBuffer(final int initialCapacity) {
+        this.data = new byte[Math.max(1, initialCapacity)];
+        this.view = ByteBuffer.wrap(data);
+    }
+
+    /**
+     * Grows the backing array, if needed, to hold an additional number of bytes after the buffered data.
+     *
+     * @param additional the number of the additional bytes
+     */
+    public void ensureWritable(final int additional) {
+        final int required = length + additional;
+        if (required <= data.length) {
+            return;
+        }
+        final byte[] grown = new byte[Math.max(required, data.length << 1)];
+        System.arraycopy(data, 0, grown, 0, length);
+        data = grown;
+        view = ByteBuffer.wrap(data);
+    }
+
+    /**
+     * Appends a byte to the buffered data.
+     *
+     * @param value the byte to append
+     */
+    public void append(final byte value) {
+        ensureWritable(1);
+        data[length++] = value;
+    }
+
+    /**
+     * Appends the remaining bytes of a buffer to the buffered data, the position of the source is not changed.
+     *
+     * @param source the buffer holding the bytes to append
+     */
+    public void append(final ByteBuffer source) {
+        final int count = source.remaining();
+        ensureWritable(count);
+        if (source.hasArray()) {
+            System.arraycopy(source.array(), source.arrayOffset() + source.position(), data, length, count);
+        } else {
+            source.duplicate().get(data, length, count);
+        }
+        length += count;
+    }
+
+    /**
+     * Tests whether a sequence of bytes ends at an index of the buffered data, and
+     * starts at or after a lower bound index.
+     *
+     * @param sequence the sequence of bytes to match, e.g: a frame delimiter
+     * @param end      the exclusive end index of the sequence in the buffered data
+     * @param from     the lower bound index of the sequence start
+     * @return true if the sequence is matched, false otherwise
+     */
+    public boolean endsWith(final byte[] sequence, final int end, final int from) {
+        final int start = end - sequence.length;
+        if (start < from || end > length) {
+            return false;
+        }
+        /* compare backwards, as the last byte is the likely mismatch */
+        for (int i = sequence.length - 1; i >= 0; i--) {
+            if (data[start + i] != sequence[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves a view over a region of the buffered data without copying, the view is
+     * reused by the subsequent calls, and is valid until the buffered data is modified.
+     *
+     * @param from the start index of the region
+     * @param to   the exclusive end index of the region
+     * @return a byte buffer with the position and the limit set to the region
+     */
+    public ByteBuffer view(final int from, final int to) {
+        if (from < 0 || from > to || to > length) {
+            throw new IndexOutOfBoundsException("Region [" + from + ", " + to + ") out of bounds for length " + length);
+        }
+        view.limit(to).position(from);
+        return view;
+    }
+
+    /**
+     * Discards all the buffered data.
+     */
+    public void clear() {
+        length = 0;
+    }
+
+    /**
+     * Retrieves the number of the buffered bytes.
+     *
+     * @return the length of the buffered data
+     */
+    public int length() {
+        return length;
+    }
+}
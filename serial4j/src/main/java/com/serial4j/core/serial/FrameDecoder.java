@@ -0,0 +1,95 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.serial;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Provides a service provider interface for splitting the serial data stream into data frames.
+ *
+ * <p>
+ * The serial data is pushed into the decoder byte by byte, once a frame is completed the push
+ * operation returns true and the decoded frame is retrievable using {@link FrameDecoder#getFrame()}
+ * as a view over the decoder internal buffer without copying, the view is valid until the next push.
+ * </p>
+ *
+ * <p>
+ * Note: a frame decoder is stateful, and is not thread-safe, an instance should be used
+ * by a single receiver only.
+ * </p>
+ *
+ * @author pavl_g
+ * @see com.serial4j.core.serial.frame.DelimiterFrameDecoder
+ * @see com.serial4j.core.serial.frame.FixedLengthFrameDecoder
+ * @see com.serial4j.core.serial.frame.LengthPrefixedFrameDecoder
+ * @see com.serial4j.core.serial.frame.CobsFrameDecoder
+ * @see com.serial4j.core.serial.frame.SlipFrameDecoder
+ */
+public interface FrameDecoder {
+
+    /**
+     * The default maximum length of a data frame in bytes.
+     */
+    int DEFAULT_MAX_FRAME_LENGTH = 0x01 << 0x10;
+
+    /**
+     * Pushes a byte of the serial data into this decoder.
+     *
+     * @param value the received byte
+     * @return true if a data frame has been completed by this byte, false otherwise
+     * @throws FrameOverflowException if the frame exceeds the maximum frame length, the decoder is
+     *                                reset before throwing, and the delimited decoders discard the
+     *                                rest of the frame up to its boundary
+     */
+    boolean push(byte value);
+
+    /**
+     * Retrieves the last completed data frame.
+     *
+     * @return a byte buffer view with the position and the limit set to the frame data
+     * @throws IllegalStateException if no frame has been completed by the last push
+     */
+    ByteBuffer getFrame();
+
+    /**
+     * Discards the partially decoded frame, if any.
+     */
+    void reset();
+
+    /**
+     * Retrieves the maximum length of a data frame in bytes.
+     *
+     * @return the maximum frame length
+     */
+    int getMaxFrameLength();
+}
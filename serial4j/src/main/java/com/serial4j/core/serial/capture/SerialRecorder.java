@@ -0,0 +1,338 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.serial.capture;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Records the received and the transmitted serial data chunks into a binary capture log of
+ * memory-mapped segment files, a record is appended by copying the chunk into the mapped segment,
+ * so no system calls are involved on the recording path.
+ *
+ * <p>
+ * The capture log of a name is a sequence of segment files "name-000000.s4jcap", "name-000001.s4jcap", etc.
+ * in a directory; a new segment is mapped when the current one is full, and the segments of a previous
+ * capture with the same name are kept, the new segments are numbered after them.
+ * </p>
+ *
+ * <p>
+ * A segment starts with a header of {@link SerialRecorder#SEGMENT_HEADER_SIZE} bytes, holding the magic number,
+ * the format version, the wall-clock time of the segment creation in milliseconds, and the {@link System#nanoTime()}
+ * timestamp of the segment creation, followed by the records;
+ * each record has a fixed header of {@link SerialRecorder#RECORD_HEADER_SIZE} bytes in the little-endian order:
+ * </p>
+ * <ul>
+ * <li> The {@link System#nanoTime()} timestamp of the chunk (8 bytes). </li>
+ * <li> The direction, {@link SerialRecorder#DIRECTION_RECEIVED} or {@link SerialRecorder#DIRECTION_TRANSMITTED} (1 byte). </li>
+ * <li> Reserved (1 byte). </li>
+ * <li> The port id assigned by the user (2 bytes, unsigned). </li>
+ * <li> The length of the chunk (4 bytes), followed by the chunk data. </li>
+ * </ul>
+ * <p>
+ * A zero length terminates the records of a segment.
+ * </p>
+ *
+ * <p>
+ * The recorder is attached to a monitor using {@link com.serial4j.core.serial.monitor.SerialMonitor#setSerialRecorder(SerialRecorder, int)},
+ * or fed directly with the data read from or written to a {@link com.serial4j.core.terminal.TerminalDevice};
+ * the record methods are thread-safe.
+ * </p>
+ *
+ * @author pavl_g
+ * @see SerialReplayer
+ */
+public final class SerialRecorder implements Closeable {
+
+    /**
+     * The direction of the data received from a serial port.
+     */
+    public static final int DIRECTION_RECEIVED = 0;
+
+    /**
+     * The direction of the data transmitted to a serial port.
+     */
+    public static final int DIRECTION_TRANSMITTED = 1;
+
+    /**
+     * The default size of a segment file in bytes.
+     */
+    public static final long DEFAULT_SEGMENT_SIZE = 64L << 20;
+
+    static final int MAGIC = 0x434A_3453; /* "S4JC" in little-endian bytes */
+    static final short VERSION = 2;
+    static final int SEGMENT_HEADER_SIZE = 24;
+    static final int SEGMENT_TIME_OFFSET = 8;
+    static final int SEGMENT_TIMESTAMP_OFFSET = 16;
+    static final int RECORD_HEADER_SIZE = 16;
+    static final String SEGMENT_EXTENSION = ".s4jcap";
+    private static final long MIN_SEGMENT_SIZE = 4096;
+
+    private final Path directory;
+    private final String name;
+    private final long segmentSize;
+    private FileChannel segmentChannel;
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+    private long recordCount;
+    private boolean closed;
+
+    /**
+     * Instantiates a recorder with the default segment size.
+     *
+     * @param directory the directory holding the segment files
+     * @param name      the name of the capture log
+     * @throws IOException if the first segment has failed to be created
+     */
+    public SerialRecorder(final Path directory, final String name) throws IOException {
+        this(directory, name, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Instantiates a recorder.
+     *
+     * @param directory   the directory holding the segment files
+     * @param name        the name of the capture log
+     * @param segmentSize the size of a segment file in bytes, larger chunks are split across multiple records
+     * @throws IOException if the first segment has failed to be created
+     */
+    public SerialRecorder(final Path directory, final String name, final long segmentSize) throws IOException {
+        if (segmentSize < MIN_SEGMENT_SIZE || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must be in the range [" + MIN_SEGMENT_SIZE + ", "
+                    + Integer.MAX_VALUE + "]!");
+        }
+        this.directory = directory;
+        this.name = name;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        final List<Path> segments = listSegments(directory, name);
+        this.segmentIndex = segments.isEmpty() ? 0 : parseSegmentIndex(segments.get(segments.size() - 1), name) + 1;
+        mapSegment();
+    }
+
+    /**
+     * Records a chunk of data, the position of the chunk is left unchanged.
+     *
+     * @param portId    the id of the serial port in the range [0, 65535]
+     * @param direction {@link SerialRecorder#DIRECTION_RECEIVED} or {@link SerialRecorder#DIRECTION_TRANSMITTED}
+     * @param chunk     a buffer holding the data between its position and limit
+     * @throws IOException if a new segment has failed to be created
+     */
+    public synchronized void record(final int portId, final int direction, final ByteBuffer chunk) throws IOException {
+        checkRecord(portId, direction);
+        final long timestamp = System.nanoTime();
+        int position = chunk.position();
+        while (position < chunk.limit()) {
+            final int length = reserve(chunk.limit() - position);
+            putHeader(timestamp, portId, direction, length);
+            if (chunk.hasArray()) {
+                segment.put(chunk.array(), chunk.arrayOffset() + position, length);
+            } else {
+                segment.put(chunk.duplicate().limit(position + length).position(position));
+            }
+            position += length;
+            recordCount++;
+        }
+    }
+
+    /**
+     * Records a region of a byte array.
+     *
+     * @param portId    the id of the serial port in the range [0, 65535]
+     * @param direction {@link SerialRecorder#DIRECTION_RECEIVED} or {@link SerialRecorder#DIRECTION_TRANSMITTED}
+     * @param buffer    the array holding the data
+     * @param offset    the start position of the data in the array
+     * @param length    the number of bytes to record
+     * @throws IOException if a new segment has failed to be created
+     */
+    public synchronized void record(final int portId, final int direction, final byte[] buffer,
+                                    final int offset, final int length) throws IOException {
+        checkRecord(portId, direction);
+        final long timestamp = System.nanoTime();
+        int position = offset;
+        while (position < offset + length) {
+            final int recordLength = reserve(offset + length - position);
+            putHeader(timestamp, portId, direction, recordLength);
+            segment.put(buffer, position, recordLength);
+            position += recordLength;
+            recordCount++;
+        }
+    }
+
+    /**
+     * Forces the recorded data of the current segment to be written to the storage device.
+     */
+    public synchronized void flush() {
+        if (!closed) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Retrieves the number of the records appended by this recorder, a chunk larger than
+     * a segment is appended as multiple records.
+     *
+     * @return the number of the appended records
+     */
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Retrieves the directory holding the segment files.
+     *
+     * @return the capture log directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Retrieves the name of the capture log.
+     *
+     * @return the capture log name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Closes the current segment, and truncates it to the size of its records.
+     *
+     * @throws IOException if the segment has failed to be truncated
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        closeSegment();
+    }
+
+    /**
+     * Reserves a record in the current segment, and maps a new segment if the current one is full.
+     *
+     * @param length the remaining length of the chunk
+     * @return the length of the chunk data that fits in the reserved record
+     */
+    private int reserve(final int length) throws IOException {
+        if (closed) {
+            throw new IOException("Serial recorder is closed!");
+        }
+        /* a record must fit its header, at least a byte of data, and the terminating header */
+        if (segment.remaining() < 2 * RECORD_HEADER_SIZE + 1) {
+            closeSegment();
+            segmentIndex++;
+            mapSegment();
+        }
+        return Math.min(length, segment.remaining() - 2 * RECORD_HEADER_SIZE);
+    }
+
+    private void putHeader(final long timestamp, final int portId, final int direction, final int length) {
+        segment.putLong(timestamp)
+               .put((byte) direction)
+               .put((byte) 0)
+               .putShort((short) portId)
+               .putInt(length);
+    }
+
+    private void mapSegment() throws IOException {
+        final Path path = directory.resolve(segmentName(name, segmentIndex));
+        segmentChannel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segment.order(ByteOrder.LITTLE_ENDIAN);
+        segment.putInt(MAGIC)
+               .putShort(VERSION)
+               .putShort((short) 0)
+               .putLong(System.currentTimeMillis())
+               .putLong(System.nanoTime());
+    }
+
+    private void closeSegment() throws IOException {
+        /* the zeroed header after the last record terminates the segment */
+        final long size = Math.min(segmentSize, segment.position() + RECORD_HEADER_SIZE);
+        segment.force();
+        segmentChannel.truncate(size);
+        segmentChannel.close();
+    }
+
+    private static void checkRecord(final int portId, final int direction) {
+        if (portId < 0 || portId > 0xFFFF) {
+            throw new IllegalArgumentException("Port id must be in the range [0, 65535]!");
+        }
+        if (direction != DIRECTION_RECEIVED && direction != DIRECTION_TRANSMITTED) {
+            throw new IllegalArgumentException("Invalid direction " + direction);
+        }
+    }
+
+    static String segmentName(final String name, final int index) {
+        return String.format("%s-%06d%s", name, index, SEGMENT_EXTENSION);
+    }
+
+    static int parseSegmentIndex(final Path segment, final String name) {
+        final String fileName = segment.getFileName().toString();
+        return Integer.parseInt(fileName.substring(name.length() + 1, fileName.length() - SEGMENT_EXTENSION.length()));
+    }
+
+    /**
+     * Lists the segment files of a capture log in order, the files not named after the
+     * six-digit segment index are ignored.
+     */
+    static List<Path> listSegments(final Path directory, final String name) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        final String fileName = path.getFileName().toString();
+                        return fileName.startsWith(name + "-") && fileName.endsWith(SEGMENT_EXTENSION)
+                                && fileName.length() == name.length() + 7 + SEGMENT_EXTENSION.length()
+                                && fileName.chars()
+                                           .skip(name.length() + 1)
+                                           .limit(6)
+                                           .allMatch(character -> character >= '0' && character <= '9');
+                    })
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
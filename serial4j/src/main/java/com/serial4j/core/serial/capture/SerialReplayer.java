@@ -0,0 +1,298 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.serial.capture;
+
+import com.serial4j.core.serial.entity.impl.WritableCapsule;
+import com.serial4j.core.serial.monitor.SerialMonitor;
+import com.serial4j.core.terminal.TerminalDevice;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a capture log recorded by {@link SerialRecorder}, the segments are memory-mapped
+ * and the records are delivered as views over the mapped data.
+ *
+ * <p>
+ * The records are paced after their captured timestamps, divided by the replay speed,
+ * so a speed of (1) reproduces the original timing, (10) replays ten times faster, and
+ * (0) replays as fast as possible.
+ * </p>
+ *
+ * <p>
+ * The {@link System#nanoTime()} timestamps are comparable only within a recording session, so the
+ * timing is rebased on each segment: the records are paced relative to the creation timestamp of their
+ * segment, and a segment starts after the previous one by the difference of their creation timestamps,
+ * or by the difference of their wall-clock creation times if the segments belong to different sessions.
+ * </p>
+ *
+ * <p>
+ * The captured traffic can be fed back to a serial port, (e.g. the master side of a pseudo-terminal
+ * opened as a {@link TerminalDevice}) using {@link SerialReplayer#replay(TerminalDevice)}, or transmitted
+ * by a monitor, (e.g. a {@link com.serial4j.core.serial.monitor.VirtualMonitor}) using
+ * {@link SerialReplayer#replay(SerialMonitor)}.
+ * </p>
+ *
+ * @author pavl_g
+ * @see SerialRecorder
+ */
+public final class SerialReplayer {
+
+    /**
+     * The maximum disagreement between the wall-clock and the monotonic time of two segments of the same session.
+     */
+    private static final long SESSION_TOLERANCE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final Path directory;
+    private final String name;
+    private double speed = 1;
+    private int portId = -1;
+    private int direction = -1;
+
+    /**
+     * Instantiates a replayer of a capture log.
+     *
+     * @param directory the directory holding the segment files
+     * @param name      the name of the capture log
+     */
+    public SerialReplayer(final Path directory, final String name) {
+        this.directory = directory;
+        this.name = name;
+    }
+
+    /**
+     * Adjusts the replay speed.
+     *
+     * @param speed the replay speed relative to the original timing, (0) to replay as fast as possible
+     * @return this replayer instance for chained calls
+     */
+    public SerialReplayer setSpeed(final double speed) {
+        if (speed < 0 || Double.isNaN(speed)) {
+            throw new IllegalArgumentException("Replay speed must be non-negative!");
+        }
+        this.speed = speed;
+        return this;
+    }
+
+    /**
+     * Retrieves the replay speed.
+     *
+     * @return the replay speed relative to the original timing, (0) to replay as fast as possible
+     */
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Replays only the records of a serial port.
+     *
+     * @param portId the id of the serial port, or (-1) to replay the records of all the ports
+     * @return this replayer instance for chained calls
+     */
+    public SerialReplayer setPortId(final int portId) {
+        this.portId = portId;
+        return this;
+    }
+
+    /**
+     * Replays only the records of a direction.
+     *
+     * @param direction {@link SerialRecorder#DIRECTION_RECEIVED}, {@link SerialRecorder#DIRECTION_TRANSMITTED},
+     *                  or (-1) to replay the records of both directions
+     * @return this replayer instance for chained calls
+     */
+    public SerialReplayer setDirection(final int direction) {
+        this.direction = direction;
+        return this;
+    }
+
+    /**
+     * Replays the records to a handler on the calling thread, the replay stops when
+     * the calling thread is interrupted.
+     *
+     * @param handler the handler receiving the records
+     * @return the number of the replayed records
+     * @throws IOException if a segment has failed to be read, or the handler has failed
+     */
+    public long replay(final RecordHandler handler) throws IOException {
+        final List<Path> segments = SerialRecorder.listSegments(directory, name);
+        long replayed = 0;
+        long baseTime = 0;
+        long startTime = 0;
+        /* the replay time of the segment start in nanoseconds, and the creation times of the previous segment */
+        long segmentStart = 0;
+        long previousTime = Long.MIN_VALUE;
+        long previousTimestamp = 0;
+        for (final Path path : segments) {
+            final MappedByteBuffer segment;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            segment.order(ByteOrder.LITTLE_ENDIAN);
+            if (segment.remaining() < SerialRecorder.SEGMENT_HEADER_SIZE
+                    || segment.getInt() != SerialRecorder.MAGIC || segment.getShort() != SerialRecorder.VERSION) {
+                throw new IOException("Not a serial capture segment: " + path);
+            }
+            final long segmentTime = segment.getLong(SerialRecorder.SEGMENT_TIME_OFFSET);
+            final long segmentTimestamp = segment.getLong(SerialRecorder.SEGMENT_TIMESTAMP_OFFSET);
+            if (previousTime != Long.MIN_VALUE) {
+                segmentStart += getSegmentGap(segmentTime - previousTime, segmentTimestamp - previousTimestamp);
+            }
+            previousTime = segmentTime;
+            previousTimestamp = segmentTimestamp;
+            segment.position(SerialRecorder.SEGMENT_HEADER_SIZE);
+            while (segment.remaining() >= SerialRecorder.RECORD_HEADER_SIZE) {
+                final long timestamp = segment.getLong();
+                final int recordDirection = segment.get();
+                segment.get();
+                final int recordPortId = segment.getShort() & 0xFFFF;
+                final int length = segment.getInt();
+                if (length <= 0 || length > segment.remaining()) {
+                    break;
+                }
+                final int end = segment.position() + length;
+                final long replayTime = segmentStart + (timestamp - segmentTimestamp);
+                if ((portId < 0 || portId == recordPortId) && (direction < 0 || direction == recordDirection)) {
+                    if (replayed == 0) {
+                        baseTime = replayTime;
+                        startTime = System.nanoTime();
+                    } else if (!await(startTime, replayTime - baseTime)) {
+                        return replayed;
+                    }
+                    segment.limit(end);
+                    handler.onRecord(timestamp, recordDirection, recordPortId, segment);
+                    segment.limit(segment.capacity());
+                    replayed++;
+                }
+                segment.position(end);
+            }
+        }
+        return replayed;
+    }
+
+    /**
+     * Writes the replayed records to a terminal device.
+     *
+     * @param terminalDevice an opened terminal device
+     * @return the number of the replayed records
+     * @throws IOException if a segment has failed to be read
+     */
+    public long replay(final TerminalDevice terminalDevice) throws IOException {
+        return replay((timestamp, recordDirection, recordPortId, data) -> {
+            while (data.hasRemaining()) {
+                terminalDevice.write(data);
+            }
+        });
+    }
+
+    /**
+     * Transmits the replayed records by the write entity of a started monitor, each record
+     * is queued as a writable capsule.
+     *
+     * @param serialMonitor a started serial monitor
+     * @return the number of the replayed records
+     * @throws IOException if a segment has failed to be read
+     */
+    public long replay(final SerialMonitor serialMonitor) throws IOException {
+        return replay((timestamp, recordDirection, recordPortId, record) -> {
+            final byte[] data = new byte[record.remaining()];
+            record.get(data);
+            /* the capsule characters carry the bytes in their lower 8-bits */
+            final WritableCapsule capsule = new WritableCapsule();
+            capsule.write(new String(data, StandardCharsets.ISO_8859_1));
+            serialMonitor.getSerialWriteEntity().addWritableCapsule(capsule);
+        });
+    }
+
+    /**
+     * Retrieves the time between the creation of two consecutive segments, the monotonic timestamps are used
+     * if they agree with the wall-clock times, i.e: the segments have been recorded in the same session.
+     *
+     * @param timeGap      the difference of the wall-clock creation times in milliseconds
+     * @param timestampGap the difference of the {@link System#nanoTime()} creation timestamps
+     * @return the time between the segments in nanoseconds
+     */
+    private static long getSegmentGap(final long timeGap, final long timestampGap) {
+        final long wallClockGap = TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeGap));
+        if (timestampGap >= 0 && Math.abs(timestampGap - wallClockGap) <= SESSION_TOLERANCE_NANOS) {
+            return timestampGap;
+        }
+        return wallClockGap;
+    }
+
+    /**
+     * Waits until the replay time of a record.
+     *
+     * @return false if the calling thread has been interrupted, true otherwise
+     */
+    private boolean await(final long startTime, final long elapsedCapture) {
+        if (speed == 0) {
+            return !Thread.currentThread().isInterrupted();
+        }
+        final long deadline = startTime + (long) (elapsedCapture / speed);
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+        }
+        return !Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Receives the replayed records.
+     */
+    @FunctionalInterface
+    public interface RecordHandler {
+
+        /**
+         * Dispatched when a record is replayed.
+         *
+         * @param timestamp the captured {@link System#nanoTime()} timestamp of the record
+         * @param direction {@link SerialRecorder#DIRECTION_RECEIVED} or {@link SerialRecorder#DIRECTION_TRANSMITTED}
+         * @param portId    the id of the serial port
+         * @param data      a view over the mapped record data between its position and limit, valid only during the dispatch
+         * @throws IOException if the record has failed to be handled
+         */
+        void onRecord(final long timestamp, final int direction, final int portId, final ByteBuffer data) throws IOException;
+    }
+}
@@ -34,6 +34,7 @@ package com.serial4j.core.serial.entity;
 import com.serial4j.core.terminal.TerminalDevice;
 import com.serial4j.core.serial.monitor.SerialDataListener;
 import com.serial4j.core.serial.monitor.SerialMonitor;
+import com.serial4j.util.metrics.SerialMetrics;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 import java.util.logging.Level;
@@ -98,7 +99,10 @@ public abstract class SerialMonitorEntity implements Runnable {
      */
     protected void terminate() {
         try {
-            getEntityStream().close();
+            /* the port might be closed by the sibling entity */
+            if (getTerminalDevice().getSerialPort().isPortOpened()) {
+                getEntityStream().close();
+            }
             hasLoggedMonitor = false;
             entityLogger.log(Level.WARNING, "Terminated data monitoring for " + entityName + " thread " + Thread.currentThread());
         } catch (IOException e) {
@@ -172,6 +176,16 @@ public abstract class SerialMonitorEntity implements Runnable {
         return getSerialMonitor().getTerminalDevice();
     }
 
+    /**
+     * Retrieves the metrics of the terminal device used for creating the communication.
+     *
+     * @return the metrics of the serial port, or null if the metrics are disabled
+     * @see SerialMetrics#ENABLED
+     */
+    protected SerialMetrics getSerialMetrics() {
+        return getTerminalDevice().getSerialMetrics();
+    }
+
     /**
      * Retrieves the serial data listener.
      *
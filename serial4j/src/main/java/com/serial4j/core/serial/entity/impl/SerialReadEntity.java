@@ -32,14 +32,21 @@
 
 package com.serial4j.core.serial.entity.impl;
 
+import com.serial4j.core.serial.FrameDecoder;
+import com.serial4j.core.serial.FrameOverflowException;
+import com.serial4j.core.serial.capture.SerialRecorder;
 import com.serial4j.core.serial.entity.EntityStatus;
 import com.serial4j.core.serial.entity.SerialMonitorEntity;
+import com.serial4j.core.serial.monitor.BulkSerialDataListener;
+import com.serial4j.core.serial.monitor.SerialDataListener;
 import com.serial4j.core.serial.monitor.SerialMonitor;
 import com.serial4j.core.serial.monitor.SerialMonitorException;
+import com.serial4j.core.serial.monitor.SerialPipeline;
 import com.serial4j.core.terminal.FilePermissions;
-import com.serial4j.core.terminal.NativeBufferInputStream;
 import com.serial4j.core.terminal.control.BaudRate;
+import com.serial4j.util.metrics.SerialMetrics;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Represents a Read entity for the {@link SerialMonitor}.
@@ -51,7 +58,13 @@ import java.io.InputStream;
  */
 public class SerialReadEntity extends SerialMonitorEntity {
 
-    private StringBuffer stringBuffer = new StringBuffer();
+    /**
+     * The maximum number of bytes read from the serial port in a single dispatch.
+     */
+    private static final int READ_CHUNK_SIZE = 4096;
+
+    private final byte[] chunk = new byte[READ_CHUNK_SIZE];
+    private final ByteBuffer chunkView = ByteBuffer.wrap(chunk);
 
     /**
      * Defines a read entity instance to read serial data from UART.
@@ -92,28 +105,27 @@ public class SerialReadEntity extends SerialMonitorEntity {
             getSerialEntityStatusListener().onUpdate(this);
         }
 
-        final NativeBufferInputStream nbis = (NativeBufferInputStream) getEntityStream();
-
-        /* execute serial data tasks */
-        if (getSerialDataListener() != null) {
+        /* execute serial data tasks, unless the consumers have suspended the reads */
+        if (getSerialDataListener() != null && !getSerialMonitor().isReadSuspended()) {
             try {
-                while (getEntityStream().read() > 0) {
-                    /* send characters serially */
-                    getSerialDataListener().onDataReceived(nbis.getBuffer()[0]);
-
-                    /* get a string buffer from a data frame */
-                    stringBuffer.append(nbis.getBuffer());
-
-                    /* send data frames separated by [\n\r] the return carriage/newline */
-                    if (!isProcessLinefeedCarriageReturn()) {
-                        continue;
-                    }
-
-                    /* LF/CR */
-                    if (stringBuffer.toString().endsWith("\n\r")) {
-                        getSerialDataListener().onDataReceived(stringBuffer.toString());
-                        stringBuffer = new StringBuffer();
-                        break;
+                final SerialPipeline serialPipeline = getSerialMonitor().getSerialPipeline();
+                if (serialPipeline != null) {
+                    /* only drain the port, the pipeline decodes and dispatches the data */
+                    serialPipeline.drain(getEntityStream());
+                } else {
+                    int count;
+                    /* read the available data in chunks, and stop after the first chunk completing a frame;
+                       the stream read blocks on an empty input queue, so it is guarded by the available bytes */
+                    while (getEntityStream().available() > 0
+                            && (count = getEntityStream().read(chunk, 0, READ_CHUNK_SIZE)) > 0) {
+                        final SerialRecorder serialRecorder = getSerialMonitor().getSerialRecorder();
+                        if (serialRecorder != null) {
+                            serialRecorder.record(getSerialMonitor().getRecorderPortId(),
+                                    SerialRecorder.DIRECTION_RECEIVED, chunk, 0, count);
+                        }
+                        if (dispatchChunk(count)) {
+                            break;
+                        }
                     }
                 }
             } catch (Exception e) {
@@ -128,6 +140,69 @@ public class SerialReadEntity extends SerialMonitorEntity {
         }
     }
 
+    /**
+     * Dispatches the bytes of a chunk, and the data frames completed by the monitor frame decoder.
+     *
+     * @param count the number of the read bytes in the chunk
+     * @return true if at least a data frame has been dispatched, false otherwise
+     */
+    private boolean dispatchChunk(final int count) {
+        if (!SerialMetrics.ENABLED) {
+            return dispatchChunk0(count) > 0;
+        }
+        final long start = System.nanoTime();
+        final int frames = dispatchChunk0(count);
+        final SerialMetrics serialMetrics = getSerialMetrics();
+        if (serialMetrics != null) {
+            serialMetrics.onDispatch(System.nanoTime() - start, frames);
+        }
+        return frames > 0;
+    }
+
+    /**
+     * Dispatches the bytes of a chunk, and the data frames completed by the monitor frame decoder.
+     *
+     * @param count the number of the read bytes in the chunk
+     * @return the number of the dispatched data frames
+     */
+    private int dispatchChunk0(final int count) {
+        final SerialDataListener serialDataListener = getSerialDataListener();
+        final boolean perByte = !(serialDataListener instanceof BulkSerialDataListener);
+        if (!perByte) {
+            /* send the whole chunk in a single dispatch */
+            chunkView.limit(count).position(0);
+            ((BulkSerialDataListener) serialDataListener).onDataReceived(chunkView);
+        }
+        final boolean processFrames = isProcessLinefeedCarriageReturn();
+        if (!perByte && !processFrames) {
+            return 0;
+        }
+        final FrameDecoder frameDecoder = getSerialMonitor().getFrameDecoder();
+        int frames = 0;
+        for (int i = 0; i < count; i++) {
+            /* send characters serially to the legacy listeners */
+            if (perByte) {
+                serialDataListener.onDataReceived(chunk[i] & 0xFF);
+            }
+
+            if (!processFrames) {
+                continue;
+            }
+            try {
+                if (frameDecoder.push(chunk[i])) {
+                    serialDataListener.onFrameReceived(frameDecoder.getFrame());
+                    frames++;
+                }
+            } catch (FrameOverflowException e) {
+                /* the decoder has discarded the oversized frame, resume with the next byte */
+                if (getSerialEntityStatusListener() != null) {
+                    getSerialEntityStatusListener().onExceptionThrown(e);
+                }
+            }
+        }
+        return frames;
+    }
+
     @Override
     protected InputStream getEntityStream() {
         return getSerialMonitor().getReadEntityStream();
@@ -31,15 +31,19 @@
  */
 package com.serial4j.core.serial.entity.impl;
 
+import com.serial4j.core.serial.capture.SerialRecorder;
 import com.serial4j.core.serial.entity.EntityStatus;
 import com.serial4j.core.serial.entity.SerialMonitorEntity;
+import com.serial4j.core.serial.monitor.BulkSerialDataListener;
 import com.serial4j.core.serial.monitor.SerialMonitor;
 import com.serial4j.core.serial.monitor.SerialMonitorException;
 import com.serial4j.core.terminal.FilePermissions;
 import com.serial4j.core.terminal.control.BaudRate;
-import java.io.IOException;
+import com.serial4j.util.concurrent.BackpressurePolicy;
+import com.serial4j.util.concurrent.MpscRingBuffer;
+import com.serial4j.util.metrics.SerialMetrics;
 import java.io.OutputStream;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
 
 /**
  * Represents a serial write data entity for the {@link SerialMonitor}.
@@ -51,10 +55,29 @@ import java.util.ArrayList;
  */
 public class SerialWriteEntity extends SerialMonitorEntity {
 
-    private final ArrayList<WritableCapsule> writableCapsules = new ArrayList<>();
+    private final MpscRingBuffer<WritableCapsule> writableCapsules;
+    /**
+     * Coalesces the data of the drained capsules to be flushed using a single native write.
+     */
+    private final ByteBuffer batch;
+    /**
+     * The capsule being drained, a capsule longer than a batch spans multiple batches; this is
+     * read by the reactor threads re-arming the writable events.
+     */
+    private volatile WritableCapsule partialCapsule;
+    private int partialCapsuleOffset;
+    private long batchStartTime;
 
+    /**
+     * Defines a write entity instance to write serial data to UART, the writable capsules are queued
+     * in a bounded buffer with the capacity of {@link SerialMonitor#getWriteQueueCapacity()}.
+     *
+     * @param serialMonitor the head serial monitor object.
+     */
     public SerialWriteEntity(final SerialMonitor serialMonitor) {
         super(serialMonitor, SerialWriteEntity.class.getName());
+        this.writableCapsules = new MpscRingBuffer<>(serialMonitor.getWriteQueueCapacity());
+        this.batch = ByteBuffer.allocateDirect(serialMonitor.getMaxWriteBatchSize());
     }
 
     @Override
@@ -66,6 +89,10 @@ public class SerialWriteEntity extends SerialMonitorEntity {
 
         /* sanity check [terminate] flag */
         if (isTerminate()) {
+            /* flush the lingering batch before closing the port */
+            if (batch.position() > 0 && getTerminalDevice().getSerialPort().isPortOpened()) {
+                flushBatch();
+            }
             terminate();
             if (getSerialEntityStatusListener() != null) {
                 getSerialEntityStatusListener().onSerialEntityTerminated(this);
@@ -90,24 +117,13 @@ public class SerialWriteEntity extends SerialMonitorEntity {
             getSerialEntityStatusListener().onUpdate(this);
         }
 
-        /* write required data  */
-        for (WritableCapsule capsule : writableCapsules) {
-            /* skip capsules with written data */
-            if (capsule.isDataWritten()) {
-                continue;
-            }
-            /* send capsule data to the UART */
-            final String data = capsule.getData();
-            for (int i = 0; i < data.length(); i++) {
-                send(data.charAt(i));
-                if (getSerialDataListener() == null) {
-                    continue;
-                }
-                getSerialDataListener().onDataTransmitted(data.charAt(i));
-            }
-            capsule.setDataWritten(true);
-        }
+        /* coalesce the pending capsules into a batch, a full batch is flushed immediately */
+        drainCapsules();
 
+        /* flush the remaining batch if the flush interval has elapsed */
+        if (batch.position() > 0 && getFlushDelay() == 0) {
+            flushBatch();
+        }
     }
 
     @Override
@@ -131,11 +147,11 @@ public class SerialWriteEntity extends SerialMonitorEntity {
     }
 
     /**
-     * Gets the Serial writable Capsules holding the writable data.
+     * Gets the bounded buffer queuing the writable capsules that are not written yet.
      *
-     * @return an array list of the writable capsules.
+     * @return the buffer of the pending writable capsules.
      */
-    public ArrayList<WritableCapsule> getSerialWriteCapsules() {
+    public MpscRingBuffer<WritableCapsule> getSerialWriteCapsules() {
         return writableCapsules;
     }
 
@@ -143,39 +159,166 @@ public class SerialWriteEntity extends SerialMonitorEntity {
      * Adds a new writable capsule, the data will be extracted during the
      * next update run.
      *
+     * <p>
+     * Note: the capsules are single-use, a capsule is marked by {@link WritableCapsule#isDataWritten()}
+     * once written or removed, and re-adding it is skipped silently; use {@link WritableCapsule#clone()}
+     * to write the same data again.
+     * </p>
+     *
+     * <p>
+     * If the write queue is full, the {@link SerialMonitor#getWriteBackpressurePolicy()} is applied;
+     * note: the {@link BackpressurePolicy#BLOCK} policy must not be used when adding capsules from the
+     * write entity callbacks, as they are dispatched by the thread that drains the queue.
+     * </p>
+     *
      * @param writableCapsule a new {@link WritableCapsule} to add.
+     * @return true if the capsule is queued, false if it is dropped.
+     * @throws IllegalStateException if the queue is full and the policy is {@link BackpressurePolicy#FAIL}.
      */
-    public synchronized void addWritableCapsule(final WritableCapsule writableCapsule) {
-        if (writableCapsules.contains(writableCapsule)) {
-            return;
+    public boolean addWritableCapsule(final WritableCapsule writableCapsule) {
+        if (!writableCapsules.offer(writableCapsule, getSerialMonitor().getWriteBackpressurePolicy())) {
+            return false;
+        }
+        /* re-arm the reactor for the writable events, or wake up the monitor thread */
+        if (getSerialMonitor().getSerialReactor() != null) {
+            getSerialMonitor().getSerialReactor().requestWrite(getSerialMonitor());
+        } else {
+            getSerialMonitor().wakeup();
         }
-        writableCapsules.add(writableCapsule);
+        return true;
+    }
+
+    /**
+     * Tests whether there are queued writable capsules, or a partially drained capsule.
+     *
+     * @return true if there are pending writable capsules, false otherwise.
+     */
+    public boolean hasPendingCapsules() {
+        return partialCapsule != null || !writableCapsules.isEmpty();
     }
 
     /**
-     * Removes a writable capsule from the list of serial data capsules.
+     * Removes a pending writable capsule by marking its data as written, so that
+     * it is skipped when the capsule is drained from the write queue.
      *
      * @param writableCapsule an instance of the {@link WritableCapsule}.
      */
     public void removeWritableCapsule(final WritableCapsule writableCapsule) {
-        if (!writableCapsules.contains(writableCapsule)) {
-            return;
+        writableCapsule.setDataWritten(true);
+    }
+
+    /**
+     * Flushes the batched data of the drained capsules immediately, regardless of the
+     * {@link SerialMonitor#getWriteFlushInterval()}.
+     */
+    public void flush() {
+        try {
+            reentrantLock.lock();
+            if (batch.position() > 0) {
+                flushBatch();
+            }
+        } finally {
+            reentrantLock.unlock();
         }
-        writableCapsules.remove(writableCapsule);
     }
 
     /**
-     * Sends data to the {@link OutputStream} of {@link com.serial4j.core.serial.SerialPort}.
+     * Retrieves the time remaining before the batched data must be flushed.
      *
-     * @param data the data to send in integers.
+     * @return the flush delay in nanoseconds, zero if the batch must be flushed now, or
+     *         (-1) if there is no batched data.
      */
-    private void send(final int data) {
+    public long getFlushDelay() {
+        if (batch.position() == 0) {
+            return -1;
+        }
+        final long remaining = getSerialMonitor().getWriteFlushInterval() - (System.nanoTime() - batchStartTime);
+        return Math.max(0, remaining);
+    }
+
+    private void drainCapsules() {
+        for (;;) {
+            if (partialCapsule == null) {
+                final WritableCapsule capsule = writableCapsules.poll();
+                if (capsule == null) {
+                    return;
+                }
+                /* skip removed capsules */
+                if (capsule.isDataWritten()) {
+                    continue;
+                }
+                partialCapsule = capsule;
+                partialCapsuleOffset = 0;
+            }
+            if (batch.position() == 0) {
+                batchStartTime = System.nanoTime();
+            }
+            /* copy the lower 8-bits of the capsule characters, the capsule might span multiple batches */
+            final String data = partialCapsule.getData();
+            final int length = Math.min(data.length() - partialCapsuleOffset, batch.remaining());
+            for (int i = 0; i < length; i++) {
+                batch.put((byte) data.charAt(partialCapsuleOffset + i));
+            }
+            partialCapsuleOffset += length;
+            if (partialCapsuleOffset == data.length()) {
+                partialCapsule.setDataWritten(true);
+                partialCapsule = null;
+            }
+            /* yield to the read entity after a full batch, so the peer input is not starved */
+            if (!batch.hasRemaining()) {
+                flushBatch();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes the batch to the terminal device using a single native write, and notifies the
+     * data listener with the written bytes.
+     */
+    private void flushBatch() {
+        batch.flip();
         try {
-            getEntityStream().write(data);
-        } catch (IOException e) {
+            while (batch.hasRemaining()) {
+                getTerminalDevice().write(batch);
+            }
+        } catch (Exception e) {
             if (getSerialEntityStatusListener() != null) {
                 getSerialEntityStatusListener().onExceptionThrown(e);
             }
         }
+        final int written = batch.position();
+        final SerialRecorder serialRecorder = getSerialMonitor().getSerialRecorder();
+        if (written > 0 && serialRecorder != null) {
+            try {
+                serialRecorder.record(getSerialMonitor().getRecorderPortId(), SerialRecorder.DIRECTION_TRANSMITTED,
+                        batch.position(0).limit(written));
+            } catch (Exception e) {
+                if (getSerialEntityStatusListener() != null) {
+                    getSerialEntityStatusListener().onExceptionThrown(e);
+                }
+            }
+        }
+        if (written > 0 && getSerialDataListener() != null) {
+            final long start = SerialMetrics.ENABLED ? System.nanoTime() : 0L;
+            batch.position(0).limit(written);
+            /* the bulk listeners always receive the whole batch */
+            if (getSerialMonitor().isPerByteTransmissionNotified()
+                    && !(getSerialDataListener() instanceof BulkSerialDataListener)) {
+                for (int i = 0; i < written; i++) {
+                    getSerialDataListener().onDataTransmitted(batch.get(i) & 0xFF);
+                }
+            } else {
+                getSerialDataListener().onDataTransmitted(batch);
+            }
+            if (SerialMetrics.ENABLED) {
+                final SerialMetrics serialMetrics = getSerialMetrics();
+                if (serialMetrics != null) {
+                    serialMetrics.onDispatch(System.nanoTime() - start, 0);
+                }
+            }
+        }
+        /* the unwritten bytes of a failed write are dropped */
+        batch.clear();
     }
 }
@@ -39,7 +39,7 @@ package com.serial4j.core.serial.entity.impl;
 public final class WritableCapsule implements Cloneable {
 
     private String data;
-    private boolean dataWritten;
+    private volatile boolean dataWritten;
 
     /**
      * Specifies the data to be written on the next update of the
@@ -0,0 +1,168 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.serial.frame;
+
+import com.serial4j.core.serial.FrameBuffer;
+import com.serial4j.core.serial.FrameDecoder;
+import com.serial4j.core.serial.FrameOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * A base implementation for the frame decoders, accumulating the decoded bytes into
+ * a reusable {@link FrameBuffer}, and handing the completed frames as views over it.
+ *
+ * <p>
+ * Once a frame overflows the maximum frame length, the rest of the oversized frame is discarded
+ * up to and including the next frame boundary reported by {@link AbstractFrameDecoder#isFrameBoundary(byte)},
+ * so that its tail is not decoded as a new frame.
+ * </p>
+ *
+ * @author pavl_g
+ */
+public abstract class AbstractFrameDecoder implements FrameDecoder {
+
+    /**
+     * The buffer accumulating the decoded bytes of the current frame.
+     */
+    protected final FrameBuffer frameBuffer;
+    private final int maxFrameLength;
+    private boolean frameCompleted;
+    private boolean discarding;
+    private int frameStart;
+    private int frameEnd;
+
+    /**
+     * Instantiates a frame decoder with a maximum frame length.
+     *
+     * @param maxFrameLength the maximum number of the buffered bytes of a single frame
+     */
+    protected AbstractFrameDecoder(final int maxFrameLength) {
+        if (maxFrameLength <= 0) {
+            throw new IllegalArgumentException("Maximum frame length must be positive!");
+        }
+        this.maxFrameLength = maxFrameLength;
+        this.frameBuffer = new FrameBuffer(Math.min(maxFrameLength, 0x01 << 0x0A));
+    }
+
+    @Override
+    public final boolean push(final byte value) {
+        if (discarding) {
+            /* skip the rest of an oversized frame, decoding resumes after its boundary */
+            if (isFrameBoundary(value)) {
+                reset();
+            }
+            return false;
+        }
+        if (frameCompleted) {
+            /* the previous frame has been handed over, start a new one */
+            frameBuffer.clear();
+            frameCompleted = false;
+        }
+        return decode(value);
+    }
+
+    @Override
+    public final ByteBuffer getFrame() {
+        if (!frameCompleted) {
+            throw new IllegalStateException("No completed data frame!");
+        }
+        return frameBuffer.view(frameStart, frameEnd);
+    }
+
+    @Override
+    public void reset() {
+        frameBuffer.clear();
+        frameCompleted = false;
+        discarding = false;
+    }
+
+    @Override
+    public int getMaxFrameLength() {
+        return maxFrameLength;
+    }
+
+    /**
+     * Decodes a received byte, appending the frame data using {@link AbstractFrameDecoder#append(byte)}.
+     *
+     * @param value the received byte
+     * @return true if a frame has been completed using {@link AbstractFrameDecoder#completeFrame(int, int)}, false otherwise
+     */
+    protected abstract boolean decode(byte value);
+
+    /**
+     * Tests whether a received byte ends a frame on the wire, this is dispatched only while
+     * discarding the rest of an oversized frame.
+     *
+     * <p>
+     * The default implementation reports no boundary, a decoder that might overflow in
+     * {@link AbstractFrameDecoder#append(byte)} must override this to resume decoding, otherwise
+     * the decoder keeps discarding until {@link AbstractFrameDecoder#reset()} is dispatched.
+     * </p>
+     *
+     * @param value the received byte
+     * @return true if the byte is the last byte of a frame, false otherwise
+     */
+    protected boolean isFrameBoundary(final byte value) {
+        return false;
+    }
+
+    /**
+     * Appends a byte to the current frame.
+     *
+     * @param value the byte to append
+     * @throws FrameOverflowException if the frame exceeds the maximum frame length, the rest of
+     *                                the frame is discarded up to the next frame boundary
+     */
+    protected final void append(final byte value) {
+        if (frameBuffer.length() >= maxFrameLength) {
+            reset();
+            discarding = true;
+            throw new FrameOverflowException(maxFrameLength);
+        }
+        frameBuffer.append(value);
+    }
+
+    /**
+     * Marks a region of the buffered bytes as a completed frame.
+     *
+     * @param from the start index of the frame data
+     * @param to   the exclusive end index of the frame data
+     * @return true, as a convenience for {@link AbstractFrameDecoder#decode(byte)}
+     */
+    protected final boolean completeFrame(final int from, final int to) {
+        frameStart = from;
+        frameEnd = to;
+        frameCompleted = true;
+        return true;
+    }
+}
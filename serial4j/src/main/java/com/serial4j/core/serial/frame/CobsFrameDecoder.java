@@ -0,0 +1,116 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.serial.frame;
+
+/**
+ * Decodes the "Consistent Overhead Byte Stuffing" (COBS) data frames delimited by a zero byte.
+ *
+ * <p>
+ * The frames are decoded on the fly while being received, so no second pass over the
+ * frame is needed, the truncated frames are silently discarded; an encoded empty frame [0x01, 0x00]
+ * is decoded as an empty data frame, while the back-to-back zero bytes are skipped.
+ * </p>
+ *
+ * @author pavl_g
+ */
+public class CobsFrameDecoder extends AbstractFrameDecoder {
+
+    private static final byte DELIMITER = 0x00;
+    private static final int MAX_BLOCK_CODE = 0xFF;
+
+    private int blockRemaining;
+    private boolean zeroPending;
+    private boolean blockStarted;
+
+    /**
+     * Instantiates a COBS frame decoder.
+     *
+     * @param maxFrameLength the maximum decoded frame length in bytes
+     */
+    public CobsFrameDecoder(final int maxFrameLength) {
+        super(maxFrameLength);
+    }
+
+    /**
+     * Instantiates a COBS frame decoder with the default maximum frame length.
+     */
+    public CobsFrameDecoder() {
+        this(DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    @Override
+    protected boolean decode(final byte value) {
+        if (value == DELIMITER) {
+            /* a frame must end exactly at a block boundary, and hold at least a code byte */
+            final boolean completed = blockRemaining == 0 && blockStarted;
+            final int length = frameBuffer.length();
+            resetState();
+            if (completed) {
+                return completeFrame(0, length);
+            }
+            frameBuffer.clear();
+            return false;
+        }
+        if (blockRemaining > 0) {
+            append(value);
+            blockRemaining--;
+            return false;
+        }
+        /* a code byte starts a new block, the previous short block implies a zero byte */
+        if (zeroPending) {
+            append(DELIMITER);
+        }
+        final int code = value & 0xFF;
+        blockRemaining = code - 1;
+        zeroPending = code != MAX_BLOCK_CODE;
+        blockStarted = true;
+        return false;
+    }
+
+    @Override
+    protected boolean isFrameBoundary(final byte value) {
+        return value == DELIMITER;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        resetState();
+    }
+
+    private void resetState() {
+        blockRemaining = 0;
+        zeroPending = false;
+        blockStarted = false;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.serial.frame;
+
+/**
+ * Decodes data frames terminated by a delimiter sequence of bytes, e.g: [\n\r] for text lines.
+ *
+ * <p>
+ * Only the trailing bytes of the buffered frame are compared against the delimiter on each push,
+ * so the matching cost does not depend on the frame length.
+ * </p>
+ *
+ * @author pavl_g
+ */
+public class DelimiterFrameDecoder extends AbstractFrameDecoder {
+
+    private final byte[] delimiter;
+    private final boolean delimiterIncluded;
+    private int discardedMatch;
+
+    /**
+     * Instantiates a delimiter frame decoder.
+     *
+     * @param delimiter         the sequence of bytes terminating a frame
+     * @param delimiterIncluded true to retain the delimiter at the end of the decoded frames, false to strip it
+     * @param maxFrameLength    the maximum frame length in bytes, including the delimiter
+     */
+    public DelimiterFrameDecoder(final byte[] delimiter, final boolean delimiterIncluded, final int maxFrameLength) {
+        super(maxFrameLength);
+        if (delimiter == null || delimiter.length == 0) {
+            throw new IllegalArgumentException("Frame delimiter cannot be empty!");
+        }
+        this.delimiter = delimiter.clone();
+        this.delimiterIncluded = delimiterIncluded;
+    }
+
+    /**
+     * Instantiates a delimiter frame decoder stripping the delimiter, with the default maximum frame length.
+     *
+     * @param delimiter the sequence of bytes terminating a frame
+     */
+    public DelimiterFrameDecoder(final byte... delimiter) {
+        this(delimiter, false, DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    @Override
+    protected boolean decode(final byte value) {
+        append(value);
+        final int length = frameBuffer.length();
+        if (!frameBuffer.endsWith(delimiter, length, 0)) {
+            return false;
+        }
+        return completeFrame(0, delimiterIncluded ? length : length - delimiter.length);
+    }
+
+    @Override
+    protected boolean isFrameBoundary(final byte value) {
+        /* the discarded bytes are not buffered, so the delimiter is matched incrementally */
+        if (value == delimiter[discardedMatch]) {
+            discardedMatch++;
+        } else {
+            discardedMatch = value == delimiter[0] ? 1 : 0;
+        }
+        if (discardedMatch < delimiter.length) {
+            return false;
+        }
+        discardedMatch = 0;
+        return true;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        discardedMatch = 0;
+    }
+
+    /**
+     * Retrieves a copy of the frame delimiter.
+     *
+     * @return the sequence of bytes terminating a frame
+     */
+    public byte[] getDelimiter() {
+        return delimiter.clone();
+    }
+
+    /**
+     * Tests whether the delimiter is retained in the decoded frames.
+     *
+     * @return true if the delimiter is retained, false otherwise
+     */
+    public boolean isDelimiterIncluded() {
+        return delimiterIncluded;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.serial.frame;
+
+import com.serial4j.core.serial.FrameOverflowException;
+import java.nio.ByteOrder;
+
+/**
+ * Decodes data frames preceded by an unsigned length field of 1, 2 or 4 bytes, the length
+ * field is stripped from the decoded frames.
+ *
+ * @author pavl_g
+ */
+public class LengthPrefixedFrameDecoder extends AbstractFrameDecoder {
+
+    private final int prefixLength;
+    private final ByteOrder byteOrder;
+    private int prefixRead;
+    private long payloadLength;
+
+    /**
+     * Instantiates a length-prefixed frame decoder.
+     *
+     * @param prefixLength   the length of the length field in bytes, either 1, 2 or 4
+     * @param byteOrder      the byte order of the length field
+     * @param maxFrameLength the maximum payload length in bytes
+     */
+    public LengthPrefixedFrameDecoder(final int prefixLength, final ByteOrder byteOrder, final int maxFrameLength) {
+        super(maxFrameLength);
+        if (prefixLength != 1 && prefixLength != 2 && prefixLength != 4) {
+            throw new IllegalArgumentException("Length field must be 1, 2 or 4 bytes!");
+        }
+        this.prefixLength = prefixLength;
+        this.byteOrder = byteOrder;
+    }
+
+    /**
+     * Instantiates a big-endian length-prefixed frame decoder with the default maximum frame length.
+     *
+     * @param prefixLength the length of the length field in bytes, either 1, 2 or 4
+     */
+    public LengthPrefixedFrameDecoder(final int prefixLength) {
+        this(prefixLength, ByteOrder.BIG_ENDIAN, DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    @Override
+    protected boolean decode(final byte value) {
+        if (prefixRead < prefixLength) {
+            final long octet = value & 0xFFL;
+            if (byteOrder == ByteOrder.BIG_ENDIAN) {
+                payloadLength = (payloadLength << 8) | octet;
+            } else {
+                payloadLength |= octet << (prefixRead << 3);
+            }
+            if (++prefixRead < prefixLength) {
+                return false;
+            }
+            if (payloadLength > getMaxFrameLength()) {
+                reset();
+                throw new FrameOverflowException(getMaxFrameLength());
+            }
+            return payloadLength == 0 && endFrame();
+        }
+        append(value);
+        return frameBuffer.length() == payloadLength && endFrame();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        prefixRead = 0;
+        payloadLength = 0;
+    }
+
+    private boolean endFrame() {
+        prefixRead = 0;
+        payloadLength = 0;
+        return completeFrame(0, frameBuffer.length());
+    }
+}
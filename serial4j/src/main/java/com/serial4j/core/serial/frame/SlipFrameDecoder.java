@@ -0,0 +1,114 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.serial.frame;
+
+/**
+ * Decodes the "Serial Line Internet Protocol" (SLIP) data frames as defined by the RFC-1055.
+ *
+ * @author pavl_g
+ */
+public class SlipFrameDecoder extends AbstractFrameDecoder {
+
+    /**
+     * The SLIP frame end byte.
+     */
+    public static final byte END = (byte) 0xC0;
+    /**
+     * The SLIP escape byte.
+     */
+    public static final byte ESC = (byte) 0xDB;
+    /**
+     * The escaped substitute of the frame end byte.
+     */
+    public static final byte ESC_END = (byte) 0xDC;
+    /**
+     * The escaped substitute of the escape byte.
+     */
+    public static final byte ESC_ESC = (byte) 0xDD;
+
+    private boolean escaped;
+
+    /**
+     * Instantiates a SLIP frame decoder.
+     *
+     * @param maxFrameLength the maximum decoded frame length in bytes
+     */
+    public SlipFrameDecoder(final int maxFrameLength) {
+        super(maxFrameLength);
+    }
+
+    /**
+     * Instantiates a SLIP frame decoder with the default maximum frame length.
+     */
+    public SlipFrameDecoder() {
+        this(DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    @Override
+    protected boolean decode(final byte value) {
+        if (value == END) {
+            escaped = false;
+            /* back-to-back END bytes are used to flush the line noise, skip the empty frames */
+            return frameBuffer.length() > 0 && completeFrame(0, frameBuffer.length());
+        }
+        if (escaped) {
+            escaped = false;
+            if (value == ESC_END) {
+                append(END);
+            } else if (value == ESC_ESC) {
+                append(ESC);
+            } else {
+                /* protocol violation, leave the byte as is as recommended by the RFC-1055 */
+                append(value);
+            }
+            return false;
+        }
+        if (value == ESC) {
+            escaped = true;
+            return false;
+        }
+        append(value);
+        return false;
+    }
+
+    @Override
+    protected boolean isFrameBoundary(final byte value) {
+        return value == END;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        escaped = false;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.serial.monitor;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A serial data listener receiving the serial data in chunks instead of byte-by-byte.
+ *
+ * <p>
+ * The monitor entities detect this listener, and deliver each read chunk and each transmitted batch
+ * in a single dispatch, the per-byte dispatches {@link SerialDataListener#onDataReceived(int)} and
+ * {@link SerialDataListener#onDataTransmitted(int)} are not dispatched for this listener, regardless of
+ * {@link SerialMonitor#isPerByteTransmissionNotified()}.
+ * </p>
+ *
+ * <p>
+ * The chunks are views over the reusable buffers of the monitor entities, the data is between the
+ * position and the limit of a chunk, and a chunk is valid only during its dispatch, copy the data if
+ * it is needed afterwards.
+ * </p>
+ *
+ * @author pavl_g
+ */
+public interface BulkSerialDataListener extends SerialDataListener {
+
+    /**
+     * Dispatched when a chunk of data is read at the {@link com.serial4j.core.serial.entity.impl.SerialReadEntity}.
+     *
+     * <p>
+     * This method is dispatched on the {@link com.serial4j.core.serial.entity.impl.SerialReadEntity}, before
+     * dispatching the data frames completed by this chunk.
+     * </p>
+     *
+     * @param chunk a buffer holding the data received serially in 8-bit format.
+     */
+    void onDataReceived(final ByteBuffer chunk);
+
+    /**
+     * Dispatched when a batch of the capsular data is transmitted at the
+     * {@link com.serial4j.core.serial.entity.impl.SerialWriteEntity} using a single write.
+     *
+     * <p>
+     * This method is dispatched on the {@link com.serial4j.core.serial.entity.impl.SerialWriteEntity}.
+     * </p>
+     *
+     * @param chunk a buffer holding the data transmitted serially in 8-bit format.
+     */
+    @Override
+    void onDataTransmitted(final ByteBuffer chunk);
+
+    /**
+     * Not dispatched for the bulk listeners, see {@link BulkSerialDataListener#onDataReceived(ByteBuffer)}.
+     *
+     * @param data the data received serially in 8-bit format.
+     */
+    @Override
+    default void onDataReceived(final int data) {
+    }
+
+    /**
+     * Not dispatched for the bulk listeners, see {@link BulkSerialDataListener#onDataTransmitted(ByteBuffer)}.
+     *
+     * @param data the data transmitted serially in 8-bit format.
+     */
+    @Override
+    default void onDataTransmitted(final int data) {
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.serial.monitor;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Correlates a received data frame with an outstanding request of a {@link SerialChannel}.
+ *
+ * @author pavl_g
+ * @see SerialChannel#request(ByteBuffer, FrameMatcher, java.time.Duration)
+ */
+@FunctionalInterface
+public interface FrameMatcher {
+
+    /**
+     * Tests whether a received frame is the response of a request.
+     *
+     * @param frame a read-only view of the received frame, the position and the limit of the frame should not be relied upon after this call
+     * @return true if the frame is the response, false otherwise
+     */
+    boolean matches(ByteBuffer frame);
+
+    /**
+     * Matches any frame, the responses are correlated with the requests in their order.
+     *
+     * @return a matcher accepting any frame
+     */
+    static FrameMatcher any() {
+        return frame -> true;
+    }
+
+    /**
+     * Matches the frames starting with a prefix, e.g: the echoed command code of a response.
+     *
+     * @param prefix the expected leading bytes of the response
+     * @return a matcher accepting the frames starting with the prefix
+     */
+    static FrameMatcher startsWith(final byte... prefix) {
+        final byte[] expected = prefix.clone();
+        return frame -> {
+            if (frame.remaining() < expected.length) {
+                return false;
+            }
+            for (int i = 0; i < expected.length; i++) {
+                if (frame.get(frame.position() + i) != expected[i]) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+}
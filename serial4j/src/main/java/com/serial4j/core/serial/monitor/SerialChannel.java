@@ -0,0 +1,305 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.serial.monitor;
+
+import com.serial4j.core.serial.entity.impl.WritableCapsule;
+import com.serial4j.util.concurrent.BackpressurePolicy;
+import com.serial4j.util.concurrent.MpscRingBuffer;
+import com.serial4j.util.concurrent.TimerWheel;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * An asynchronous request/response channel for the command/response serial devices over a {@link SerialMonitor}.
+ *
+ * <p>
+ * A request writes a command, and returns a future completed by the first received frame matched by the
+ * {@link FrameMatcher} of the request, multiple requests can be outstanding at the same time, the received frames
+ * are matched against the outstanding requests in their order, and the unmatched frames are handed to the
+ * unsolicited frames listener, if any.
+ * </p>
+ *
+ * <p>
+ * The outstanding requests, the frames matching and the timeouts are owned by a single channel thread, the
+ * requests and the received frames are handed over to it through lock-free queues, and the timeouts are tracked by a
+ * {@link TimerWheel}; so no locks are contended between the requesting threads and the read entity. The futures are
+ * completed on the channel thread, the dependent actions should not block it.
+ * </p>
+ *
+ * <p>
+ * Note: this channel replaces the {@link SerialDataListener} of the monitor.
+ * </p>
+ *
+ * @author pavl_g
+ */
+public final class SerialChannel implements AutoCloseable {
+
+    private static final int QUEUE_CAPACITY = 1024;
+
+    private final SerialMonitor serialMonitor;
+    private final MpscRingBuffer<PendingRequest> submittedRequests = new MpscRingBuffer<>(QUEUE_CAPACITY);
+    private final MpscRingBuffer<ByteBuffer> receivedFrames = new MpscRingBuffer<>(QUEUE_CAPACITY);
+    private final ArrayDeque<PendingRequest> outstandingRequests = new ArrayDeque<>();
+    private final TimerWheel<PendingRequest> timerWheel;
+    private final Thread channelThread;
+    private volatile Consumer<ByteBuffer> unsolicitedFrameListener;
+    private volatile boolean closed;
+
+    /**
+     * Instantiates a channel over a monitor, and starts the channel thread.
+     *
+     * @param serialMonitor the monitor transmitting the commands and receiving the frames,
+     *                      see {@link SerialMonitor#setFrameDecoder(com.serial4j.core.serial.FrameDecoder)}
+     * @param tick          the timeouts resolution
+     * @param wheelSize     the number of the buckets of the timer wheel
+     */
+    public SerialChannel(final SerialMonitor serialMonitor, final Duration tick, final int wheelSize) {
+        this.serialMonitor = Objects.requireNonNull(serialMonitor);
+        this.timerWheel = new TimerWheel<>(tick.toNanos(), wheelSize, System.nanoTime());
+        serialMonitor.setSerialDataListener(new FrameListener());
+        this.channelThread = serialMonitor.newThread(this::run, serialMonitor.getMonitorName() + "-channel");
+        this.channelThread.start();
+    }
+
+    /**
+     * Instantiates a channel over a monitor with a 10 milliseconds timeouts resolution.
+     *
+     * @param serialMonitor the monitor transmitting the commands and receiving the frames
+     */
+    public SerialChannel(final SerialMonitor serialMonitor) {
+        this(serialMonitor, Duration.ofMillis(10), 512);
+    }
+
+    /**
+     * Writes a command, and awaits its response asynchronously.
+     *
+     * @param command the command bytes between the position and the limit, the buffer is not modified
+     * @param matcher the matcher correlating a received frame with this request
+     * @param timeout the maximum time to wait for the response
+     * @return a future completed with a copy of the response frame, or completed exceptionally with
+     *         a {@link TimeoutException} if no matching frame is received in time
+     */
+    public CompletableFuture<ByteBuffer> request(final ByteBuffer command, final FrameMatcher matcher,
+                                                 final Duration timeout) {
+        final PendingRequest pendingRequest = new PendingRequest(
+                StandardCharsets.ISO_8859_1.decode(command.duplicate()).toString(),
+                Objects.requireNonNull(matcher), timeout.toNanos());
+        if (closed) {
+            pendingRequest.future.completeExceptionally(new IllegalStateException("Serial channel is closed!"));
+            return pendingRequest.future;
+        }
+        submittedRequests.offer(pendingRequest, BackpressurePolicy.BLOCK);
+        if (closed) {
+            /* the channel thread might have drained the submitted requests before the offer */
+            pendingRequest.future.completeExceptionally(new IllegalStateException("Serial channel is closed!"));
+            return pendingRequest.future;
+        }
+        LockSupport.unpark(channelThread);
+        return pendingRequest.future;
+    }
+
+    /**
+     * Sets a listener for the received frames matching no outstanding request, the listener is
+     * dispatched on the channel thread with a copy of the frame.
+     *
+     * @param unsolicitedFrameListener the listener, or null to discard the unmatched frames
+     */
+    public void setUnsolicitedFrameListener(final Consumer<ByteBuffer> unsolicitedFrameListener) {
+        this.unsolicitedFrameListener = unsolicitedFrameListener;
+    }
+
+    /**
+     * Stops the channel thread, and fails the outstanding requests.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(channelThread);
+        if (Thread.currentThread() != channelThread) {
+            try {
+                channelThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Tests whether this channel is closed.
+     *
+     * @return true if the channel is closed, false otherwise
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private void run() {
+        while (!closed) {
+            final long now = System.nanoTime();
+            PendingRequest pendingRequest;
+            while ((pendingRequest = submittedRequests.poll()) != null) {
+                submit(pendingRequest, now);
+            }
+            ByteBuffer frame;
+            while ((frame = receivedFrames.poll()) != null) {
+                correlate(frame);
+            }
+            timerWheel.advance(now, this::expire);
+            if (submittedRequests.isEmpty() && receivedFrames.isEmpty()) {
+                /* tick only while the requests are outstanding */
+                if (outstandingRequests.isEmpty()) {
+                    LockSupport.park(this);
+                } else {
+                    LockSupport.parkNanos(this, timerWheel.nanosToNextTick(System.nanoTime()));
+                }
+            }
+        }
+        final IllegalStateException closedException = new IllegalStateException("Serial channel is closed!");
+        PendingRequest pendingRequest;
+        while ((pendingRequest = submittedRequests.poll()) != null) {
+            pendingRequest.future.completeExceptionally(closedException);
+        }
+        for (final PendingRequest outstandingRequest : outstandingRequests) {
+            outstandingRequest.future.completeExceptionally(closedException);
+        }
+        outstandingRequests.clear();
+    }
+
+    private void submit(final PendingRequest pendingRequest, final long now) {
+        if (pendingRequest.future.isDone()) {
+            return;
+        }
+        /* the request is outstanding before its command is written, so the response is never missed */
+        outstandingRequests.add(pendingRequest);
+        pendingRequest.timeout = timerWheel.schedule(pendingRequest, pendingRequest.timeoutNanos, now);
+        final WritableCapsule writableCapsule = new WritableCapsule();
+        writableCapsule.write(pendingRequest.command);
+        try {
+            if (!serialMonitor.getSerialWriteEntity().addWritableCapsule(writableCapsule)) {
+                fail(pendingRequest, new IllegalStateException("Write queue is full, the command is dropped!"));
+            }
+        } catch (RuntimeException e) {
+            fail(pendingRequest, e);
+        }
+    }
+
+    private void correlate(final ByteBuffer frame) {
+        final Iterator<PendingRequest> iterator = outstandingRequests.iterator();
+        while (iterator.hasNext()) {
+            final PendingRequest pendingRequest = iterator.next();
+            if (pendingRequest.future.isDone()) {
+                /* cancelled by the requester */
+                iterator.remove();
+                timerWheel.cancel(pendingRequest.timeout);
+                continue;
+            }
+            if (pendingRequest.matcher.matches(frame.asReadOnlyBuffer())) {
+                iterator.remove();
+                timerWheel.cancel(pendingRequest.timeout);
+                pendingRequest.future.complete(frame);
+                return;
+            }
+        }
+        final Consumer<ByteBuffer> listener = unsolicitedFrameListener;
+        if (listener != null) {
+            listener.accept(frame);
+        }
+    }
+
+    private void expire(final PendingRequest pendingRequest) {
+        outstandingRequests.remove(pendingRequest);
+        pendingRequest.future.completeExceptionally(new TimeoutException(
+                "No response within " + TimeUnit.NANOSECONDS.toMillis(pendingRequest.timeoutNanos) + " ms!"));
+    }
+
+    private void fail(final PendingRequest pendingRequest, final Throwable cause) {
+        outstandingRequests.remove(pendingRequest);
+        timerWheel.cancel(pendingRequest.timeout);
+        pendingRequest.future.completeExceptionally(cause);
+    }
+
+    /**
+     * Hands over copies of the frames received on the read entity to the channel thread.
+     */
+    private final class FrameListener implements BulkSerialDataListener {
+
+        @Override
+        public void onDataReceived(final ByteBuffer chunk) {
+        }
+
+        @Override
+        public void onDataTransmitted(final ByteBuffer chunk) {
+        }
+
+        @Override
+        public void onDataReceived(final String data) {
+        }
+
+        @Override
+        public void onFrameReceived(final ByteBuffer frame) {
+            if (closed) {
+                return;
+            }
+            final ByteBuffer copy = ByteBuffer.allocate(frame.remaining());
+            copy.put(frame.duplicate()).flip();
+            receivedFrames.offer(copy, BackpressurePolicy.BLOCK);
+            LockSupport.unpark(channelThread);
+        }
+    }
+
+    /**
+     * An outstanding request awaiting its response.
+     */
+    private static final class PendingRequest {
+        private final String command;
+        private final FrameMatcher matcher;
+        private final long timeoutNanos;
+        private final CompletableFuture<ByteBuffer> future = new CompletableFuture<>();
+        private TimerWheel.Timeout<PendingRequest> timeout;
+
+        private PendingRequest(final String command, final FrameMatcher matcher, final long timeoutNanos) {
+            this.command = command;
+            this.matcher = matcher;
+            this.timeoutNanos = timeoutNanos;
+        }
+    }
+}
@@ -31,6 +31,9 @@
  */
 package com.serial4j.core.serial.monitor;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Listens to Serial Monitor entities {@link com.serial4j.core.serial.entity.impl.SerialReadEntity}
  * and {@link com.serial4j.core.serial.entity.impl.SerialWriteEntity}.
@@ -61,6 +64,25 @@ public interface SerialDataListener {
      */
     void onDataTransmitted(final int data);
 
+    /**
+     * Dispatched when a batch of the capsular data is transmitted at the
+     * {@link com.serial4j.core.serial.entity.impl.SerialWriteEntity} using a single write.
+     *
+     * <p>
+     * This method is dispatched on the {@link com.serial4j.core.serial.entity.impl.SerialWriteEntity}, the
+     * transmitted bytes are between the position and the limit of the batch, and the batch is valid only
+     * during this dispatch. The default implementation dispatches {@link SerialDataListener#onDataTransmitted(int)}
+     * for each transmitted byte.
+     * </p>
+     *
+     * @param batch a buffer holding the data transmitted serially in 8-bit format.
+     */
+    default void onDataTransmitted(final ByteBuffer batch) {
+        for (int i = batch.position(); i < batch.limit(); i++) {
+            onDataTransmitted(batch.get(i) & 0xFF);
+        }
+    }
+
     /**
      * Dispatched whenever a data frame is completely received at the {@link com.serial4j.core.serial.entity.impl.SerialReadEntity} end
      * when "Return-Carriage/Newline" check is enabled as it specifies a particular data frame.
@@ -72,4 +94,28 @@ public interface SerialDataListener {
      * @param data the data frame terminated by '\r\n'
      */
     void onDataReceived(final String data);
+
+    /**
+     * Dispatched whenever a data frame is completely received at the {@link com.serial4j.core.serial.entity.impl.SerialReadEntity}
+     * end, the frame is a view over the reusable buffer of the {@link SerialMonitor#getFrameDecoder()}.
+     *
+     * <p>
+     * This method is dispatched on the {@link com.serial4j.core.serial.entity.impl.SerialReadEntity}, the frame
+     * bytes are between the position and the limit of the view, and the view is valid only during this dispatch.
+     * The default implementation decodes the frame into a string, and dispatches {@link SerialDataListener#onDataReceived(String)};
+     * override this method to handle the frames without allocation.
+     * </p>
+     *
+     * @param frame a view holding the data frame as decoded by the monitor frame decoder
+     */
+    default void onFrameReceived(final ByteBuffer frame) {
+        if (frame.hasArray()) {
+            onDataReceived(new String(frame.array(), frame.arrayOffset() + frame.position(),
+                    frame.remaining(), StandardCharsets.ISO_8859_1));
+            return;
+        }
+        final byte[] data = new byte[frame.remaining()];
+        frame.duplicate().get(data);
+        onDataReceived(new String(data, StandardCharsets.ISO_8859_1));
+    }
 }
@@ -0,0 +1,343 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.serial.monitor;
+
+import com.serial4j.core.modem.ModemControllerFlag;
+import com.serial4j.core.terminal.TerminalDevice;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Publishes the data frames received by a {@link SerialMonitor} to a reactive {@link Flow.Subscriber}.
+ *
+ * <p>
+ * The frames are buffered until they are requested by the subscriber, once the buffer reaches its capacity
+ * the monitor stops draining the serial port using {@link SerialMonitor#setReadSuspended(boolean)}, and optionally
+ * de-asserts the "Request To Send" (RTS) modem line, so a hardware flow controlled device pauses the
+ * transmission; the reads are resumed, and the RTS line is re-asserted, once the subscriber has consumed
+ * half of the buffer. The buffer may exceed its capacity by the frames of a single read chunk.
+ * </p>
+ *
+ * <p>
+ * Note: this flow replaces the {@link SerialDataListener} of the monitor, and supports a single subscriber
+ * at a time; the published frames are copies owned by the subscriber, and the frames buffered for a cancelled
+ * or a failed subscriber are discarded, resuming the suspended reads.
+ * </p>
+ *
+ * @author pavl_g
+ */
+public final class SerialFlow implements Flow.Publisher<ByteBuffer>, AutoCloseable {
+
+    /**
+     * The default number of the buffered frames before suspending the reads.
+     */
+    public static final int DEFAULT_BUFFER_CAPACITY = 256;
+
+    private final SerialMonitor serialMonitor;
+    private final int bufferCapacity;
+    private final Executor executor;
+    private final boolean hardwareFlowControl;
+    private final ArrayDeque<ByteBuffer> frames = new ArrayDeque<>();
+    private final AtomicReference<FlowSubscription> subscription = new AtomicReference<>();
+    private boolean throttled;
+    private volatile boolean closed;
+
+    /**
+     * Instantiates a flow publishing the frames of a monitor.
+     *
+     * @param serialMonitor       the monitor receiving the frames, see {@link SerialMonitor#setFrameDecoder(com.serial4j.core.serial.FrameDecoder)}
+     * @param bufferCapacity      the number of the buffered frames before suspending the reads
+     * @param executor            the executor delivering the frames to the subscriber
+     * @param hardwareFlowControl true to de-assert the RTS line while the reads are suspended, false otherwise
+     */
+    public SerialFlow(final SerialMonitor serialMonitor, final int bufferCapacity, final Executor executor,
+                      final boolean hardwareFlowControl) {
+        if (bufferCapacity <= 0) {
+            throw new IllegalArgumentException("Buffer capacity must be positive!");
+        }
+        this.serialMonitor = Objects.requireNonNull(serialMonitor);
+        this.bufferCapacity = bufferCapacity;
+        this.executor = Objects.requireNonNull(executor);
+        this.hardwareFlowControl = hardwareFlowControl;
+        serialMonitor.setSerialDataListener(new FrameListener());
+    }
+
+    /**
+     * Instantiates a flow publishing the frames of a monitor, with the default buffer capacity,
+     * delivering the frames on the common pool without hardware flow control.
+     *
+     * @param serialMonitor the monitor receiving the frames
+     */
+    public SerialFlow(final SerialMonitor serialMonitor) {
+        this(serialMonitor, DEFAULT_BUFFER_CAPACITY, ForkJoinPool.commonPool(), false);
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+        Objects.requireNonNull(subscriber);
+        final FlowSubscription flowSubscription = new FlowSubscription(subscriber);
+        if (!subscription.compareAndSet(null, flowSubscription)) {
+            subscriber.onSubscribe(new FlowSubscription(null));
+            subscriber.onError(new IllegalStateException("Serial flow supports a single subscriber at a time!"));
+            return;
+        }
+        subscriber.onSubscribe(flowSubscription);
+        if (closed) {
+            flowSubscription.signal();
+        }
+    }
+
+    /**
+     * Completes the subscriber after delivering the requested buffered frames, and resumes
+     * the suspended reads of the monitor.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (frames) {
+            throttle(false);
+        }
+        final FlowSubscription flowSubscription = subscription.get();
+        if (flowSubscription != null) {
+            flowSubscription.signal();
+        }
+    }
+
+    /**
+     * Retrieves the number of the frames buffered for the subscriber.
+     *
+     * @return the number of the buffered frames
+     */
+    public int getBufferedFrames() {
+        synchronized (frames) {
+            return frames.size();
+        }
+    }
+
+    /**
+     * Tests whether the reads of the monitor are suspended by this flow.
+     *
+     * @return true if the buffer is full and the reads are suspended, false otherwise
+     */
+    public boolean isThrottled() {
+        synchronized (frames) {
+            return throttled;
+        }
+    }
+
+    private void publish(final ByteBuffer frame) {
+        if (closed) {
+            return;
+        }
+        /* the frame view is reused by the decoder, hand over a copy */
+        final ByteBuffer copy = ByteBuffer.allocate(frame.remaining());
+        copy.put(frame.duplicate()).flip();
+        synchronized (frames) {
+            frames.offer(copy);
+            if (frames.size() >= bufferCapacity) {
+                throttle(true);
+            }
+        }
+        final FlowSubscription flowSubscription = subscription.get();
+        if (flowSubscription != null) {
+            flowSubscription.signal();
+        }
+    }
+
+    private ByteBuffer poll() {
+        synchronized (frames) {
+            final ByteBuffer frame = frames.poll();
+            if (frame != null && frames.size() <= (bufferCapacity >> 1)) {
+                throttle(false);
+            }
+            return frame;
+        }
+    }
+
+    /**
+     * Drops the frames buffered for a departed subscriber, and resumes the suspended reads,
+     * otherwise the port stays throttled until another subscriber drains the buffer.
+     */
+    private void discardFrames() {
+        synchronized (frames) {
+            frames.clear();
+            throttle(false);
+        }
+    }
+
+    private boolean isEmpty() {
+        synchronized (frames) {
+            return frames.isEmpty();
+        }
+    }
+
+    private void throttle(final boolean throttled) {
+        if (this.throttled == throttled) {
+            return;
+        }
+        this.throttled = throttled;
+        serialMonitor.setReadSuspended(throttled);
+        if (!hardwareFlowControl) {
+            return;
+        }
+        final TerminalDevice terminalDevice = serialMonitor.getTerminalDevice();
+        if (terminalDevice.getSerialPort() == null || !terminalDevice.getSerialPort().isPortOpened()) {
+            return;
+        }
+        final ModemControllerFlag modemBits = terminalDevice.getModemBitsStatus();
+        if (throttled) {
+            modemBits.disable(ModemControllerFlag.ModemBits.TIOCM_RTS);
+        } else {
+            modemBits.append(ModemControllerFlag.ModemBits.TIOCM_RTS);
+        }
+        terminalDevice.setModemBitsStatus(modemBits);
+    }
+
+    /**
+     * Receives the frames of the monitor on the read entity, or on the pipeline dispatch thread.
+     */
+    private final class FrameListener implements BulkSerialDataListener {
+
+        @Override
+        public void onDataReceived(final ByteBuffer chunk) {
+        }
+
+        @Override
+        public void onDataTransmitted(final ByteBuffer chunk) {
+        }
+
+        @Override
+        public void onDataReceived(final String data) {
+        }
+
+        @Override
+        public void onFrameReceived(final ByteBuffer frame) {
+            publish(frame);
+        }
+    }
+
+    /**
+     * Delivers the buffered frames to a subscriber as requested, the deliveries are serialized
+     * by a work-in-progress counter, so the subscriber is never dispatched concurrently.
+     */
+    private final class FlowSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger workInProgress = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+        private boolean terminated;
+
+        private FlowSubscription(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (subscriber == null) {
+                return;
+            }
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested frames must be positive!");
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> {
+                    final long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            if (subscriber == null) {
+                return;
+            }
+            cancelled = true;
+            if (subscription.compareAndSet(this, null)) {
+                discardFrames();
+            }
+        }
+
+        private void signal() {
+            if (workInProgress.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (terminated || cancelled) {
+                    return;
+                }
+                final long requested = demand.get();
+                long emitted = 0;
+                ByteBuffer frame;
+                while (emitted != requested && !cancelled && error == null && (frame = poll()) != null) {
+                    subscriber.onNext(frame);
+                    emitted++;
+                }
+                if (emitted != 0 && requested != Long.MAX_VALUE) {
+                    demand.addAndGet(-emitted);
+                }
+                if (error != null) {
+                    terminate();
+                    subscriber.onError(error);
+                    return;
+                }
+                if (closed && isEmpty()) {
+                    terminate();
+                    subscriber.onComplete();
+                    return;
+                }
+                missed = workInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void terminate() {
+            terminated = true;
+            if (subscription.compareAndSet(this, null)) {
+                discardFrames();
+            }
+        }
+    }
+}
@@ -31,19 +31,28 @@
  */
 package com.serial4j.core.serial.monitor;
 
+import com.serial4j.core.flag.AppendableFlag;
+import com.serial4j.core.serial.FrameDecoder;
 import com.serial4j.core.serial.SerialPort;
+import com.serial4j.core.serial.capture.SerialRecorder;
 import com.serial4j.core.serial.entity.EntityStatus;
 import com.serial4j.core.serial.entity.impl.SerialReadEntity;
 import com.serial4j.core.serial.entity.impl.SerialWriteEntity;
+import com.serial4j.core.serial.frame.DelimiterFrameDecoder;
 import com.serial4j.core.serial.throwable.*;
 import com.serial4j.core.terminal.FilePermissions;
 import com.serial4j.core.terminal.NativeBufferInputStream;
 import com.serial4j.core.terminal.NativeBufferOutputStream;
+import com.serial4j.core.terminal.ReadConfiguration;
 import com.serial4j.core.terminal.TerminalDevice;
 import com.serial4j.core.terminal.control.*;
+import com.serial4j.util.concurrent.BackpressurePolicy;
+import com.serial4j.util.concurrent.VirtualThreads;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Monitors the UART Data Port using {@link SerialReadEntity} for serial data read and {@link SerialWriteEntity} for serial
@@ -86,6 +95,20 @@ public class SerialMonitor {
     protected volatile boolean terminate = false;
     protected volatile SerialReadEntity serialReadEntity;
     protected volatile SerialWriteEntity serialWriteEntity;
+    protected volatile SerialReactor serialReactor;
+    protected volatile long readAwaitTimeout = TimeUnit.MILLISECONDS.toNanos(500);
+    protected volatile int writeQueueCapacity = 1024;
+    protected volatile BackpressurePolicy writeBackpressurePolicy = BackpressurePolicy.BLOCK;
+    protected volatile int maxWriteBatchSize = 4096;
+    protected volatile long writeFlushInterval = 0;
+    protected volatile boolean perByteTransmissionNotified = false;
+    protected volatile SerialPipeline serialPipeline;
+    protected volatile SerialRecorder serialRecorder;
+    protected volatile int recorderPortId;
+    protected volatile boolean virtualThreadsEnabled = false;
+    protected volatile boolean readSuspended = false;
+    protected volatile FrameDecoder frameDecoder =
+            new DelimiterFrameDecoder(new byte[]{'\n', '\r'}, true, FrameDecoder.DEFAULT_MAX_FRAME_LENGTH);
 
     /**
      * Instantiates a new SerialMonitor with a name.
@@ -121,38 +144,13 @@ public class SerialMonitor {
         terminalDevice.openPort(new SerialPort(port));
         terminalDevice.setBaudRate(baudRate);
         terminalDevice.initTerminal();
-        /* define terminal flags */
-        final TerminalFlag CS_MASK = (TerminalFlag) TerminalFlag.build().append(
-                TerminalControlFlag.CSIZE,
-                TerminalControlFlag.MaskBits.CS8
-        );
-        final TerminalFlag TCF_VALUE = (TerminalFlag) TerminalFlag.build().append(
-                TerminalControlFlag.CLOCAL,
-                CS_MASK,
-                TerminalControlFlag.CREAD
-        );
-        final TerminalFlag TLF_VALUE = (TerminalFlag) TerminalFlag.build().disable(
-                TerminalLocalFlag.ECHO,
-                TerminalLocalFlag.ECHOK,
-                TerminalLocalFlag.ECHOE,
-                TerminalLocalFlag.ECHOKE,
-                TerminalLocalFlag.ECHONL,
-                TerminalLocalFlag.ECHOPRT,
-                TerminalLocalFlag.ECHOCTL,
-                TerminalLocalFlag.ISIG,
-                TerminalLocalFlag.IEXTEN,
-                TerminalLocalFlag.ICANON
-        );
-        final TerminalFlag TOF_VALUE = (TerminalFlag) TerminalFlag.build().disable(
-                TerminalOutputFlag.OPOST,
-                TerminalOutputFlag.ONLCR
-        );
-        final TerminalFlag TIF_VALUE = TerminalFlag.build();
-
-        terminalDevice.setTerminalControlFlag(TCF_VALUE);
-        terminalDevice.setTerminalLocalFlag(TLF_VALUE);
-        terminalDevice.setTerminalOutputFlag(TOF_VALUE);
-        terminalDevice.setTerminalInputFlag(TIF_VALUE);
+        /* apply the precomputed raw terminal flags */
+        terminalDevice.setTerminalControlFlag(TerminalFlags.CONTROL);
+        terminalDevice.setTerminalLocalFlag(TerminalFlags.LOCAL);
+        terminalDevice.setTerminalOutputFlag(TerminalFlags.OUTPUT);
+        terminalDevice.setTerminalInputFlag(TerminalFlags.INPUT);
+        /* the monitor awaits the readable events, so the reads should never block */
+        terminalDevice.setReadConfigurationMode(ReadConfiguration.POLLING_READ, 0, 0);
 
         readEntityStream = new NativeBufferInputStream(terminalDevice);
         writeEntityStream = new NativeBufferOutputStream(terminalDevice);
@@ -160,8 +158,31 @@ public class SerialMonitor {
         serialWriteEntity = new SerialWriteEntity(this);
 
         serialReadEntity = new SerialReadEntity(this);
-        monitorThread = new Thread(() -> {
+
+        /* decode and dispatch the drained data on the pipeline threads */
+        if (serialPipeline != null) {
+            serialPipeline.start(this);
+        }
+
+        /* dispatch the entities on the reactor threads instead of a dedicated monitor thread */
+        if (serialReactor != null) {
+            serialReactor.register(this);
+            return;
+        }
+
+        monitorThread = newThread(() -> {
             while (!isTerminate()) {
+                /* park the monitor thread until data arrives, a capsule is added or the monitor is terminated */
+                if (isMonitoringStarted && !serialWriteEntity.hasPendingCapsules()) {
+                    if (readSuspended) {
+                        /* the port is not drained, so only a wakeup ends the wait */
+                        awaitWakeup(getAwaitTimeout());
+                    } else if (virtualThreadsEnabled) {
+                        terminalDevice.awaitReadableParking(getAwaitTimeout());
+                    } else {
+                        terminalDevice.awaitReadable(getAwaitTimeout());
+                    }
+                }
                 serialReadEntity.run();
                 serialWriteEntity.run();
             }
@@ -170,6 +191,59 @@ public class SerialMonitor {
         monitorThread.start();
     }
 
+    private void awaitWakeup(final long timeout) {
+        if (timeout < 0) {
+            LockSupport.park(this);
+        } else {
+            LockSupport.parkNanos(this, timeout);
+        }
+    }
+
+    /**
+     * Wakes up the monitor thread waiting for the port to become readable, or waiting for
+     * the reads to be resumed; this has no effect on a monitor registered with a {@link SerialReactor}.
+     */
+    public void wakeup() {
+        if (serialReactor != null) {
+            return;
+        }
+        terminalDevice.wakeup();
+        final Thread thread = monitorThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Creates an unstarted monitor thread, a virtual thread if the virtual threads are enabled.
+     *
+     * @param task the task to run on the thread
+     * @param name the name of the thread
+     * @return a new unstarted thread
+     */
+    Thread newThread(final Runnable task, final String name) {
+        if (virtualThreadsEnabled) {
+            return VirtualThreads.newThread(name, task);
+        }
+        return new Thread(task, name);
+    }
+
+    /**
+     * Bounds the read await by the flush delay of the lingering write batch.
+     *
+     * @return the await timeout in nanoseconds, a negative value waits indefinitely
+     */
+    private long getAwaitTimeout() {
+        final long flushDelay = serialWriteEntity.getFlushDelay();
+        if (flushDelay < 0) {
+            return readAwaitTimeout;
+        }
+        if (readAwaitTimeout < 0) {
+            return flushDelay;
+        }
+        return Math.min(readAwaitTimeout, flushDelay);
+    }
+
     /**
      * Retrieves a reference to the monitor thread.
      *
@@ -199,9 +273,319 @@ public class SerialMonitor {
 
     /**
      * Sets the termination flag to trigger termination on the next update.
+     * <p>
+     * If this monitor is registered with a {@link SerialReactor}, the monitor is removed
+     * from the reactor and dispatched a final time to terminate its entities.
+     * </p>
      */
     public void setTerminate() {
         this.terminate = true;
+        if (serialPipeline != null) {
+            serialPipeline.halt();
+        }
+        if (serialReactor != null) {
+            serialReactor.deregister(this);
+        } else {
+            wakeup();
+        }
+    }
+
+    /**
+     * Retrieves the maximum time the monitor thread waits for the port to become readable.
+     *
+     * @return the read await timeout in nanoseconds
+     */
+    public long getReadAwaitTimeout() {
+        return readAwaitTimeout;
+    }
+
+    /**
+     * Adjusts the maximum time the monitor thread waits for the port to become readable
+     * before dispatching the entities, default value is 500 milliseconds.
+     * <p>
+     * Note: the wait is interrupted promptly by adding writable capsules and by terminating
+     * the monitor, this timeout only bounds the dispatch rate of an idle port.
+     * </p>
+     *
+     * @param timeout the await timeout value, a negative value waits indefinitely
+     * @param unit    the unit of the timeout value
+     */
+    public void setReadAwaitTimeout(final long timeout, final TimeUnit unit) {
+        this.readAwaitTimeout = timeout < 0 ? -1 : unit.toNanos(timeout);
+    }
+
+    /**
+     * Retrieves the serial reactor dispatching this monitor.
+     *
+     * @return the serial reactor instance, or null if this monitor uses a dedicated monitor thread
+     */
+    public SerialReactor getSerialReactor() {
+        return serialReactor;
+    }
+
+    /**
+     * Sets a serial reactor to dispatch the entities of this monitor on the reactor
+     * threads instead of a dedicated monitor thread.
+     * <p>
+     * Note: the reactor must be set before starting the data monitoring using
+     * {@link SerialMonitor#startDataMonitoring(String, BaudRate, FilePermissions)}, and
+     * it is ignored by the {@link VirtualMonitor}.
+     * </p>
+     *
+     * @param serialReactor the serial reactor instance, or null to use a dedicated monitor thread
+     */
+    public void setSerialReactor(final SerialReactor serialReactor) {
+        this.serialReactor = serialReactor;
+    }
+
+    /**
+     * Retrieves the capacity of the write queue holding the pending writable capsules.
+     *
+     * @return the minimum number of the capsules the write queue can hold
+     */
+    public int getWriteQueueCapacity() {
+        return writeQueueCapacity;
+    }
+
+    /**
+     * Adjusts the capacity of the write queue holding the pending writable capsules, the capacity
+     * is rounded up to the next power of two, default value is 1024.
+     * <p>
+     * Note: the capacity must be set before starting the data monitoring.
+     * </p>
+     *
+     * @param writeQueueCapacity the minimum number of the capsules the write queue can hold
+     */
+    public void setWriteQueueCapacity(final int writeQueueCapacity) {
+        this.writeQueueCapacity = writeQueueCapacity;
+    }
+
+    /**
+     * Retrieves the behavior of adding a writable capsule to a full write queue.
+     *
+     * @return the backpressure policy of the write queue
+     */
+    public BackpressurePolicy getWriteBackpressurePolicy() {
+        return writeBackpressurePolicy;
+    }
+
+    /**
+     * Adjusts the behavior of adding a writable capsule to a full write queue,
+     * default value is {@link BackpressurePolicy#BLOCK}.
+     *
+     * @param writeBackpressurePolicy the backpressure policy of the write queue
+     */
+    public void setWriteBackpressurePolicy(final BackpressurePolicy writeBackpressurePolicy) {
+        this.writeBackpressurePolicy = writeBackpressurePolicy;
+    }
+
+    /**
+     * Retrieves the maximum number of bytes coalesced from the writable capsules into a single write.
+     *
+     * @return the write batch size in bytes
+     */
+    public int getMaxWriteBatchSize() {
+        return maxWriteBatchSize;
+    }
+
+    /**
+     * Adjusts the maximum number of bytes coalesced from the writable capsules into a single write,
+     * default value is 4096 bytes.
+     * <p>
+     * Note: the batch size must be set before starting the data monitoring.
+     * </p>
+     *
+     * @param maxWriteBatchSize the write batch size in bytes
+     */
+    public void setMaxWriteBatchSize(final int maxWriteBatchSize) {
+        if (maxWriteBatchSize <= 0) {
+            throw new IllegalArgumentException("Write batch size must be positive!");
+        }
+        this.maxWriteBatchSize = maxWriteBatchSize;
+    }
+
+    /**
+     * Retrieves the maximum time the batched data lingers waiting for more writable capsules.
+     *
+     * @return the write flush interval in nanoseconds
+     */
+    public long getWriteFlushInterval() {
+        return writeFlushInterval;
+    }
+
+    /**
+     * Adjusts the maximum time the batched data lingers waiting for more writable capsules
+     * before it is flushed, a full batch is flushed immediately; default value is zero, which
+     * flushes the batch at the end of each update.
+     * <p>
+     * Note: the monitors dispatched by a {@link SerialReactor} flush the batch at the end of each dispatch.
+     * </p>
+     *
+     * @param interval the flush interval value
+     * @param unit     the unit of the flush interval value
+     */
+    public void setWriteFlushInterval(final long interval, final TimeUnit unit) {
+        this.writeFlushInterval = Math.max(0, unit.toNanos(interval));
+    }
+
+    /**
+     * Tests whether the transmitted data is notified byte-by-byte.
+     *
+     * @return true if {@link SerialDataListener#onDataTransmitted(int)} is dispatched for each
+     *         transmitted byte, false if {@link SerialDataListener#onDataTransmitted(java.nio.ByteBuffer)}
+     *         is dispatched once per batch.
+     */
+    public boolean isPerByteTransmissionNotified() {
+        return perByteTransmissionNotified;
+    }
+
+    /**
+     * Opts in for notifying the transmitted data byte-by-byte using {@link SerialDataListener#onDataTransmitted(int)}
+     * instead of notifying once per batch, default value is "false".
+     *
+     * @param perByteTransmissionNotified true to notify each transmitted byte, false to notify each batch
+     */
+    public void setPerByteTransmissionNotified(final boolean perByteTransmissionNotified) {
+        this.perByteTransmissionNotified = perByteTransmissionNotified;
+    }
+
+    /**
+     * Tests whether the read entity has stopped draining the serial port.
+     *
+     * @return true if the reads are suspended, default value is "false"
+     */
+    public boolean isReadSuspended() {
+        return readSuspended;
+    }
+
+    /**
+     * Suspends or resumes draining the serial port by the read entity, while suspended the received
+     * data is retained in the terminal input queue, and the monitor thread idles until the reads are resumed,
+     * a capsule is added or the monitor is terminated.
+     *
+     * <p>
+     * This is used by the consumers applying backpressure on the received data, e.g: {@link SerialFlow}.
+     * </p>
+     *
+     * @param readSuspended true to suspend the reads, false to resume them
+     */
+    public void setReadSuspended(final boolean readSuspended) {
+        this.readSuspended = readSuspended;
+        if (readSuspended) {
+            return;
+        }
+        if (serialReactor != null) {
+            serialReactor.requestRead(this);
+        } else {
+            wakeup();
+        }
+    }
+
+    /**
+     * Tests whether the monitor thread and the pipeline threads are virtual threads.
+     *
+     * @return true if the virtual threads are enabled, default value is "false"
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    /**
+     * Runs the monitor thread and the {@link SerialPipeline} threads on virtual threads, this should be
+     * set before starting the data monitoring.
+     *
+     * <p>
+     * The virtual monitor thread awaits the port using {@link TerminalDevice#awaitReadableParking(long)},
+     * so an idle monitor does not pin a carrier thread, and thousands of monitors can be run on few platform threads.
+     * The pipeline should use {@link com.serial4j.util.concurrent.WaitStrategy#PARK} as the spinning strategies
+     * occupy the carrier threads.
+     * </p>
+     *
+     * @param virtualThreadsEnabled true to run the monitor on virtual threads, false to run it on platform threads
+     * @throws UnsupportedOperationException if the current runtime does not support the virtual threads
+     */
+    public void setVirtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+        if (virtualThreadsEnabled && !VirtualThreads.isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this runtime!");
+        }
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+    }
+
+    /**
+     * Retrieves the pipeline decoding and dispatching the received data off the read entity.
+     *
+     * @return the serial pipeline instance, or null if the data is dispatched inline by the read entity
+     */
+    public SerialPipeline getSerialPipeline() {
+        return serialPipeline;
+    }
+
+    /**
+     * Sets a pipeline to decode and dispatch the received data on separate threads, so the read entity
+     * only drains the port, this should be set before starting the data monitoring.
+     *
+     * @param serialPipeline a new serial pipeline instance, or null to dispatch the data inline by the read entity
+     */
+    public void setSerialPipeline(final SerialPipeline serialPipeline) {
+        this.serialPipeline = serialPipeline;
+    }
+
+    /**
+     * Retrieves the recorder capturing the received and the transmitted data of this monitor.
+     *
+     * @return the serial recorder instance, or null if the data is not recorded
+     */
+    public SerialRecorder getSerialRecorder() {
+        return serialRecorder;
+    }
+
+    /**
+     * Retrieves the port id of the records captured from this monitor.
+     *
+     * @return the port id assigned by {@link SerialMonitor#setSerialRecorder(SerialRecorder, int)}
+     */
+    public int getRecorderPortId() {
+        return recorderPortId;
+    }
+
+    /**
+     * Sets a recorder to capture the received data chunks as read by the read entity, and
+     * the transmitted data batches as written by the write entity, the recorder is not closed
+     * by this monitor.
+     *
+     * @param serialRecorder a serial recorder instance, or null to stop recording
+     * @param portId         the id identifying the records of this monitor in the range [0, 65535]
+     */
+    public void setSerialRecorder(final SerialRecorder serialRecorder, final int portId) {
+        if (portId < 0 || portId > 0xFFFF) {
+            throw new IllegalArgumentException("Port id must be in the range [0, 65535]!");
+        }
+        this.recorderPortId = portId;
+        this.serialRecorder = serialRecorder;
+    }
+
+    /**
+     * Retrieves the frame decoder splitting the received data into data frames, the default
+     * decoder splits the data at the return carriage/newline [\n\r] retaining the delimiter.
+     *
+     * @return the frame decoder of the read entity
+     */
+    public FrameDecoder getFrameDecoder() {
+        return frameDecoder;
+    }
+
+    /**
+     * Sets the frame decoder splitting the received data into data frames dispatched at
+     * {@link SerialDataListener#onFrameReceived(java.nio.ByteBuffer)}, this should be set before
+     * starting the data monitoring, as the decoder is used by the read entity only.
+     *
+     * @param frameDecoder the frame decoder, e.g: {@link com.serial4j.core.serial.frame.SlipFrameDecoder}
+     */
+    public void setFrameDecoder(final FrameDecoder frameDecoder) {
+        if (frameDecoder == null) {
+            throw new IllegalArgumentException("Frame decoder cannot be null!");
+        }
+        this.frameDecoder = frameDecoder;
     }
 
     /**
@@ -272,7 +656,7 @@ public class SerialMonitor {
     }
 
     /**
-     * Tests whether `CR/LF` check is enabled. Default value is "true".
+     * Tests whether the data framing is enabled. Default value is "true".
      *
      * <p>
      * Note:
@@ -287,11 +671,11 @@ public class SerialMonitor {
     }
 
     /**
-     * Triggers the `CR/LF` check state flag. Default value is "true".
+     * Triggers the data framing state flag. Default value is "true".
      *
-     * @param processLinefeedCarriageReturn true to enable `CR/LF` and return data frames
-     *                          at {@link SerialDataListener#onDataReceived(String)}, false to disable
-     *                          both the `CR/LF` check and disable {@link SerialDataListener#onDataReceived(String)}.
+     * @param processLinefeedCarriageReturn true to split the data using the {@link SerialMonitor#getFrameDecoder()}
+     *                          and return data frames at {@link SerialDataListener#onFrameReceived(java.nio.ByteBuffer)},
+     *                          false to disable both the data framing and {@link SerialDataListener#onFrameReceived(java.nio.ByteBuffer)}.
      */
     public void setProcessLinefeedCarriageReturn(boolean processLinefeedCarriageReturn) {
         this.processLinefeedCarriageReturn = processLinefeedCarriageReturn;
@@ -314,4 +698,53 @@ public class SerialMonitor {
     public void setSerialDataListener(final SerialDataListener serialDataListener) {
         this.serialDataListener = serialDataListener;
     }
+
+    /**
+     * Holds the raw terminal flags applied on each start of data monitoring, the masks are computed
+     * once on the first start, after the native flag constants are loaded.
+     */
+    private static final class TerminalFlags {
+
+        /**
+         * 8-bits characters, ignore the modem status lines and enable the receiver.
+         */
+        static final int CONTROL = AppendableFlag.mask(
+                TerminalControlFlag.CLOCAL,
+                TerminalControlFlag.CSIZE,
+                TerminalControlFlag.MaskBits.CS8,
+                TerminalControlFlag.CREAD
+        );
+
+        /**
+         * Raw input, the echo, the canonical mode, the signals and the extended input processing are disabled.
+         */
+        static final int LOCAL = AppendableFlag.clear(0,
+                TerminalLocalFlag.ECHO,
+                TerminalLocalFlag.ECHOK,
+                TerminalLocalFlag.ECHOE,
+                TerminalLocalFlag.ECHOKE,
+                TerminalLocalFlag.ECHONL,
+                TerminalLocalFlag.ECHOPRT,
+                TerminalLocalFlag.ECHOCTL,
+                TerminalLocalFlag.ISIG,
+                TerminalLocalFlag.IEXTEN,
+                TerminalLocalFlag.ICANON
+        );
+
+        /**
+         * Raw output, the output processing is disabled.
+         */
+        static final int OUTPUT = AppendableFlag.clear(0,
+                TerminalOutputFlag.OPOST,
+                TerminalOutputFlag.ONLCR
+        );
+
+        /**
+         * No input processing.
+         */
+        static final int INPUT = 0;
+
+        private TerminalFlags() {
+        }
+    }
 }
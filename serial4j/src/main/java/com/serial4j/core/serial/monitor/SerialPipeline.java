@@ -0,0 +1,355 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.serial.monitor;
+
+import com.serial4j.core.serial.FrameBuffer;
+import com.serial4j.core.serial.FrameDecoder;
+import com.serial4j.core.serial.FrameOverflowException;
+import com.serial4j.core.serial.capture.SerialRecorder;
+import com.serial4j.core.serial.entity.EntityStatus;
+import com.serial4j.core.serial.entity.impl.SerialReadEntity;
+import com.serial4j.util.concurrent.Sequence;
+import com.serial4j.util.concurrent.WaitStrategy;
+import com.serial4j.util.metrics.SerialMetrics;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A ring buffer pipeline decoupling the serial port drain from the decoding and the dispatching
+ * of the {@link SerialDataListener}.
+ *
+ * <p>
+ * The pipeline is composed of 3 stages over a ring of preallocated chunks:
+ * </p>
+ * <ul>
+ * <li> The reader stage: the {@link SerialReadEntity} only drains the port into the next free chunks. </li>
+ * <li> The decode stage: a consumer thread splits the published chunks into data frames using the
+ * {@link SerialMonitor#getFrameDecoder()}. </li>
+ * <li> The dispatch stage: a consumer thread dispatches the chunks and their frames to the
+ * {@link SerialMonitor#getSerialDataListener()}, and releases the chunks to the reader stage. </li>
+ * </ul>
+ *
+ * <p>
+ * Each stage publishes its progress on a {@link Sequence}, and waits on the sequence of the stage preceding it
+ * using the {@link WaitStrategy}, the reader stage waits on the dispatch stage only when the ring is full;
+ * so a slow listener never stalls the port drain until the whole ring is occupied.
+ * </p>
+ *
+ * <p>
+ * Note: a pipeline is started once by {@link SerialMonitor#startDataMonitoring(String, com.serial4j.core.terminal.control.BaudRate,
+ * com.serial4j.core.terminal.FilePermissions)}, and is halted when the monitor is terminated, the chunks that are not
+ * dispatched yet are dropped.
+ * </p>
+ *
+ * @author pavl_g
+ * @see SerialMonitor#setSerialPipeline(SerialPipeline)
+ */
+public final class SerialPipeline {
+
+    /**
+     * The default number of the chunks in the ring.
+     */
+    public static final int DEFAULT_RING_SIZE = 256;
+
+    /**
+     * The default chunk size in bytes.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private final int ringSize;
+    private final int mask;
+    private final int chunkSize;
+    private final Chunk[] ring;
+    private final WaitStrategy waitStrategy;
+    private final Sequence cursor = new Sequence(-1);
+    private final Sequence decodeSequence = new Sequence(-1);
+    private final Sequence dispatchSequence = new Sequence(-1);
+    private volatile boolean halted;
+    private volatile SerialMonitor serialMonitor;
+
+    /**
+     * Instantiates a pipeline with a preallocated ring of chunks.
+     *
+     * @param ringSize     the number of the chunks, rounded up to the next power of two
+     * @param chunkSize    the maximum number of bytes drained into a single chunk
+     * @param waitStrategy the strategy of the stages waiting for each other
+     */
+    public SerialPipeline(final int ringSize, final int chunkSize, final WaitStrategy waitStrategy) {
+        if (ringSize <= 0 || ringSize > (1 << 20)) {
+            throw new IllegalArgumentException("Ring size must be in the range (0, 2^20]!");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive!");
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("Wait strategy cannot be null!");
+        }
+        this.ringSize = 1 << (32 - Integer.numberOfLeadingZeros(ringSize - 1));
+        this.mask = this.ringSize - 1;
+        this.chunkSize = chunkSize;
+        this.waitStrategy = waitStrategy;
+        this.ring = new Chunk[this.ringSize];
+        for (int i = 0; i < this.ringSize; i++) {
+            ring[i] = new Chunk(chunkSize);
+        }
+    }
+
+    /**
+     * Instantiates a pipeline with the default ring size and chunk size, parking the idle stages.
+     */
+    public SerialPipeline() {
+        this(DEFAULT_RING_SIZE, DEFAULT_CHUNK_SIZE, WaitStrategy.PARK);
+    }
+
+    /**
+     * Starts the decode and the dispatch stages for a monitor.
+     *
+     * @param serialMonitor the monitor whose read entity feeds this pipeline
+     * @throws IllegalStateException if this pipeline has been started before
+     */
+    synchronized void start(final SerialMonitor serialMonitor) {
+        if (this.serialMonitor != null) {
+            throw new IllegalStateException("Serial pipeline has already been started!");
+        }
+        this.serialMonitor = serialMonitor;
+        final String name = serialMonitor.getMonitorName();
+        serialMonitor.newThread(this::decodeStage, name + "-pipeline-decode").start();
+        serialMonitor.newThread(this::dispatchStage, name + "-pipeline-dispatch").start();
+    }
+
+    /**
+     * Halts all the stages of this pipeline, a reader waiting for a free chunk is released.
+     */
+    public void halt() {
+        halted = true;
+    }
+
+    /**
+     * Tests whether this pipeline has been halted.
+     *
+     * @return true if the pipeline is halted, false otherwise
+     */
+    public boolean isHalted() {
+        return halted;
+    }
+
+    /**
+     * Drains the available data of a stream into the free chunks of the ring, this is
+     * the reader stage, and must be dispatched by a single thread at a time.
+     *
+     * @param stream the serial port input stream, only its available bytes are read
+     * @return the number of the drained bytes
+     * @throws IOException if the read operation fails
+     */
+    public long drain(final InputStream stream) throws IOException {
+        long drained = 0;
+        while (!halted) {
+            final long sequence = cursor.get() + 1;
+            /* wait for the dispatch stage to release the chunk, if the ring is full */
+            if (waitStrategy.waitFor(sequence - ringSize, dispatchSequence, this::isHalted) < sequence - ringSize) {
+                break;
+            }
+            /* the stream read blocks on an empty input queue */
+            if (stream.available() <= 0) {
+                break;
+            }
+            final Chunk chunk = ring[(int) sequence & mask];
+            final int count = stream.read(chunk.data, 0, chunkSize);
+            if (count <= 0) {
+                break;
+            }
+            chunk.length = count;
+            final SerialRecorder serialRecorder = serialMonitor.getSerialRecorder();
+            if (serialRecorder != null) {
+                serialRecorder.record(serialMonitor.getRecorderPortId(), SerialRecorder.DIRECTION_RECEIVED,
+                        chunk.data, 0, count);
+            }
+            cursor.set(sequence);
+            drained += count;
+            if (count < chunkSize) {
+                /* the input queue has been drained */
+                break;
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Retrieves the strategy of the stages waiting for each other.
+     *
+     * @return the wait strategy of this pipeline
+     */
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * Retrieves the number of the chunks in the ring.
+     *
+     * @return the ring size, a power of two
+     */
+    public int getRingSize() {
+        return ringSize;
+    }
+
+    /**
+     * Retrieves the maximum number of bytes drained into a single chunk.
+     *
+     * @return the chunk size in bytes
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Retrieves the number of the drained chunks that are not dispatched yet.
+     *
+     * @return the number of the pending chunks
+     */
+    public int getPendingChunks() {
+        return (int) (cursor.get() - dispatchSequence.get());
+    }
+
+    private void decodeStage() {
+        long next = decodeSequence.get() + 1;
+        while (!halted) {
+            final long available = waitStrategy.waitFor(next, cursor, this::isHalted);
+            for (; next <= available; next++) {
+                decode(ring[(int) next & mask]);
+            }
+            decodeSequence.set(available);
+        }
+    }
+
+    private void dispatchStage() {
+        long next = dispatchSequence.get() + 1;
+        while (!halted) {
+            final long available = waitStrategy.waitFor(next, decodeSequence, this::isHalted);
+            for (; next <= available; next++) {
+                dispatch(ring[(int) next & mask]);
+            }
+            dispatchSequence.set(available);
+        }
+    }
+
+    private void decode(final Chunk chunk) {
+        chunk.frames.clear();
+        chunk.frameCount = 0;
+        chunk.exception = null;
+        if (!serialMonitor.isProcessLinefeedCarriageReturn()) {
+            return;
+        }
+        final FrameDecoder frameDecoder = serialMonitor.getFrameDecoder();
+        for (int i = 0; i < chunk.length; i++) {
+            try {
+                if (frameDecoder.push(chunk.data[i])) {
+                    /* copy the frame, as the decoder reuses its buffer for the frames of the next chunks */
+                    chunk.frames.append(frameDecoder.getFrame());
+                    chunk.addFrameEnd(chunk.frames.length());
+                }
+            } catch (FrameOverflowException e) {
+                chunk.exception = e;
+            }
+        }
+    }
+
+    private void dispatch(final Chunk chunk) {
+        final SerialDataListener serialDataListener = serialMonitor.getSerialDataListener();
+        if (chunk.exception != null) {
+            notifyException(chunk.exception);
+        }
+        if (serialDataListener == null) {
+            return;
+        }
+        final long start = SerialMetrics.ENABLED ? System.nanoTime() : 0L;
+        try {
+            if (serialDataListener instanceof BulkSerialDataListener) {
+                chunk.view.limit(chunk.length).position(0);
+                ((BulkSerialDataListener) serialDataListener).onDataReceived(chunk.view);
+            } else {
+                for (int i = 0; i < chunk.length; i++) {
+                    serialDataListener.onDataReceived(chunk.data[i] & 0xFF);
+                }
+            }
+            int frameStart = 0;
+            for (int i = 0; i < chunk.frameCount; i++) {
+                serialDataListener.onFrameReceived(chunk.frames.view(frameStart, chunk.frameEnds[i]));
+                frameStart = chunk.frameEnds[i];
+            }
+        } catch (Exception e) {
+            /* a failing listener must not halt the pipeline */
+            notifyException(e);
+        }
+        if (SerialMetrics.ENABLED) {
+            final SerialMetrics serialMetrics = serialMonitor.getTerminalDevice().getSerialMetrics();
+            if (serialMetrics != null) {
+                serialMetrics.onDispatch(System.nanoTime() - start, chunk.frameCount);
+            }
+        }
+    }
+
+    private void notifyException(final Exception e) {
+        final EntityStatus<SerialReadEntity> entityStatus = serialMonitor.serialReadEntityEntityStatus;
+        if (entityStatus != null) {
+            entityStatus.onExceptionThrown(e);
+        }
+    }
+
+    /**
+     * A preallocated ring slot holding a drained chunk, and the data frames completed by it.
+     */
+    private static final class Chunk {
+        private final byte[] data;
+        private final ByteBuffer view;
+        private final FrameBuffer frames = new FrameBuffer(64);
+        private int length;
+        private int[] frameEnds = new int[8];
+        private int frameCount;
+        private Exception exception;
+
+        private Chunk(final int chunkSize) {
+            this.data = new byte[chunkSize];
+            this.view = ByteBuffer.wrap(data);
+        }
+
+        private void addFrameEnd(final int frameEnd) {
+            if (frameCount == frameEnds.length) {
+                final int[] grown = new int[frameEnds.length << 1];
+                System.arraycopy(frameEnds, 0, grown, 0, frameCount);
+                frameEnds = grown;
+            }
+            frameEnds[frameCount++] = frameEnd;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.serial4j.core.serial.monitor;
+
+import com.serial4j.core.serial.entity.impl.SerialWriteEntity;
+import com.serial4j.core.terminal.EventPoll;
+import com.serial4j.core.terminal.ReadConfiguration;
+import com.serial4j.core.terminal.TerminalDevice;
+import java.io.Closeable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Multiplexes the data monitoring of multiple {@link SerialMonitor}s over a single native
+ * event poll instance, the readable and writable events of the monitored ports are dispatched
+ * to the monitors entities on a small fixed pool of threads.
+ *
+ * <p>
+ * The ports are registered as one-shot events, so each monitor is dispatched by a single
+ * thread at a time; the port is re-armed after the dispatch for the readable events, and
+ * for the writable events only if the {@link SerialWriteEntity} has pending capsules.
+ * </p>
+ *
+ * <p>
+ * Use {@link SerialMonitor#setSerialReactor(SerialReactor)} before starting the data monitoring
+ * to register a monitor with a reactor instead of spawning a dedicated monitor thread.
+ * </p>
+ *
+ * @author pavl_g.
+ * @see EventPoll
+ */
+public class SerialReactor implements Closeable {
+
+    private static final Logger logger = Logger.getLogger(SerialReactor.class.getName());
+
+    private final EventPoll eventPoll;
+    private final ExecutorService dispatchers;
+    private final Thread reactorThread;
+    private final ConcurrentHashMap<Integer, Registration> registrations = new ConcurrentHashMap<>();
+    /* the monitors are looked up by identity, as closing a port clears the fd of its serial port */
+    private final ConcurrentHashMap<SerialMonitor, Registration> monitors = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /**
+     * Instantiates and starts a serial reactor.
+     *
+     * @param reactorName      the name of the reactor thread waiting on the events
+     * @param dispatchThreads  the number of the threads dispatching the monitors entities
+     */
+    public SerialReactor(final String reactorName, final int dispatchThreads) {
+        this.eventPoll = new EventPoll(64);
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.dispatchers = Executors.newFixedThreadPool(dispatchThreads,
+                (runnable) -> new Thread(runnable, reactorName + "-dispatcher-" + threadCount.incrementAndGet()));
+        this.reactorThread = new Thread(this::react, reactorName);
+        this.reactorThread.start();
+    }
+
+    /**
+     * Registers a monitor with an opened terminal device, and dispatches it for the
+     * first time to initialize its entities.
+     *
+     * <p>
+     * Note: the terminal device is switched to the {@link ReadConfiguration#POLLING_READ},
+     * so that the read entity never blocks a dispatching thread.
+     * </p>
+     *
+     * @param serialMonitor a serial monitor with an opened terminal device
+     */
+    public void register(final SerialMonitor serialMonitor) {
+        if (closed) {
+            throw new IllegalStateException("Cannot register a monitor to a closed reactor!");
+        }
+        final TerminalDevice terminalDevice = serialMonitor.getTerminalDevice();
+        terminalDevice.setReadConfigurationMode(ReadConfiguration.POLLING_READ, 0, 0);
+
+        final Registration registration =
+                new Registration(serialMonitor, terminalDevice.getSerialPort().getFd());
+        registrations.put(registration.fd, registration);
+        monitors.put(serialMonitor, registration);
+        eventPoll.register(registration.fd, getInterestEvents(registration));
+        dispatch(registration);
+    }
+
+    /**
+     * Removes a monitor from this reactor, and dispatches it for a final time
+     * to terminate its entities.
+     *
+     * @param serialMonitor a registered serial monitor
+     */
+    public void deregister(final SerialMonitor serialMonitor) {
+        final Registration registration = monitors.remove(serialMonitor);
+        if (registration == null) {
+            return;
+        }
+        registrations.remove(registration.fd, registration);
+        try {
+            eventPoll.unregister(registration.fd);
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Port " + registration.fd + " is already removed!", e);
+        }
+        dispatch(registration);
+    }
+
+    /**
+     * Re-arms a registered monitor for the writable events, dispatched when new
+     * writable capsules are added to the monitor write entity.
+     *
+     * @param serialMonitor a registered serial monitor
+     */
+    public void requestWrite(final SerialMonitor serialMonitor) {
+        final Registration registration = monitors.get(serialMonitor);
+        if (registration == null) {
+            return;
+        }
+        rearm(registration);
+    }
+
+    /**
+     * Re-arms the readable events of a registered monitor, this is dispatched after
+     * resuming the suspended reads of the monitor.
+     *
+     * @param serialMonitor a registered serial monitor
+     * @see SerialMonitor#setReadSuspended(boolean)
+     */
+    public void requestRead(final SerialMonitor serialMonitor) {
+        final Registration registration = monitors.get(serialMonitor);
+        if (registration == null) {
+            return;
+        }
+        rearm(registration);
+    }
+
+    /**
+     * Tests whether this reactor is closed.
+     *
+     * @return true if the reactor is closed, false otherwise
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Closes this reactor by stopping the reactor thread and the dispatching threads,
+     * the registered monitors are left intact and should be terminated using
+     * {@link SerialMonitor#setTerminate()} before closing the reactor.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        eventPoll.wakeup();
+        try {
+            reactorThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dispatchers.shutdown();
+        eventPoll.close();
+    }
+
+    private void react() {
+        while (!closed) {
+            final int count = eventPoll.await(-1);
+            for (int i = 0; i < count; i++) {
+                final Registration registration = registrations.get(eventPoll.getReadyFd(i));
+                if (registration != null) {
+                    dispatch(registration);
+                }
+            }
+        }
+    }
+
+    private void dispatch(final Registration registration) {
+        registration.pending.set(true);
+        /* a monitor is dispatched by one thread at a time, the running dispatch picks the pending event */
+        if (registration.dispatching.compareAndSet(false, true)) {
+            dispatchers.execute(() -> run(registration));
+        }
+    }
+
+    private void run(final Registration registration) {
+        final SerialMonitor serialMonitor = registration.serialMonitor;
+        do {
+            while (registration.pending.getAndSet(false)) {
+                try {
+                    serialMonitor.getSerialReadEntity().run();
+                    serialMonitor.getSerialWriteEntity().run();
+                    if (!serialMonitor.isTerminate()) {
+                        serialMonitor.getSerialWriteEntity().flush();
+                    }
+                } catch (Exception e) {
+                    logger.log(Level.SEVERE, "Dispatching " + serialMonitor.getMonitorName() + " has failed!", e);
+                }
+            }
+            if (!serialMonitor.isTerminate()) {
+                rearm(registration);
+            }
+            registration.dispatching.set(false);
+        } while (registration.pending.get() && registration.dispatching.compareAndSet(false, true));
+    }
+
+    private void rearm(final Registration registration) {
+        try {
+            eventPoll.modify(registration.fd, getInterestEvents(registration));
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Re-arming port " + registration.fd + " has failed!", e);
+        }
+    }
+
+    private int getInterestEvents(final Registration registration) {
+        final SerialWriteEntity serialWriteEntity = registration.serialMonitor.getSerialWriteEntity();
+        int events = EventPoll.EVENT_ONE_SHOT;
+        if (!registration.serialMonitor.isReadSuspended()) {
+            events |= EventPoll.EVENT_READABLE;
+        }
+        if (serialWriteEntity != null && serialWriteEntity.hasPendingCapsules()) {
+            events |= EventPoll.EVENT_WRITABLE;
+        }
+        return events;
+    }
+
+    /**
+     * Holds the dispatching state of a registered monitor.
+     */
+    private static final class Registration {
+        private final SerialMonitor serialMonitor;
+        private final int fd;
+        private final AtomicBoolean dispatching = new AtomicBoolean();
+        private final AtomicBoolean pending = new AtomicBoolean();
+
+        private Registration(final SerialMonitor serialMonitor, final int fd) {
+            this.serialMonitor = serialMonitor;
+            this.fd = fd;
+        }
+    }
+}
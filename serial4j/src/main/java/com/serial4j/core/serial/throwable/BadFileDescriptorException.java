@@ -56,6 +56,10 @@ public final class BadFileDescriptorException extends SerialThrowable {
         super(message);
     }
 
+    public BadFileDescriptorException(final String message, final boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
+
     @Override
     public Errno getCausingErrno() {
         return Errno.EBADFD;
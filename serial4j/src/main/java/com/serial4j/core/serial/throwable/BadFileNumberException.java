@@ -7,6 +7,10 @@ public final class BadFileNumberException extends SerialThrowable {
         super(message);
     }
 
+    public BadFileNumberException(final String message, final boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
+
     @Override
     public Errno getCausingErrno() {
         return Errno.EBADF;
@@ -41,6 +41,10 @@ public final class BrokenPipeException extends SerialThrowable {
         super(additionalText);
     }
 
+    public BrokenPipeException(final String additionalText, final boolean writableStackTrace) {
+        super(additionalText, writableStackTrace);
+    }
+
     @Override
     public Errno getCausingErrno() {
         return Errno.EPIPE;
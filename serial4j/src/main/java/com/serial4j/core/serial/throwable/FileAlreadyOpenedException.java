@@ -39,6 +39,10 @@ public final class FileAlreadyOpenedException extends SerialThrowable {
         super(additionalText);
     }
 
+    public FileAlreadyOpenedException(final String additionalText, final boolean writableStackTrace) {
+        super(additionalText, writableStackTrace);
+    }
+
     @Override
     public Errno getCausingErrno() {
         return Errno.EEXIST;
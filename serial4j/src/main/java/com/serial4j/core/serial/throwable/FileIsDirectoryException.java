@@ -39,6 +39,10 @@ public final class FileIsDirectoryException extends SerialThrowable {
         super(additionalText);
     }
 
+    public FileIsDirectoryException(final String additionalText, final boolean writableStackTrace) {
+        super(additionalText, writableStackTrace);
+    }
+
     @Override
     public Errno getCausingErrno() {
         return Errno.EISDIR;
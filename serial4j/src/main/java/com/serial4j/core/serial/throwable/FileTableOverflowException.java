@@ -39,6 +39,10 @@ public final class FileTableOverflowException extends SerialThrowable {
         super(additionalText);
     }
 
+    public FileTableOverflowException(final String additionalText, final boolean writableStackTrace) {
+        super(additionalText, writableStackTrace);
+    }
+
     @Override
     public Errno getCausingErrno() {
         return Errno.ENFILE;
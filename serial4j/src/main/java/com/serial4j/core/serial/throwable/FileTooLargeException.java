@@ -7,6 +7,10 @@ public class FileTooLargeException extends SerialThrowable {
     public FileTooLargeException(final String additionalText) {
         super(additionalText);
     }
+
+    public FileTooLargeException(final String additionalText, final boolean writableStackTrace) {
+        super(additionalText, writableStackTrace);
+    }
     
     @Override
     public Errno getCausingErrno() {
@@ -57,6 +57,10 @@ public class IllegalSeekException extends SerialThrowable {
         super(message);
     }
 
+    public IllegalSeekException(final String message, final boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
+
     @Override
     public Errno getCausingErrno() {
         return Errno.ESPIPE;
@@ -7,6 +7,10 @@ public class InputOutputException extends SerialThrowable {
     public InputOutputException(final String additionalText) {
         super(additionalText);
     }
+
+    public InputOutputException(final String additionalText, final boolean writableStackTrace) {
+        super(additionalText, writableStackTrace);
+    }
     
     @Override
     public Errno getCausingErrno() {
@@ -7,6 +7,10 @@ public class InterruptedSystemCallException extends SerialThrowable {
     public InterruptedSystemCallException(final String additionalText) {
         super(additionalText);
     }
+
+    public InterruptedSystemCallException(final String additionalText, final boolean writableStackTrace) {
+        super(additionalText, writableStackTrace);
+    }
     
     @Override
     public Errno getCausingErrno() {
@@ -7,6 +7,10 @@ public class InvalidArgumentException extends SerialThrowable {
     public InvalidArgumentException(final String additionalText) {
         super(additionalText);
     }
+
+    public InvalidArgumentException(final String additionalText, final boolean writableStackTrace) {
+        super(additionalText, writableStackTrace);
+    }
     
     @Override
     public Errno getCausingErrno() {
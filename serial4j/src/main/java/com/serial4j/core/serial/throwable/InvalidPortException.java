@@ -39,6 +39,10 @@ public final class InvalidPortException extends SerialThrowable {
         super(portName);
     }
 
+    public InvalidPortException(final String portName, final boolean writableStackTrace) {
+        super(portName, writableStackTrace);
+    }
+
     @Override
     public Errno getCausingErrno() {
         return Errno.ERR_INVALID_PORT;
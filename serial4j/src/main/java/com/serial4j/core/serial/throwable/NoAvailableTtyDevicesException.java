@@ -38,6 +38,10 @@ public class NoAvailableTtyDevicesException extends SerialThrowable {
     public NoAvailableTtyDevicesException(final String additionalText) {
         super(additionalText);
     }
+
+    public NoAvailableTtyDevicesException(final String additionalText, final boolean writableStackTrace) {
+        super(additionalText, writableStackTrace);
+    }
     
     @Override
     public Errno getCausingErrno() {
@@ -38,6 +38,10 @@ public class NoSpaceLeftException extends SerialThrowable {
     public NoSpaceLeftException(final String additionalText) {
         super(additionalText);
     }
+
+    public NoSpaceLeftException(final String additionalText, final boolean writableStackTrace) {
+        super(additionalText, writableStackTrace);
+    }
     
     @Override
     public Errno getCausingErrno() {
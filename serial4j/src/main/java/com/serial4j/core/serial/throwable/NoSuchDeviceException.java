@@ -38,6 +38,10 @@ public final class NoSuchDeviceException extends SerialThrowable {
     public NoSuchDeviceException(final String additionalText) {
         super(additionalText);
     }
+
+    public NoSuchDeviceException(final String additionalText, final boolean writableStackTrace) {
+        super(additionalText, writableStackTrace);
+    }
     
     @Override
     public Errno getCausingErrno() {
@@ -38,6 +38,10 @@ public final class NoSuchFileException extends SerialThrowable {
     public NoSuchFileException(final String additionalText) {
         super(additionalText);
     }
+
+    public NoSuchFileException(final String additionalText, final boolean writableStackTrace) {
+        super(additionalText, writableStackTrace);
+    }
     
     @Override
     public Errno getCausingErrno() {
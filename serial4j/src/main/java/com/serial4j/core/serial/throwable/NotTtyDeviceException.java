@@ -38,6 +38,10 @@ public final class NotTtyDeviceException extends SerialThrowable {
     public NotTtyDeviceException(final String additionalText) {
         super(additionalText);
     }
+
+    public NotTtyDeviceException(final String additionalText, final boolean writableStackTrace) {
+        super(additionalText, writableStackTrace);
+    }
     
     @Override
     public Errno getCausingErrno() {
@@ -13,6 +13,10 @@ public final class OperationFailedException extends SerialThrowable {
         super(message);
     }
 
+    public OperationFailedException(final String message, final boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
+
     @Override
     public Errno getCausingErrno() {
         return Errno.ERR_OPERATION_FAILED;
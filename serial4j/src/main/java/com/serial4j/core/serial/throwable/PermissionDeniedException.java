@@ -53,6 +53,10 @@ public class PermissionDeniedException extends SerialThrowable {
         super(additionalText);
     }
 
+    public PermissionDeniedException(final String additionalText, final boolean writableStackTrace) {
+        super(additionalText, writableStackTrace);
+    }
+
     @Override
     public Errno getCausingErrno() {
         return Errno.EACCES;
@@ -38,6 +38,10 @@ public final class ReadOnlyFileSystemException extends SerialThrowable {
     public ReadOnlyFileSystemException(final String additionalText) {
         super(additionalText);
     }
+
+    public ReadOnlyFileSystemException(final String additionalText, final boolean writableStackTrace) {
+        super(additionalText, writableStackTrace);
+    }
     
     @Override
     public Errno getCausingErrno() {
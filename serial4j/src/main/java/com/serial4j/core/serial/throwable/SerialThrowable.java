@@ -50,6 +50,18 @@ public abstract class SerialThrowable extends RuntimeException {
         super(message);
     }
 
+    /**
+     * Provides the abstract runtime throwable exception with an option to
+     * skip filling the stack trace, the stackless exceptions are cheap to
+     * create and are used for the frequent transient errors, e.g. "EAGAIN" and "EINTR".
+     *
+     * @param message            a message to pass
+     * @param writableStackTrace false to skip filling the stack trace and the suppression
+     */
+    protected SerialThrowable(final String message, final boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+    }
+
     /**
      * Gets the causing error code.
      *
@@ -38,6 +38,10 @@ public final class TooManyOpenedFilesException extends SerialThrowable {
     public TooManyOpenedFilesException(final String additionalText) {
         super(additionalText);
     }
+
+    public TooManyOpenedFilesException(final String additionalText, final boolean writableStackTrace) {
+        super(additionalText, writableStackTrace);
+    }
     
     @Override
     public Errno getCausingErrno() {
@@ -38,6 +38,10 @@ public final class TryAgainException extends SerialThrowable {
     public TryAgainException(final String additionalText) {
         super(additionalText);
     }
+
+    public TryAgainException(final String additionalText, final boolean writableStackTrace) {
+        super(additionalText, writableStackTrace);
+    }
     
     @Override
     public Errno getCausingErrno() {
@@ -0,0 +1,394 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.terminal;
+
+import com.serial4j.core.serial.throwable.InvalidPortException;
+import com.serial4j.core.serial.throwable.SerialThrowable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.ReadPendingException;
+import java.nio.channels.WritePendingException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Represents an asynchronous NIO byte channel view of an opened terminal device.
+ *
+ * <p>
+ * The pending operations are registered with a single event poll "epoll(7)" shared by all the
+ * asynchronous terminal channels, and monitored by a single daemon thread; once the device becomes
+ * ready, the operation is dispatched on the executor of the channel, which then dispatches the
+ * completion handler, so no thread is blocked on an idle device.
+ * </p>
+ *
+ * <p>
+ * Note: a single read and a single write can be pending at a time, as specified by
+ * {@link AsynchronousByteChannel}; the terminal device should be configured with the
+ * {@link ReadConfiguration#POLLING_READ} mode, so the executor threads are never blocked natively.
+ * </p>
+ *
+ * @author pavl_g
+ * @see TerminalDevice#newAsynchronousChannel(Executor)
+ * @see EventPoll
+ */
+public final class AsynchronousTerminalChannel implements AsynchronousByteChannel {
+
+    private static final Logger LOGGER = Logger.getLogger(AsynchronousTerminalChannel.class.getName());
+
+    private final TerminalDevice terminalDevice;
+    private final Executor executor;
+    private final int fd;
+    private final Object stateLock = new Object();
+    private Operation<?> pendingRead;
+    private Operation<?> pendingWrite;
+    private boolean registered;
+    private volatile boolean open = true;
+
+    /**
+     * Instantiates an asynchronous byte channel view of an opened terminal device.
+     *
+     * @param terminalDevice an opened terminal device
+     * @param executor       the executor performing the ready operations, and dispatching their completion handlers
+     */
+    AsynchronousTerminalChannel(final TerminalDevice terminalDevice, final Executor executor) {
+        if (terminalDevice.getSerialPort() == null) {
+            throw new InvalidPortException("Bad serial port!");
+        }
+        this.terminalDevice = terminalDevice;
+        this.executor = Objects.requireNonNull(executor);
+        this.fd = terminalDevice.getSerialPort().getFd();
+    }
+
+    @Override
+    public <A> void read(final ByteBuffer dst, final A attachment,
+                         final CompletionHandler<Integer, ? super A> handler) {
+        Objects.requireNonNull(handler);
+        if (dst.isReadOnly()) {
+            throw new IllegalArgumentException("Read-only buffer");
+        }
+        final Operation<A> operation = new Operation<>(true, dst, attachment, handler);
+        synchronized (stateLock) {
+            if (pendingRead != null) {
+                throw new ReadPendingException();
+            }
+            if (open) {
+                pendingRead = operation;
+                arm();
+                return;
+            }
+        }
+        executor.execute(() -> handler.failed(new ClosedChannelException(), attachment));
+    }
+
+    @Override
+    public Future<Integer> read(final ByteBuffer dst) {
+        final CompletableFuture<Integer> future = new CompletableFuture<>();
+        read(dst, future, FutureHandler.INSTANCE);
+        return future;
+    }
+
+    @Override
+    public <A> void write(final ByteBuffer src, final A attachment,
+                          final CompletionHandler<Integer, ? super A> handler) {
+        Objects.requireNonNull(handler);
+        final Operation<A> operation = new Operation<>(false, src, attachment, handler);
+        synchronized (stateLock) {
+            if (pendingWrite != null) {
+                throw new WritePendingException();
+            }
+            if (open) {
+                pendingWrite = operation;
+                arm();
+                return;
+            }
+        }
+        executor.execute(() -> handler.failed(new ClosedChannelException(), attachment));
+    }
+
+    @Override
+    public Future<Integer> write(final ByteBuffer src) {
+        final CompletableFuture<Integer> future = new CompletableFuture<>();
+        write(src, future, FutureHandler.INSTANCE);
+        return future;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Closes this channel and its terminal device, the pending operations are failed
+     * with {@link AsynchronousCloseException}.
+     *
+     * @throws IOException if the device has failed to close
+     */
+    @Override
+    public void close() throws IOException {
+        final Operation<?> read;
+        final Operation<?> write;
+        synchronized (stateLock) {
+            if (!open) {
+                return;
+            }
+            open = false;
+            read = pendingRead;
+            write = pendingWrite;
+            pendingRead = null;
+            pendingWrite = null;
+            if (registered) {
+                registered = false;
+                Poller.INSTANCE.unregister(fd);
+            }
+        }
+        if (read != null && !read.dispatched) {
+            executor.execute(() -> read.fail(new AsynchronousCloseException()));
+        }
+        if (write != null && !write.dispatched) {
+            executor.execute(() -> write.fail(new AsynchronousCloseException()));
+        }
+        try {
+            terminalDevice.closePort();
+        } catch (final SerialThrowable e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Registers or re-arms this channel with the events of the operations waiting for readiness,
+     * must be dispatched while holding the state lock.
+     */
+    private void arm() {
+        int events = 0;
+        if (pendingRead != null && !pendingRead.dispatched) {
+            events |= EventPoll.EVENT_READABLE;
+        }
+        if (pendingWrite != null && !pendingWrite.dispatched) {
+            events |= EventPoll.EVENT_WRITABLE;
+        }
+        if (events == 0) {
+            return;
+        }
+        if (registered) {
+            Poller.INSTANCE.modify(fd, events | EventPoll.EVENT_ONE_SHOT);
+        } else {
+            Poller.INSTANCE.register(this, fd, events | EventPoll.EVENT_ONE_SHOT);
+            registered = true;
+        }
+    }
+
+    /**
+     * Dispatches the operations of the ready events on the executor, the one-shot registration
+     * is disabled by the event poll, and re-armed for the operations that are still waiting.
+     *
+     * @param events the bit mask of the ready events
+     */
+    private void onReady(final int events) {
+        final boolean failed = (events & (EventPoll.EVENT_ERROR | EventPoll.EVENT_HANGUP)) != 0;
+        synchronized (stateLock) {
+            if (!open) {
+                return;
+            }
+            if (pendingRead != null && !pendingRead.dispatched
+                    && (failed || (events & EventPoll.EVENT_READABLE) != 0)) {
+                dispatch(pendingRead, failed);
+            }
+            if (pendingWrite != null && !pendingWrite.dispatched
+                    && (failed || (events & EventPoll.EVENT_WRITABLE) != 0)) {
+                dispatch(pendingWrite, failed);
+            }
+            arm();
+        }
+    }
+
+    private void dispatch(final Operation<?> operation, final boolean failed) {
+        operation.dispatched = true;
+        executor.execute(() -> perform(operation, failed));
+    }
+
+    private void perform(final Operation<?> operation, final boolean failed) {
+        final int bytes;
+        try {
+            bytes = operation.read ? (int) terminalDevice.read(operation.buffer)
+                    : (int) terminalDevice.write(operation.buffer);
+        } catch (final SerialThrowable e) {
+            complete(operation);
+            if (open) {
+                operation.fail(new IOException(e));
+            } else {
+                final AsynchronousCloseException closeException = new AsynchronousCloseException();
+                closeException.initCause(e);
+                operation.fail(closeException);
+            }
+            return;
+        }
+        if (bytes == 0 && operation.buffer.hasRemaining()) {
+            if (operation.read && failed) {
+                /* a hang up with no data left is the end of stream */
+                complete(operation);
+                operation.complete(-1);
+                return;
+            }
+            /* a spurious readiness, wait for the next event */
+            synchronized (stateLock) {
+                if (open) {
+                    operation.dispatched = false;
+                    arm();
+                    return;
+                }
+            }
+            operation.fail(new AsynchronousCloseException());
+            return;
+        }
+        complete(operation);
+        operation.complete(bytes);
+    }
+
+    /**
+     * Releases a completed operation, so a subsequent operation can be initiated
+     * from within the completion handler.
+     */
+    private void complete(final Operation<?> operation) {
+        synchronized (stateLock) {
+            if (pendingRead == operation) {
+                pendingRead = null;
+            } else if (pendingWrite == operation) {
+                pendingWrite = null;
+            }
+        }
+    }
+
+    /**
+     * Represents a pending read or write operation.
+     *
+     * @param <A> the type of the attachment
+     */
+    private static final class Operation<A> {
+        private final boolean read;
+        private final ByteBuffer buffer;
+        private final A attachment;
+        private final CompletionHandler<Integer, ? super A> handler;
+        /* guarded by the state lock */
+        private boolean dispatched;
+
+        Operation(final boolean read, final ByteBuffer buffer, final A attachment,
+                  final CompletionHandler<Integer, ? super A> handler) {
+            this.read = read;
+            this.buffer = buffer;
+            this.attachment = attachment;
+            this.handler = handler;
+        }
+
+        void complete(final int result) {
+            handler.completed(result, attachment);
+        }
+
+        void fail(final Throwable throwable) {
+            handler.failed(throwable, attachment);
+        }
+    }
+
+    /**
+     * Adapts the completion handlers to the futures of the future based operations.
+     */
+    private static final class FutureHandler implements CompletionHandler<Integer, CompletableFuture<Integer>> {
+        private static final FutureHandler INSTANCE = new FutureHandler();
+
+        @Override
+        public void completed(final Integer result, final CompletableFuture<Integer> future) {
+            future.complete(result);
+        }
+
+        @Override
+        public void failed(final Throwable throwable, final CompletableFuture<Integer> future) {
+            future.completeExceptionally(throwable);
+        }
+    }
+
+    /**
+     * The event poll thread shared by all the asynchronous terminal channels, started
+     * lazily when the first channel is registered.
+     */
+    private static final class Poller implements Runnable {
+        private static final Poller INSTANCE = new Poller();
+        private final EventPoll eventPoll = new EventPoll(64);
+        private final Map<Integer, AsynchronousTerminalChannel> channels = new ConcurrentHashMap<>();
+
+        private Poller() {
+            final Thread thread = new Thread(this, "serial4j-terminal-poller");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        void register(final AsynchronousTerminalChannel channel, final int fd, final int events) {
+            channels.put(fd, channel);
+            eventPoll.register(fd, events);
+        }
+
+        void modify(final int fd, final int events) {
+            eventPoll.modify(fd, events);
+        }
+
+        void unregister(final int fd) {
+            channels.remove(fd);
+            eventPoll.unregister(fd);
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                try {
+                    final int count = eventPoll.await(-1);
+                    for (int i = 0; i < count; i++) {
+                        final AsynchronousTerminalChannel channel = channels.get(eventPoll.getReadyFd(i));
+                        if (channel != null) {
+                            channel.onReady(eventPoll.getReadyEvents(i));
+                        }
+                    }
+                } catch (final RuntimeException e) {
+                    LOGGER.log(Level.SEVERE, "Terminal poller failure", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.terminal;
+
+import java.io.FileDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.channels.Channel;
+
+/**
+ * Retrieves the native file descriptors of the JDK channels, so the data can be transferred
+ * to them natively by {@link TerminalDevice#transferTo(java.nio.channels.WritableByteChannel, long)}.
+ *
+ * <p>
+ * The JDK doesn't expose the file descriptors of its channels, they are retrieved reflectively,
+ * which requires the JVM options "--add-opens java.base/sun.nio.ch=ALL-UNNAMED" and
+ * "--add-opens java.base/java.io=ALL-UNNAMED"; if they are not accessible, the descriptors
+ * are reported as unavailable.
+ * </p>
+ *
+ * @author pavl_g
+ */
+final class ChannelDescriptors {
+
+    private static final Field FD_FIELD = findFdField();
+
+    private ChannelDescriptors() {
+    }
+
+    /**
+     * Retrieves the native file descriptor of a channel.
+     *
+     * @param channel a file channel, a socket channel or a pipe sink channel
+     * @return the native file descriptor, or (-1) if it is unavailable
+     */
+    static int getFd(final Channel channel) {
+        if (FD_FIELD == null) {
+            return -1;
+        }
+        try {
+            /* the selectable channels implement "sun.nio.ch.SelChImpl#getFDVal()" */
+            final Method getFdValue = findMethod(channel.getClass(), "getFDVal");
+            if (getFdValue != null) {
+                return (int) getFdValue.invoke(channel);
+            }
+            final Field descriptorField = findField(channel.getClass(), "fd");
+            if (descriptorField == null) {
+                return -1;
+            }
+            final Object descriptor = descriptorField.get(channel);
+            return descriptor instanceof FileDescriptor ? FD_FIELD.getInt(descriptor) : -1;
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    private static Field findFdField() {
+        try {
+            final Field field = FileDescriptor.class.getDeclaredField("fd");
+            field.setAccessible(true);
+            return field;
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Method findMethod(final Class<?> clazz, final String name) {
+        for (Class<?> type = clazz; type != null; type = type.getSuperclass()) {
+            try {
+                final Method method = type.getDeclaredMethod(name);
+                method.setAccessible(true);
+                return method;
+            } catch (final NoSuchMethodException e) {
+                /* look up the super class */
+            }
+        }
+        return null;
+    }
+
+    private static Field findField(final Class<?> clazz, final String name) {
+        for (Class<?> type = clazz; type != null; type = type.getSuperclass()) {
+            try {
+                final Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                return field;
+            } catch (final NoSuchFieldException e) {
+                /* look up the super class */
+            }
+        }
+        return null;
+    }
+}
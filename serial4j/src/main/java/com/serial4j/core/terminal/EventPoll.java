@@ -0,0 +1,240 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.terminal;
+
+import com.serial4j.core.errno.Errno;
+import com.serial4j.core.errno.ErrnoToException;
+import com.serial4j.core.serial.throwable.InvalidPortException;
+import java.io.Closeable;
+
+/**
+ * Monitors multiple terminal devices for I/O readiness using a single native
+ * event poll instance "epoll(7)".
+ *
+ * <p>
+ * A wakeup event file descriptor is registered internally, so a thread blocked
+ * in {@link EventPoll#await(int)} can be woken up by other threads using
+ * {@link EventPoll#wakeup()}; the wakeup events are consumed internally and
+ * are never reported as ready events.
+ * </p>
+ *
+ * <p>
+ * Note: the {@link EventPoll#await(int)} and the ready events getters must be dispatched
+ * from a single thread, the registration methods are safe to be dispatched from any thread.
+ * </p>
+ *
+ * @author pavl_g
+ * @see NativeEventPoll
+ */
+public final class EventPoll implements Closeable {
+
+    /**
+     * The associated device is available for read operations.
+     */
+    public static final int EVENT_READABLE = NativeEventPoll.getReadableEvent();
+
+    /**
+     * The associated device is available for write operations.
+     */
+    public static final int EVENT_WRITABLE = NativeEventPoll.getWritableEvent();
+
+    /**
+     * An error condition happened on the associated device, always reported.
+     */
+    public static final int EVENT_ERROR = NativeEventPoll.getErrorEvent();
+
+    /**
+     * A hang up happened on the associated device, always reported.
+     */
+    public static final int EVENT_HANGUP = NativeEventPoll.getHangupEvent();
+
+    /**
+     * Disables the associated device after reporting an event, the device
+     * must be re-armed using {@link EventPoll#modify(int, int)}.
+     */
+    public static final int EVENT_ONE_SHOT = NativeEventPoll.getOneShotEvent();
+
+    private final int epfd;
+    private final int wakeupFd;
+    private final int[] readyFds;
+    private final int[] readyEvents;
+    private int readyCount;
+
+    /**
+     * Creates a new event poll instance.
+     *
+     * @param capacity the maximum number of the ready devices retrieved by a single await
+     */
+    public EventPoll(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Event poll capacity must be positive!");
+        }
+        this.readyFds = new int[capacity];
+        this.readyEvents = new int[capacity];
+        this.epfd = NativeEventPoll.create();
+        if (epfd < 0) {
+            ErrnoToException.throwFromErrno(NativeEventPoll.getErrno());
+        }
+        this.wakeupFd = NativeEventPoll.createWakeup();
+        if (wakeupFd < 0) {
+            final int errno = NativeEventPoll.getErrno();
+            NativeEventPoll.close(epfd);
+            ErrnoToException.throwFromErrno(errno);
+        }
+        checkReturn(NativeEventPoll.add(epfd, wakeupFd, EVENT_READABLE));
+    }
+
+    /**
+     * Registers a terminal device with the events of interest.
+     *
+     * @param terminalDevice an opened terminal device
+     * @param events         the bit mask of the events of interest
+     */
+    public void register(final TerminalDevice terminalDevice, final int events) {
+        if (terminalDevice.getSerialPort() == null) {
+            throw new InvalidPortException("Bad serial port!");
+        }
+        register(terminalDevice.getSerialPort().getFd(), events);
+    }
+
+    /**
+     * Registers a file descriptor with the events of interest.
+     *
+     * @param fd     the file descriptor of an opened device
+     * @param events the bit mask of the events of interest
+     */
+    public void register(final int fd, final int events) {
+        checkReturn(NativeEventPoll.add(epfd, fd, events));
+    }
+
+    /**
+     * Changes the events of interest of a registered file descriptor, this re-arms
+     * the file descriptors registered with {@link EventPoll#EVENT_ONE_SHOT}.
+     *
+     * @param fd     the registered file descriptor
+     * @param events the new bit mask of the events of interest
+     */
+    public void modify(final int fd, final int events) {
+        checkReturn(NativeEventPoll.modify(epfd, fd, events));
+    }
+
+    /**
+     * Removes a registered file descriptor from this event poll.
+     *
+     * @param fd the registered file descriptor
+     */
+    public void unregister(final int fd) {
+        checkReturn(NativeEventPoll.remove(epfd, fd));
+    }
+
+    /**
+     * Waits for the events on the registered devices, and retains the ready devices
+     * to be retrieved by {@link EventPoll#getReadyFd(int)} and {@link EventPoll#getReadyEvents(int)}.
+     *
+     * @param timeout the maximum time to wait in milliseconds, (-1) to wait indefinitely
+     * @return the number of the ready devices, (0) for timeout, wakeup or an interrupted wait
+     */
+    public int await(final int timeout) {
+        final int count = NativeEventPoll.await(epfd, readyFds, readyEvents, readyFds.length, timeout);
+        if (count < 0) {
+            final int errno = NativeEventPoll.getErrno();
+            if (errno == Errno.EINTR.getValue()) {
+                return readyCount = 0;
+            }
+            ErrnoToException.throwFromErrno(errno);
+        }
+        /* consume the wakeup events in place */
+        readyCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (readyFds[i] == wakeupFd) {
+                NativeEventPoll.drain(wakeupFd);
+                continue;
+            }
+            readyFds[readyCount] = readyFds[i];
+            readyEvents[readyCount] = readyEvents[i];
+            readyCount++;
+        }
+        return readyCount;
+    }
+
+    /**
+     * Retrieves the file descriptor of a ready device from the last await.
+     *
+     * @param index the index of the ready device, starting from zero
+     * @return the file descriptor of the ready device
+     */
+    public int getReadyFd(final int index) {
+        return readyFds[checkReadyIndex(index)];
+    }
+
+    /**
+     * Retrieves the bit mask of the ready events of a ready device from the last await.
+     *
+     * @param index the index of the ready device, starting from zero
+     * @return the bit mask of the ready events
+     */
+    public int getReadyEvents(final int index) {
+        return readyEvents[checkReadyIndex(index)];
+    }
+
+    /**
+     * Wakes up the thread waiting on this event poll.
+     */
+    public void wakeup() {
+        NativeEventPoll.wakeup(wakeupFd);
+    }
+
+    /**
+     * Closes this event poll, the registered devices are left opened.
+     */
+    @Override
+    public void close() {
+        NativeEventPoll.close(wakeupFd);
+        NativeEventPoll.close(epfd);
+    }
+
+    private int checkReadyIndex(final int index) {
+        if (index < 0 || index >= readyCount) {
+            throw new IndexOutOfBoundsException("Ready index " + index + " out of bounds for count " + readyCount);
+        }
+        return index;
+    }
+
+    private static void checkReturn(final int returnValue) {
+        if (returnValue == Errno.ERR_INVALID_PORT.getValue()) {
+            ErrnoToException.throwFromErrno(Errno.ERR_INVALID_PORT.getValue());
+        } else if (returnValue < 0) {
+            ErrnoToException.throwFromErrno(NativeEventPoll.getErrno());
+        }
+    }
+}
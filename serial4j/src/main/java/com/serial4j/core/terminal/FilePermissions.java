@@ -59,7 +59,7 @@ public final class FilePermissions extends AppendableFlag {
      * @return a new file permission instance.
      */
     public static FilePermissions build() {
-        return (FilePermissions) AppendableFlag.build(FilePermissions.class);
+        return new FilePermissions(0, "");
     }
 
     /**
@@ -0,0 +1,169 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.terminal;
+
+import com.serial4j.core.errno.Errno;
+import com.serial4j.core.errno.ErrnoToException;
+
+/**
+ * A reusable holder of the outcome of a non-throwing terminal device I/O operation, either
+ * the number of the transferred bytes, or the native errno of the failure.
+ *
+ * <p>
+ * The non-throwing operations, e.g. {@link TerminalDevice#read(byte[], int, int, IoResult)}, fill a
+ * caller-supplied result instead of throwing, so polling loops hitting "EAGAIN" never pay the cost of
+ * creating and unwinding exceptions; a single result object should be reused by the dispatching thread.
+ * </p>
+ *
+ * <p>
+ * Note: this object is not thread-safe.
+ * </p>
+ *
+ * @author pavl_g
+ * @see TerminalDevice
+ */
+public final class IoResult {
+
+    private long bytes;
+    private int errno = Errno.OPERATION_SUCCEEDED.getValue();
+
+    /**
+     * Instantiates an empty successful result.
+     */
+    public IoResult() {
+    }
+
+    /**
+     * Retrieves the number of the transferred bytes of the last operation.
+     *
+     * @return the number of the transferred bytes, (-1) if the operation has failed
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Retrieves the native errno of the last operation.
+     *
+     * @return the native errno, {@link Errno#OPERATION_SUCCEEDED} if the operation has succeeded
+     */
+    public int getErrno() {
+        return errno;
+    }
+
+    /**
+     * Retrieves the error code constant of the last operation.
+     *
+     * @return the error code constant, or null if the native errno isn't interpretable
+     */
+    public Errno getErrnoConstant() {
+        return Errno.fromValue(errno);
+    }
+
+    /**
+     * Tests whether the last operation has succeeded.
+     *
+     * @return true if the operation has succeeded, false otherwise
+     */
+    public boolean isSuccess() {
+        return bytes >= 0;
+    }
+
+    /**
+     * Tests whether the last operation has failed with "EAGAIN", the operation would block.
+     *
+     * @return true if the operation should be retried later, false otherwise
+     */
+    public boolean isTryAgain() {
+        return bytes < 0 && errno == Errno.EAGAIN.getValue();
+    }
+
+    /**
+     * Tests whether the last operation has failed with a transient error, "EAGAIN" or "EINTR".
+     *
+     * @return true if the operation should be retried, false otherwise
+     * @see ErrnoToException#isTransient(int)
+     */
+    public boolean isTransient() {
+        return bytes < 0 && ErrnoToException.isTransient(errno);
+    }
+
+    /**
+     * Retrieves the number of the transferred bytes, or throws the exception of the failure.
+     *
+     * @return the number of the transferred bytes
+     * @see ErrnoToException#throwFromErrno(int)
+     */
+    public long getBytesOrThrow() {
+        if (bytes < 0) {
+            ErrnoToException.throwFromErrno(errno);
+        }
+        return bytes;
+    }
+
+    /**
+     * Retains a primitive status code of the non-throwing operations, e.g. {@link TerminalDevice#tryRead(byte[], int, int)}.
+     *
+     * @param status the number of the transferred bytes, or (-errno) for failure
+     * @return this result
+     */
+    public IoResult setStatus(final long status) {
+        if (status < 0) {
+            this.bytes = -1;
+            this.errno = (int) -status;
+        } else {
+            this.bytes = status;
+            this.errno = Errno.OPERATION_SUCCEEDED.getValue();
+        }
+        return this;
+    }
+
+    /**
+     * Decodes the native errno of a primitive status code of the non-throwing operations.
+     *
+     * @param status the number of the transferred bytes, or (-errno) for failure
+     * @return the native errno, {@link Errno#OPERATION_SUCCEEDED} if the status isn't a failure
+     */
+    public static int errnoOf(final long status) {
+        return status < 0 ? (int) -status : Errno.OPERATION_SUCCEEDED.getValue();
+    }
+
+    @Override
+    public String toString() {
+        if (bytes >= 0) {
+            return "IoResult[bytes=" + bytes + "]";
+        }
+        final Errno errnoObj = Errno.fromValue(errno);
+        return "IoResult[errno=" + (errnoObj != null ? errnoObj.name() : errno) + "]";
+    }
+}
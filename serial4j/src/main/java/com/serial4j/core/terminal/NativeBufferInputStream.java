@@ -32,7 +32,10 @@
 
 package com.serial4j.core.terminal;
 
+import com.serial4j.core.errno.ErrnoToException;
+import com.serial4j.core.serial.throwable.InvalidPortException;
 import java.io.InputStream;
+import java.util.Objects;
 
 /**
  * Adapts the low-level native file IO API to Java Input Stream.
@@ -58,12 +61,14 @@ public class NativeBufferInputStream extends InputStream {
     }
 
     /**
-     * @deprecated use {@link NativeBufferInputStream#read()} instead.
+     * Retrieves the number of bytes available at the terminal input queue.
+     *
+     * @return the number of bytes that can be read without blocking
+     * @see TerminalDevice#available()
      */
-    @Deprecated
     @Override
     public int available() {
-        throw new UnsupportedOperationException("No longer supported in this native stream!");
+        return terminalDevice.available();
     }
 
     /**
@@ -79,13 +84,47 @@ public class NativeBufferInputStream extends InputStream {
         terminalDevice.seek(0, NativeTerminalDevice.FileSeekCriterion.SEEK_SET);
     }
 
+    /**
+     * Reads up to "len" bytes from the terminal device directly into the caller array
+     * starting at the position "off".
+     *
+     * <p>
+     * Note: this call blocks until at least one byte is read regardless of the terminal read configuration
+     * and the "O_NONBLOCK" flag, an empty read or a transient error ("EAGAIN", "EINTR") waits on
+     * {@link TerminalDevice#awaitReadable(long)} and retries; if the device is reported
+     * readable but the read still returns no bytes, the terminal has reached its end (e.g. a hang up) and (-1)
+     * is returned.
+     * </p>
+     *
+     * @param b   the caller array to read the data into
+     * @param off the start position in the caller array
+     * @param len the maximum number of bytes to read
+     * @return the number of the read bytes, or (-1) if the terminal has reached its end
+     * @see TerminalDevice#read(byte[], int, int)
+     */
     @Override
     public int read(byte[] b, int off, int len) {
-        final char[] buffer = new char[b.length];
-        for (int i = 0; i < b.length; i++) {
-            buffer[i] = (char) b[i];
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (terminalDevice.getSerialPort() == null) {
+            throw new InvalidPortException("Bad serial port!");
+        }
+        long status = terminalDevice.tryRead(b, off, len);
+        while (status <= 0) {
+            /* "EAGAIN" of a non-blocking port, and "EINTR" only mean the data is not ready yet */
+            if (status < 0 && !ErrnoToException.isTransient((int) -status)) {
+                ErrnoToException.throwFromErrno((int) -status);
+            }
+            if (terminalDevice.awaitReadable(-1)) {
+                status = terminalDevice.tryRead(b, off, len);
+                if (status == 0) {
+                    return -1;
+                }
+            }
         }
-        return (int) read(buffer, off, len);
+        return (int) status;
     }
 
     /**
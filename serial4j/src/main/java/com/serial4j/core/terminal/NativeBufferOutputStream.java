@@ -32,6 +32,7 @@
 
 package com.serial4j.core.terminal;
 
+import java.io.IOException;
 import java.io.OutputStream;
 
 /**
@@ -62,6 +63,28 @@ public class NativeBufferOutputStream extends OutputStream {
         terminalDevice.write(b);
     }
 
+    /**
+     * Writes "len" bytes from the caller array starting at the position "off",
+     * the native write is dispatched again for the remaining bytes after a partial write.
+     *
+     * @param b   the caller array holding the data to write
+     * @param off the start position of the data in the caller array
+     * @param len the number of bytes to write
+     * @throws IOException if the terminal device accepts no bytes, instead of retrying forever
+     * @see TerminalDevice#write(byte[], int, int)
+     */
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            final int written = (int) terminalDevice.write(b, off, len);
+            if (written == 0) {
+                throw new IOException("Terminal device has accepted no bytes, " + len + " bytes are not written!");
+            }
+            off += written;
+            len -= written;
+        }
+    }
+
     @Override
     public void close() {
         terminalDevice.closePort();
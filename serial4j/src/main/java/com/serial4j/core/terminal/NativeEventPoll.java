@@ -0,0 +1,177 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.terminal;
+
+import com.serial4j.util.loader.NativeImageLoader;
+
+/**
+ * Represents the native Java binding for the linux event poll api "epoll(7)", represented
+ * by `com_serial4j_core_terminal_NativeEventPoll.h` natively.
+ *
+ * @author pavl_g
+ * @see EventPoll
+ */
+public final class NativeEventPoll {
+
+    /*
+     * Static initializer: Loads the native image when this object is referenced.
+     */
+    static {
+        NativeImageLoader.loadSerial4jNatives();
+    }
+
+    private NativeEventPoll() {
+    }
+
+    /**
+     * The associated file is available for read operations.
+     *
+     * @return the value of "EPOLLIN"
+     */
+    static native int getReadableEvent();
+
+    /**
+     * The associated file is available for write operations.
+     *
+     * @return the value of "EPOLLOUT"
+     */
+    static native int getWritableEvent();
+
+    /**
+     * An error condition happened on the associated file.
+     *
+     * @return the value of "EPOLLERR"
+     */
+    static native int getErrorEvent();
+
+    /**
+     * A hang up happened on the associated file.
+     *
+     * @return the value of "EPOLLHUP"
+     */
+    static native int getHangupEvent();
+
+    /**
+     * Requests a one-shot notification for the associated file, the file is disabled
+     * after an event is pulled out, and must be re-armed using "EPOLL_CTL_MOD".
+     *
+     * @return the value of "EPOLLONESHOT"
+     */
+    static native int getOneShotEvent();
+
+    /**
+     * Creates a new event poll instance.
+     *
+     * @return the event poll file descriptor, (-1) for failure
+     */
+    static native int create();
+
+    /**
+     * Registers a file descriptor with the events of interest on an event poll instance.
+     *
+     * @param epfd   the event poll file descriptor
+     * @param fd     the file descriptor to register
+     * @param events the bit mask of the events of interest
+     * @return (0) for success, (-1) for failure, (-2) for invalid port
+     */
+    static native int add(final int epfd, final int fd, final int events);
+
+    /**
+     * Changes the events of interest of a registered file descriptor.
+     *
+     * @param epfd   the event poll file descriptor
+     * @param fd     the registered file descriptor
+     * @param events the new bit mask of the events of interest
+     * @return (0) for success, (-1) for failure, (-2) for invalid port
+     */
+    static native int modify(final int epfd, final int fd, final int events);
+
+    /**
+     * Removes a registered file descriptor from an event poll instance.
+     *
+     * @param epfd the event poll file descriptor
+     * @param fd   the registered file descriptor
+     * @return (0) for success, (-1) for failure, (-2) for invalid port
+     */
+    static native int remove(final int epfd, final int fd);
+
+    /**
+     * Waits for the events on an event poll instance.
+     *
+     * @param epfd     the event poll file descriptor
+     * @param fds      an array to hold the ready file descriptors
+     * @param events   an array to hold the ready events of each file descriptor
+     * @param capacity the maximum number of the ready file descriptors to retrieve
+     * @param timeout  the maximum time to wait in milliseconds, (-1) to wait indefinitely
+     * @return the number of the ready file descriptors, (0) for timeout, (-1) for failure
+     */
+    static native int await(final int epfd, final int[] fds, final int[] events, final int capacity, final int timeout);
+
+    /**
+     * Creates a non-blocking event file descriptor "eventfd(2)" that is used to wake up the waiting threads.
+     *
+     * @return the event file descriptor, (-1) for failure
+     */
+    static native int createWakeup();
+
+    /**
+     * Signals an event file descriptor.
+     *
+     * @param fd the event file descriptor
+     * @return (0) for success, (-1) for failure
+     */
+    static native int wakeup(final int fd);
+
+    /**
+     * Clears the signals of an event file descriptor.
+     *
+     * @param fd the event file descriptor
+     * @return (0) for success, (-1) for failure
+     */
+    static native int drain(final int fd);
+
+    /**
+     * Closes an event poll or an event file descriptor.
+     *
+     * @param fd the file descriptor to close
+     * @return (0) for success, (-1) for failure
+     */
+    static native int close(final int fd);
+
+    /**
+     * Retrieves the last error encountered by the native code.
+     *
+     * @return the last error code from the native <errno.h>
+     */
+    static native int getErrno();
+}
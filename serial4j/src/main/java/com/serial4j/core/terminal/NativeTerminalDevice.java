@@ -38,6 +38,7 @@ import com.serial4j.core.terminal.control.TerminalInputFlag;
 import com.serial4j.core.terminal.control.TerminalLocalFlag;
 import com.serial4j.core.terminal.control.TerminalOutputFlag;
 import com.serial4j.util.loader.NativeImageLoader;
+import java.nio.ByteBuffer;
 
 /**
  * Represents the native Java binding for the Serial-4j API, represented by
@@ -327,6 +328,114 @@ public final class NativeTerminalDevice {
      */
     native long iread(final int length);
 
+    /**
+     * Writes the lower 8-bits of an integer to a terminal device file descriptor.
+     *
+     * <p>
+     * The fd-passing natives skip the field access of the terminal device object on the native
+     * side, the file descriptor is obtained from {@link SerialPort#getFd()} on the java side.
+     * </p>
+     *
+     * @param fd   the file descriptor of an opened terminal device
+     * @param data the data to write
+     * @return the number of written bytes, (-errno) for failure, (-EBADF) for invalid port
+     */
+    static native long write0(final int fd, final int data);
+
+    /**
+     * Writes a region of a direct byte buffer to a terminal device file descriptor.
+     *
+     * @param fd     the file descriptor of an opened terminal device
+     * @param buffer a direct byte buffer holding the data to write
+     * @param offset the start position of the data in the buffer
+     * @param length the number of bytes to write
+     * @return the number of written bytes, (-errno) for failure, (-EBADF) for invalid port
+     * @see TerminalDevice#write(ByteBuffer)
+     */
+    static native long write0(final int fd, final ByteBuffer buffer, final int offset, final int length);
+
+    /**
+     * Writes a region of a byte array to a terminal device file descriptor.
+     *
+     * @param fd     the file descriptor of an opened terminal device
+     * @param buffer the byte array holding the data to write
+     * @param offset the start position of the data in the array
+     * @param length the number of bytes to write
+     * @return the number of written bytes, (-errno) for failure, (-EBADF) for invalid port
+     * @see TerminalDevice#write(byte[], int, int)
+     */
+    static native long write0(final int fd, final byte[] buffer, final int offset, final int length);
+
+    /**
+     * Gathers the regions of multiple direct byte buffers and writes them to a terminal device
+     * file descriptor using a single writev() dispatch.
+     *
+     * @param fd      the file descriptor of an opened terminal device
+     * @param buffers the direct byte buffers holding the data to write
+     * @param offsets the start positions of the regions in the buffers
+     * @param lengths the lengths of the regions in bytes
+     * @param count   the number of the regions to write
+     * @return the total number of written bytes, (-errno) for failure, (-EBADF) for invalid port
+     * @see TerminalDevice#write(ByteBuffer...)
+     */
+    static native long writev0(final int fd, final ByteBuffer[] buffers, final int[] offsets, final int[] lengths, final int count);
+
+    /**
+     * Reads data from a terminal device file descriptor into a region of a direct byte buffer.
+     *
+     * @param fd     the file descriptor of an opened terminal device
+     * @param buffer a direct byte buffer to read the data into
+     * @param offset the start position in the buffer to read the data into
+     * @param length the maximum number of the bytes to read
+     * @return the number of the read bytes, (-errno) for failure, (-EBADF) for invalid port
+     * @see TerminalDevice#read(ByteBuffer)
+     */
+    static native long read0(final int fd, final ByteBuffer buffer, final int offset, final int length);
+
+    /**
+     * Reads data from a terminal device file descriptor into a region of a byte array.
+     *
+     * @param fd     the file descriptor of an opened terminal device
+     * @param buffer the caller-supplied array to read the data into
+     * @param offset the start position in the array to read the data into
+     * @param length the maximum number of the bytes to read
+     * @return the number of the read bytes, (-errno) for failure, (-EBADF) for invalid port
+     * @see TerminalDevice#read(byte[], int, int)
+     */
+    static native long read0(final int fd, final byte[] buffer, final int offset, final int length);
+
+    /**
+     * Waits for a terminal device file descriptor to become readable using "ppoll(2)", or
+     * for the wakeup event file descriptor to be signalled.
+     *
+     * @param fd           the file descriptor of an opened terminal device
+     * @param wakeupFd     an event file descriptor to wake up the wait, or (-1) to wait on the device only
+     * @param timeoutNanos the maximum time to wait in nanoseconds, a negative value waits indefinitely
+     * @return (1) if the device is readable, (0) for timeout or wakeup, (-1) for failure, (-2) for invalid port
+     */
+    static native int awaitReadable0(final int fd, final int wakeupFd, final long timeoutNanos);
+
+    /**
+     * Retrieves the number of bytes available at the input queue of a terminal device file
+     * descriptor using the "FIONREAD" io control request.
+     *
+     * @param fd the file descriptor of an opened terminal device
+     * @return the number of the available bytes, (-1) for failure, (-2) for invalid port
+     */
+    static native int available0(final int fd);
+
+    /**
+     * Transfers the data from a terminal device file descriptor to another file descriptor
+     * inside the kernel using "splice(2)", or a native read and write loop if either file
+     * doesn't support splicing.
+     *
+     * @param fd       the file descriptor of an opened terminal device
+     * @param outFd    the destination file descriptor
+     * @param maxBytes the maximum number of bytes to transfer
+     * @return the number of the transferred bytes, (-errno) for failure, (-EBADF) for invalid port
+     */
+    static native long transferTo0(final int fd, final int outFd, final long maxBytes);
+
     /**
      * Seeks the current position of this file-system according to the
      * "whence" argument by an amount of bytes (offset).
@@ -358,6 +467,15 @@ public final class NativeTerminalDevice {
      */
     native int openPort(final String port, final int flag);
 
+    /**
+     * Opens this terminal device as the master side of a new pseudo-terminal pair, and unlocks the slave side.
+     *
+     * @param flag      the flag for the base file control native api [fcntl].
+     * @param slaveName an array to hold the path of the slave device in ASCII, padded with zeros.
+     * @return the master file descriptor, (-1) for failure.
+     */
+    native int openPseudoTerminal(final int flag, final byte[] slaveName);
+
     /**
      * Reassigns the modem bits status, used to enable/disable
      * modem bits in the Rs232 interface.
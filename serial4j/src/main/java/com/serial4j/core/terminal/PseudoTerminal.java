@@ -0,0 +1,132 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.terminal;
+
+import com.serial4j.core.serial.SerialPort;
+import com.serial4j.core.serial.throwable.SerialThrowable;
+import java.io.Closeable;
+
+/**
+ * Represents a pair of connected pseudo-terminal devices "pty(7)", the data written to either
+ * device is read from the other one, so the full read/write and monitor stack can be exercised
+ * and benchmarked in-process without serial hardware.
+ *
+ * <p>
+ * Both devices are initialized using {@link TerminalDevice#initTerminal()} in the raw mode; the slave device
+ * behaves as a regular serial port, and its path can be used to start a
+ * {@link com.serial4j.core.serial.monitor.SerialMonitor}, while the master device plays the peer.
+ * </p>
+ *
+ * <p>
+ * Note: the master device reports an I/O error once the slave device is closed,
+ * close the master device after the slave device.
+ * </p>
+ *
+ * @author pavl_g
+ */
+public final class PseudoTerminal implements Closeable {
+
+    private final TerminalDevice master;
+    private final TerminalDevice slave;
+
+    private PseudoTerminal(final TerminalDevice master, final TerminalDevice slave) {
+        this.master = master;
+        this.slave = slave;
+    }
+
+    /**
+     * Opens a new pseudo-terminal pair using "posix_openpt(3)".
+     *
+     * @return a new pair of connected terminal devices
+     */
+    public static PseudoTerminal openPair() {
+        final TerminalDevice master = new TerminalDevice();
+        final String slavePath = master.openPseudoTerminal();
+        final TerminalDevice slave = new TerminalDevice();
+        try {
+            slave.openPort(new SerialPort(slavePath));
+            slave.initTerminal();
+            master.initTerminal();
+        } catch (final SerialThrowable e) {
+            if (slave.getSerialPort() != null && slave.getSerialPort().isPortOpened()) {
+                slave.closePort();
+            }
+            master.closePort();
+            throw e;
+        }
+        return new PseudoTerminal(master, slave);
+    }
+
+    /**
+     * Retrieves the master device of this pair, which plays the peer of the slave device.
+     *
+     * @return the master terminal device
+     */
+    public TerminalDevice getMaster() {
+        return master;
+    }
+
+    /**
+     * Retrieves the slave device of this pair, which behaves as a regular serial port.
+     *
+     * @return the slave terminal device
+     */
+    public TerminalDevice getSlave() {
+        return slave;
+    }
+
+    /**
+     * Retrieves the path of the slave device, (e.g. "/dev/pts/3").
+     *
+     * @return the slave device path
+     */
+    public String getSlavePath() {
+        return slave.getSerialPort().getPath();
+    }
+
+    /**
+     * Closes both devices of this pair, the slave device is closed first.
+     */
+    @Override
+    public void close() {
+        try {
+            if (slave.getSerialPort().isPortOpened()) {
+                slave.closePort();
+            }
+        } finally {
+            if (master.getSerialPort().isPortOpened()) {
+                master.closePort();
+            }
+        }
+    }
+}
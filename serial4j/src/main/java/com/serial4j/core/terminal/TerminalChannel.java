@@ -0,0 +1,187 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.core.terminal;
+
+import com.serial4j.core.serial.throwable.SerialThrowable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ClosedChannelException;
+
+/**
+ * Represents a NIO byte channel view of an opened terminal device, so the device can be used
+ * with the channel based APIs (e.g. {@link java.nio.channels.Channels#newInputStream(java.nio.channels.ReadableByteChannel)}).
+ *
+ * <p>
+ * In the blocking mode, the reads dispatched while no data is available wait for the device
+ * to become readable using {@link TerminalDevice#awaitReadable(long)}, so the channel blocks
+ * regardless of the {@link ReadConfiguration} of the device; in the non-blocking mode, a read returns
+ * the result of a single native dispatch, which is zero when no data is available in the
+ * {@link ReadConfiguration#POLLING_READ} mode; a blocking read returns (-1) at the end of stream, that is
+ * when the device is reported readable but no data is read, e.g: after a hang up.
+ * </p>
+ *
+ * <p>
+ * Note: closing this channel closes the terminal device, and wakes up the blocked readers,
+ * which then throw {@link AsynchronousCloseException}.
+ * </p>
+ *
+ * @author pavl_g
+ * @see TerminalDevice#newChannel()
+ * @see AsynchronousTerminalChannel
+ */
+public final class TerminalChannel implements ByteChannel {
+
+    private final TerminalDevice terminalDevice;
+    private final Object readLock = new Object();
+    private final Object writeLock = new Object();
+    private volatile boolean open = true;
+    private volatile boolean blocking = true;
+
+    /**
+     * Instantiates a byte channel view of an opened terminal device.
+     *
+     * @param terminalDevice an opened terminal device
+     */
+    TerminalChannel(final TerminalDevice terminalDevice) {
+        this.terminalDevice = terminalDevice;
+    }
+
+    /**
+     * Adjusts the blocking mode of this channel.
+     *
+     * @param blocking true to block the reads until data is available, false otherwise
+     * @return this channel instance for chained calls
+     */
+    public TerminalChannel configureBlocking(final boolean blocking) {
+        this.blocking = blocking;
+        return this;
+    }
+
+    /**
+     * Tests whether the reads of this channel block until data is available.
+     *
+     * @return true if this channel is in the blocking mode, false otherwise
+     */
+    public boolean isBlocking() {
+        return blocking;
+    }
+
+    @Override
+    public int read(final ByteBuffer dst) throws IOException {
+        synchronized (readLock) {
+            ensureOpen();
+            if (!dst.hasRemaining()) {
+                return 0;
+            }
+            try {
+                int bytes = (int) terminalDevice.read(dst);
+                while (bytes == 0 && blocking) {
+                    final boolean readable = terminalDevice.awaitReadable(-1);
+                    if (!open) {
+                        throw new AsynchronousCloseException();
+                    }
+                    if (!readable) {
+                        /* woken up without data, wait again */
+                        continue;
+                    }
+                    bytes = (int) terminalDevice.read(dst);
+                    if (bytes == 0) {
+                        /* readable with no data, the terminal has hung up */
+                        return -1;
+                    }
+                }
+                return bytes;
+            } catch (final SerialThrowable e) {
+                throw translate(e);
+            }
+        }
+    }
+
+    @Override
+    public int write(final ByteBuffer src) throws IOException {
+        synchronized (writeLock) {
+            ensureOpen();
+            try {
+                return (int) terminalDevice.write(src);
+            } catch (final SerialThrowable e) {
+                throw translate(e);
+            }
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Closes this channel and its terminal device, the blocked readers are woken up.
+     *
+     * @throws IOException if the device has failed to close
+     */
+    @Override
+    public void close() throws IOException {
+        if (!open) {
+            return;
+        }
+        open = false;
+        terminalDevice.wakeup();
+        /* the close must wait for the pending reads to leave the device */
+        synchronized (readLock) {
+            synchronized (writeLock) {
+                try {
+                    terminalDevice.closePort();
+                } catch (final SerialThrowable e) {
+                    throw translate(e);
+                }
+            }
+        }
+    }
+
+    private void ensureOpen() throws ClosedChannelException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+    }
+
+    private IOException translate(final SerialThrowable e) {
+        if (!open) {
+            final AsynchronousCloseException closeException = new AsynchronousCloseException();
+            closeException.initCause(e);
+            return closeException;
+        }
+        return new IOException(e);
+    }
+}
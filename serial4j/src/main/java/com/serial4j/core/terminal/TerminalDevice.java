@@ -38,6 +38,14 @@ import com.serial4j.core.serial.SerialPort;
 import com.serial4j.core.serial.throwable.InvalidPortException;
 import com.serial4j.core.terminal.control.BaudRate;
 import com.serial4j.core.terminal.control.TerminalFlag;
+import com.serial4j.util.metrics.SerialMetrics;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.LockSupport;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -49,6 +57,11 @@ import java.util.logging.Logger;
 public final class TerminalDevice {
 
     private static final Logger LOGGER = Logger.getLogger(TerminalDevice.class.getName());
+    private static final long MIN_PARK_NANOS = 50_000L;
+    private static final long MAX_PARK_NANOS = 10_000_000L;
+    private static final int TRANSFER_BUFFER_SIZE = 4096;
+    private static final int PTS_NAME_LENGTH = 128;
+    private static final String PTMX_PATH = "/dev/ptmx";
     final NativeTerminalDevice nativeTerminalDevice = new NativeTerminalDevice();
 
     private FilePermissions filePermissions = (FilePermissions) FilePermissions.build().append(
@@ -56,6 +69,15 @@ public final class TerminalDevice {
             FilePermissions.OperativeConst.O_NOCTTY
     );
     private boolean loggingEnabled;
+    private final Object wakeupLock = new Object();
+    private volatile int wakeupFd = -1;
+    /* guarded by the wakeup lock, the wakeup eventfd is closed by the last waiter leaving a closed device */
+    private boolean closed;
+    private int wakeupWaiters;
+    private volatile boolean wakeupRequested;
+    private volatile Thread parkedWaiter;
+    private ByteBuffer transferBuffer;
+    private volatile SerialMetrics serialMetrics;
 
     /**
      * Instantiates a Unix terminal device object.
@@ -90,19 +112,273 @@ public final class TerminalDevice {
         this.nativeTerminalDevice.setSerialPort(serialPort);
         final int returnValue = nativeTerminalDevice.openPort(serialPort.getPath(), filePermissions.getValue());
         if (isOperationFailed(returnValue)) {
-            ErrnoToException.throwFromErrno(nativeTerminalDevice.getErrno());
+            throwFromNativeErrno();
+        }
+        markOpened();
+        if (SerialMetrics.ENABLED) {
+            serialMetrics = SerialMetrics.forPort(serialPort.getPath());
         }
         /* update port data natively */
         /* ... */
     }
 
+    /**
+     * Opens this device as the master side of a new pseudo-terminal pair.
+     *
+     * @return the path of the slave device
+     * @see PseudoTerminal#openPair()
+     */
+    String openPseudoTerminal() {
+        final SerialPort serialPort = new SerialPort(PTMX_PATH);
+        if (isSerial4jLoggingEnabled()) {
+            LOGGER.log(Level.INFO, "Opening pseudo-terminal device " + serialPort.getPath());
+        }
+        this.nativeTerminalDevice.setSerialPort(serialPort);
+        final byte[] slaveName = new byte[PTS_NAME_LENGTH];
+        final int returnValue = nativeTerminalDevice.openPseudoTerminal(filePermissions.getValue(), slaveName);
+        if (isOperationFailed(returnValue)) {
+            throwFromNativeErrno();
+        }
+        markOpened();
+        int length = 0;
+        while (length < slaveName.length && slaveName[length] != 0) {
+            length++;
+        }
+        final String slavePath = new String(slaveName, 0, length, StandardCharsets.US_ASCII);
+        if (SerialMetrics.ENABLED) {
+            serialMetrics = SerialMetrics.forPort(PTMX_PATH + ":" + slavePath);
+        }
+        return slavePath;
+    }
+
+    /**
+     * Retrieves the number of bytes available at the terminal input queue, which can be
+     * read without blocking.
+     *
+     * @return the number of the available bytes
+     */
+    public int available() {
+        if (nativeTerminalDevice.getSerialPort() == null) {
+            throw new InvalidPortException("Bad serial port!");
+        }
+        final int returnValue = NativeTerminalDevice.available0(nativeTerminalDevice.getSerialPort().getFd());
+        if (returnValue == Errno.ERR_INVALID_PORT.getValue()) {
+            ErrnoToException.throwFromErrno(Errno.ERR_INVALID_PORT.getValue());
+        } else if (returnValue < 0) {
+            throwFromNativeErrno();
+        }
+        return returnValue;
+    }
+
+    /**
+     * Creates a NIO byte channel view of this terminal device, the channel blocks the reads
+     * until data is available, unless it is configured as non-blocking.
+     *
+     * @return a new byte channel reading and writing this device
+     */
+    public TerminalChannel newChannel() {
+        return new TerminalChannel(this);
+    }
+
+    /**
+     * Creates an asynchronous NIO byte channel view of this terminal device, the read and write operations
+     * are dispatched when the device becomes ready by a shared event poll thread.
+     *
+     * @param executor the executor performing the ready operations, and dispatching their completion handlers
+     * @return a new asynchronous byte channel reading and writing this device
+     */
+    public AsynchronousTerminalChannel newAsynchronousChannel(final Executor executor) {
+        return new AsynchronousTerminalChannel(this, executor);
+    }
+
+    /**
+     * Waits for this terminal device to become readable, or for another thread
+     * to dispatch {@link TerminalDevice#wakeup()}.
+     *
+     * <p>
+     * The wait consumes no CPU time; an idle monitor loop should await the device
+     * before dispatching a read in the {@link ReadConfiguration#POLLING_READ} mode.
+     * </p>
+     *
+     * @param timeoutNanos the maximum time to wait in nanoseconds, a negative value waits indefinitely
+     * @return true if the device is readable, false for timeout, wakeup or an interrupted wait
+     */
+    public boolean awaitReadable(final long timeoutNanos) {
+        if (nativeTerminalDevice.getSerialPort() == null) {
+            throw new InvalidPortException("Bad serial port!");
+        }
+        final int returnValue;
+        final int wakeupFd = acquireWakeupFd();
+        try {
+            returnValue = NativeTerminalDevice.awaitReadable0(nativeTerminalDevice.getSerialPort().getFd(),
+                    wakeupFd, timeoutNanos);
+        } finally {
+            releaseWakeupFd();
+        }
+        if (returnValue == Errno.ERR_INVALID_PORT.getValue()) {
+            ErrnoToException.throwFromErrno(Errno.ERR_INVALID_PORT.getValue());
+        } else if (returnValue < 0) {
+            final int errno = nativeTerminalDevice.getErrno();
+            if (errno == Errno.EINTR.getValue()) {
+                return false;
+            }
+            ErrnoToException.throwFromErrno(errno);
+        }
+        /* the wakeup signal has been consumed by the wait */
+        wakeupRequested = false;
+        return returnValue > 0;
+    }
+
+    /**
+     * Waits for this terminal device to become readable, or for another thread to dispatch
+     * {@link TerminalDevice#wakeup()}, without blocking in the native code.
+     *
+     * <p>
+     * The device is polled without blocking, and the calling thread is parked between the polls
+     * with an exponential backoff up to 10 milliseconds; a parked virtual thread releases its carrier
+     * thread, unlike {@link TerminalDevice#awaitReadable(long)} which pins the carrier while blocking natively,
+     * so this wait should be used by the monitor loops running on virtual threads.
+     * </p>
+     *
+     * @param timeoutNanos the maximum time to wait in nanoseconds, a negative value waits indefinitely
+     * @return true if the device is readable, false for timeout or wakeup
+     */
+    public boolean awaitReadableParking(final long timeoutNanos) {
+        if (nativeTerminalDevice.getSerialPort() == null) {
+            throw new InvalidPortException("Bad serial port!");
+        }
+        final long deadline = timeoutNanos < 0 ? Long.MAX_VALUE : System.nanoTime() + timeoutNanos;
+        long parkNanos = MIN_PARK_NANOS;
+        parkedWaiter = Thread.currentThread();
+        try {
+            while (true) {
+                final int returnValue = NativeTerminalDevice.awaitReadable0(
+                        nativeTerminalDevice.getSerialPort().getFd(), -1, 0);
+                if (returnValue == Errno.ERR_INVALID_PORT.getValue()) {
+                    ErrnoToException.throwFromErrno(Errno.ERR_INVALID_PORT.getValue());
+                } else if (returnValue < 0 && nativeTerminalDevice.getErrno() != Errno.EINTR.getValue()) {
+                    throwFromNativeErrno();
+                } else if (returnValue > 0) {
+                    return true;
+                }
+                if (wakeupRequested) {
+                    wakeupRequested = false;
+                    return false;
+                }
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, Math.min(parkNanos, remaining));
+                parkNanos = Math.min(parkNanos << 1, MAX_PARK_NANOS);
+            }
+        } finally {
+            parkedWaiter = null;
+        }
+    }
+
+    /**
+     * Wakes up a thread waiting on {@link TerminalDevice#awaitReadable(long)} or
+     * {@link TerminalDevice#awaitReadableParking(long)}, if no thread is waiting, the next
+     * wait returns immediately; this has no effect on a closed device.
+     */
+    public void wakeup() {
+        if (nativeTerminalDevice.getSerialPort() == null || !nativeTerminalDevice.getSerialPort().isPortOpened()) {
+            return;
+        }
+        /* the flag must be published before testing for a parked waiter */
+        wakeupRequested = true;
+        final Thread waiter = parkedWaiter;
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+        synchronized (wakeupLock) {
+            if (!closed) {
+                NativeEventPoll.wakeup(getWakeupFd());
+            }
+        }
+    }
+
+    private void markOpened() {
+        synchronized (wakeupLock) {
+            closed = false;
+        }
+    }
+
+    /**
+     * Retrieves the wakeup eventfd, creating it on the first use; must be called while holding the
+     * wakeup lock, and refuses to create an eventfd for a closed device.
+     */
+    private int getWakeupFd() {
+        if (closed) {
+            throw new InvalidPortException("Bad serial port!");
+        }
+        if (wakeupFd < 0) {
+            final int fd = NativeEventPoll.createWakeup();
+            if (fd < 0) {
+                ErrnoToException.throwFromErrno(NativeEventPoll.getErrno());
+            }
+            wakeupFd = fd;
+        }
+        return wakeupFd;
+    }
+
+    private int acquireWakeupFd() {
+        synchronized (wakeupLock) {
+            final int fd = getWakeupFd();
+            wakeupWaiters++;
+            return fd;
+        }
+    }
+
+    private void releaseWakeupFd() {
+        synchronized (wakeupLock) {
+            wakeupWaiters--;
+            if (!closed) {
+                return;
+            }
+            if (wakeupWaiters == 0) {
+                closeWakeupFd();
+            } else {
+                /* a waiter consumes the signal when leaving the wait, pass it on to the remaining waiters */
+                NativeEventPoll.wakeup(wakeupFd);
+            }
+        }
+    }
+
+    /**
+     * Marks this device as closed, the waiters are signalled to leave the wait, and the
+     * wakeup eventfd is closed now if no thread is waiting on it, or by the last waiter otherwise.
+     */
+    private void markClosed() {
+        synchronized (wakeupLock) {
+            closed = true;
+            if (wakeupWaiters == 0) {
+                closeWakeupFd();
+            } else {
+                NativeEventPoll.wakeup(wakeupFd);
+            }
+        }
+        final Thread waiter = parkedWaiter;
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    private void closeWakeupFd() {
+        if (wakeupFd >= 0) {
+            NativeEventPoll.close(wakeupFd);
+            wakeupFd = -1;
+        }
+    }
+
     public void setModemBitsStatus(final ModemControllerFlag flag) {
         if (nativeTerminalDevice.getSerialPort() == null) {
             throw new InvalidPortException("Bad serial port!");
         }
         int returnValue = nativeTerminalDevice.setModemBitsStatus(flag.getValue());
         if (isOperationFailed(returnValue)) {
-            ErrnoToException.throwFromErrno(nativeTerminalDevice.getErrno());
+            throwFromNativeErrno();
         }
     }
 
@@ -113,7 +389,7 @@ public final class TerminalDevice {
         final int[] nativeStatus = new int[1]; // allocate pointer on the stack
         final int returnValue = nativeTerminalDevice.getModemBitsStatus(nativeStatus);
         if (isOperationFailed(returnValue)) {
-            ErrnoToException.throwFromErrno(nativeTerminalDevice.getErrno());
+            throwFromNativeErrno();
         }
         return ModemControllerFlag.from(nativeStatus[0]);
     }
@@ -149,7 +425,7 @@ public final class TerminalDevice {
         final int returnValue = NativeFileAccessPermissions.fileChmod(nativeTerminalDevice.getSerialPort().getFd(),
                 modeAccessPermissions.getValue());
         if (isOperationFailed(returnValue)) {
-            ErrnoToException.throwFromErrno(nativeTerminalDevice.getErrno());
+            throwFromNativeErrno();
         }
     }
 
@@ -158,7 +434,7 @@ public final class TerminalDevice {
         final int returnValue = nativeTerminalDevice.getTerminalControlFlag();
         if (isOperationFailed(returnValue)) {
             /* Warning: Force cast the errno to (int) */
-            ErrnoToException.throwFromErrno(nativeTerminalDevice.getErrno());
+            throwFromNativeErrno();
         }
         TCF.setValue(returnValue);
         return TCF;
@@ -171,7 +447,18 @@ public final class TerminalDevice {
      * @param flag the terminal control flag to adjust.
      */
     public void setTerminalControlFlag(final TerminalFlag flag) {
-        int returnValue = nativeTerminalDevice.setTerminalControlFlag(flag.getValue());
+        setTerminalControlFlag(flag.getValue());
+    }
+
+    /**
+     * Adjusts the terminal control flag of the termios using a raw bit mask, e.g. a mask
+     * precomputed by {@link com.serial4j.core.flag.AppendableFlag#mask(com.serial4j.core.flag.FlagConst...)}.
+     *
+     * @param flag the bit mask of the terminal control flag
+     * @see TerminalDevice#setTerminalControlFlag(TerminalFlag)
+     */
+    public void setTerminalControlFlag(final int flag) {
+        int returnValue = nativeTerminalDevice.setTerminalControlFlag(flag);
         if (isOperationFailed(returnValue)) {
             returnValue = nativeTerminalDevice.getErrno();
         }
@@ -184,7 +471,7 @@ public final class TerminalDevice {
         /* Warning: Force cast the errno to (int) */
         if (isOperationFailed(returnValue)) {
             /* Warning: Force cast the errno to (int) */
-            ErrnoToException.throwFromErrno(nativeTerminalDevice.getErrno());
+            throwFromNativeErrno();
         }
         TLF.setValue(returnValue);
         return TLF;
@@ -197,7 +484,18 @@ public final class TerminalDevice {
      * @param flag the local flag to adjust.
      */
     public void setTerminalLocalFlag(final TerminalFlag flag) {
-        int returnValue = nativeTerminalDevice.setTerminalLocalFlag(flag.getValue());
+        setTerminalLocalFlag(flag.getValue());
+    }
+
+    /**
+     * Adjusts the terminal local flag of the termios using a raw bit mask, e.g. a mask
+     * precomputed by {@link com.serial4j.core.flag.AppendableFlag#mask(com.serial4j.core.flag.FlagConst...)}.
+     *
+     * @param flag the bit mask of the terminal local flag
+     * @see TerminalDevice#setTerminalLocalFlag(TerminalFlag)
+     */
+    public void setTerminalLocalFlag(final int flag) {
+        int returnValue = nativeTerminalDevice.setTerminalLocalFlag(flag);
         if (isOperationFailed(returnValue)) {
             returnValue = nativeTerminalDevice.getErrno();
         }
@@ -210,7 +508,7 @@ public final class TerminalDevice {
         /* Warning: Force cast the errno to (int) */
         if (isOperationFailed(returnValue)) {
             /* Warning: Force cast the errno to (int) */
-            ErrnoToException.throwFromErrno(nativeTerminalDevice.getErrno());
+            throwFromNativeErrno();
         }
         TIF.setValue(returnValue);
         return TIF;
@@ -223,7 +521,18 @@ public final class TerminalDevice {
      * @param flag the terminal input flag to adjust.
      */
     public void setTerminalInputFlag(final TerminalFlag flag) {
-        int returnValue = nativeTerminalDevice.setTerminalInputFlag(flag.getValue());
+        setTerminalInputFlag(flag.getValue());
+    }
+
+    /**
+     * Adjusts the terminal input flag of the termios using a raw bit mask, e.g. a mask
+     * precomputed by {@link com.serial4j.core.flag.AppendableFlag#mask(com.serial4j.core.flag.FlagConst...)}.
+     *
+     * @param flag the bit mask of the terminal input flag
+     * @see TerminalDevice#setTerminalInputFlag(TerminalFlag)
+     */
+    public void setTerminalInputFlag(final int flag) {
+        int returnValue = nativeTerminalDevice.setTerminalInputFlag(flag);
         if (isOperationFailed(returnValue)) {
             returnValue = nativeTerminalDevice.getErrno();
         }
@@ -236,7 +545,7 @@ public final class TerminalDevice {
         /* Warning: Force cast the errno to (int) */
         if (isOperationFailed(returnValue)) {
             /* Warning: Force cast the errno to (int) */
-            ErrnoToException.throwFromErrno(nativeTerminalDevice.getErrno());
+            throwFromNativeErrno();
         }
         TOF.setValue(returnValue);
         return TOF;
@@ -247,7 +556,18 @@ public final class TerminalDevice {
      * how the terminal interpret the characters at the output to the terminal device.
      */
     public void setTerminalOutputFlag(final TerminalFlag flag) {
-        int returnValue = nativeTerminalDevice.setTerminalOutputFlag(flag.getValue());
+        setTerminalOutputFlag(flag.getValue());
+    }
+
+    /**
+     * Adjusts the terminal output flag of the termios using a raw bit mask, e.g. a mask
+     * precomputed by {@link com.serial4j.core.flag.AppendableFlag#mask(com.serial4j.core.flag.FlagConst...)}.
+     *
+     * @param flag the bit mask of the terminal output flag
+     * @see TerminalDevice#setTerminalOutputFlag(TerminalFlag)
+     */
+    public void setTerminalOutputFlag(final int flag) {
+        int returnValue = nativeTerminalDevice.setTerminalOutputFlag(flag);
         if (isOperationFailed(returnValue)) {
             returnValue = nativeTerminalDevice.getErrno();
         }
@@ -299,8 +619,9 @@ public final class TerminalDevice {
         if (numberOfWrittenBytes == Errno.ERR_INVALID_PORT.getValue()) {
             ErrnoToException.throwFromErrno(Errno.ERR_INVALID_PORT.getValue());
         } else if (numberOfWrittenBytes <= 0) {
-            ErrnoToException.throwFromErrno(nativeTerminalDevice.getErrno());
+            throwFromNativeErrno();
         }
+        recordWrite(buffer.length(), numberOfWrittenBytes);
         return numberOfWrittenBytes;
     }
 
@@ -308,21 +629,215 @@ public final class TerminalDevice {
         if (nativeTerminalDevice.getSerialPort() == null) {
             throw new InvalidPortException("Bad serial port!");
         }
+        final long status = NativeTerminalDevice.write0(nativeTerminalDevice.getSerialPort().getFd(), data);
+        recordWriteStatus(1, status);
+        return checkStatus(status);
+    }
 
-        final long numberOfWrittenBytes = nativeTerminalDevice.write(data);
-        if (numberOfWrittenBytes == Errno.ERR_INVALID_PORT.getValue()) {
-            ErrnoToException.throwFromErrno(Errno.ERR_INVALID_PORT.getValue());
-        } else if (numberOfWrittenBytes <= 0) {
-            ErrnoToException.throwFromErrno(nativeTerminalDevice.getErrno());
+    /**
+     * Writes the remaining bytes of a direct byte buffer to this terminal device
+     * without copying them into an intermediate buffer.
+     *
+     * <p>
+     * The data is written starting from the current buffer position, and the position is
+     * advanced by the number of the written bytes, the buffer limit is left unchanged.
+     * </p>
+     *
+     * <p>
+     * Non-direct buffers backed by an accessible array are written using
+     * {@link TerminalDevice#write(byte[], int, int)}.
+     * </p>
+     *
+     * @param buffer a direct byte buffer holding the data to write
+     * @return the number of written bytes
+     * @throws IllegalArgumentException if the buffer is neither a direct buffer nor backed by an accessible array
+     */
+    public long write(final ByteBuffer buffer) {
+        if (nativeTerminalDevice.getSerialPort() == null) {
+            throw new InvalidPortException("Bad serial port!");
+        }
+        return checkStatus(tryWrite(buffer));
+    }
+
+    /**
+     * Writes a region of a byte array to this terminal device using a single native dispatch.
+     *
+     * @param buffer the byte array holding the data to write
+     * @param offset the start position of the data in the array
+     * @param length the number of bytes to write
+     * @return the number of written bytes
+     * @throws IndexOutOfBoundsException if the region is out of the array bounds
+     */
+    public long write(final byte[] buffer, final int offset, final int length) {
+        if (nativeTerminalDevice.getSerialPort() == null) {
+            throw new InvalidPortException("Bad serial port!");
+        }
+        return checkStatus(tryWrite(buffer, offset, length));
+    }
+
+    /**
+     * Writes a region of a byte array to this terminal device returning a primitive status code
+     * instead of throwing on the native failures.
+     *
+     * <p>
+     * The native errno is encoded into the returned status by the same native dispatch of
+     * the failing system call, so the errno can't be clobbered by a later dispatch.
+     * </p>
+     *
+     * @param buffer the byte array holding the data to write
+     * @param offset the start position of the data in the array
+     * @param length the number of bytes to write
+     * @return the number of written bytes, (-errno) for failure, (-EBADF) for invalid port
+     * @throws IndexOutOfBoundsException if the region is out of the array bounds
+     * @see IoResult#errnoOf(long)
+     */
+    public long tryWrite(final byte[] buffer, final int offset, final int length) {
+        final SerialPort serialPort = nativeTerminalDevice.getSerialPort();
+        if (serialPort == null) {
+            return -Errno.EBADF.getValue();
+        }
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        final long status = NativeTerminalDevice.write0(serialPort.getFd(), buffer, offset, length);
+        recordWriteStatus(length, status);
+        return status;
+    }
+
+    /**
+     * Writes the remaining bytes of a byte buffer to this terminal device returning a primitive
+     * status code instead of throwing on the native failures, the buffer position is advanced
+     * by the number of the written bytes.
+     *
+     * @param buffer a direct byte buffer, or a buffer backed by an accessible array holding the data to write
+     * @return the number of written bytes, (-errno) for failure, (-EBADF) for invalid port
+     * @throws IllegalArgumentException if the buffer is neither a direct buffer nor backed by an accessible array
+     * @see TerminalDevice#tryWrite(byte[], int, int)
+     */
+    public long tryWrite(final ByteBuffer buffer) {
+        final SerialPort serialPort = nativeTerminalDevice.getSerialPort();
+        if (serialPort == null) {
+            return -Errno.EBADF.getValue();
+        }
+        final int position = buffer.position();
+        final long status;
+        if (!buffer.isDirect()) {
+            if (!buffer.hasArray()) {
+                throw new IllegalArgumentException("Cannot write from a non-direct buffer without an accessible array!");
+            }
+            status = tryWrite(buffer.array(), buffer.arrayOffset() + position, buffer.remaining());
+        } else {
+            status = NativeTerminalDevice.write0(serialPort.getFd(), buffer, position, buffer.remaining());
+            recordWriteStatus(buffer.remaining(), status);
+        }
+        if (status > 0) {
+            buffer.position(position + (int) status);
+        }
+        return status;
+    }
+
+    /**
+     * Writes a region of a byte array to this terminal device without throwing on the native
+     * failures, the outcome is retained by a caller-supplied result.
+     *
+     * @param buffer the byte array holding the data to write
+     * @param offset the start position of the data in the array
+     * @param length the number of bytes to write
+     * @param result a reusable result to hold the number of written bytes or the native errno
+     * @return the supplied result
+     * @throws IndexOutOfBoundsException if the region is out of the array bounds
+     * @see TerminalDevice#tryWrite(byte[], int, int)
+     */
+    public IoResult write(final byte[] buffer, final int offset, final int length, final IoResult result) {
+        return result.setStatus(tryWrite(buffer, offset, length));
+    }
+
+    /**
+     * Writes the remaining bytes of a byte buffer to this terminal device without throwing on the native
+     * failures, the outcome is retained by a caller-supplied result, and the buffer position is advanced
+     * by the number of the written bytes.
+     *
+     * @param buffer a direct byte buffer, or a buffer backed by an accessible array holding the data to write
+     * @param result a reusable result to hold the number of written bytes or the native errno
+     * @return the supplied result
+     * @throws IllegalArgumentException if the buffer is neither a direct buffer nor backed by an accessible array
+     * @see TerminalDevice#write(ByteBuffer)
+     */
+    public IoResult write(final ByteBuffer buffer, final IoResult result) {
+        return result.setStatus(tryWrite(buffer));
+    }
+
+    /**
+     * Gathers the remaining bytes of multiple buffers and writes them to this terminal device
+     * using a single native writev() dispatch.
+     *
+     * <p>
+     * The buffers are written in order, and the position of each buffer is advanced
+     * by the number of its written bytes; in case of a partial write, the buffers
+     * following the partially written buffer are left unchanged.
+     * </p>
+     *
+     * <p>
+     * Note: if any of the buffers is a non-direct buffer, the buffers are written
+     * sequentially using {@link TerminalDevice#write(ByteBuffer)} instead.
+     * </p>
+     *
+     * @param buffers the buffers holding the data to write
+     * @return the total number of written bytes
+     */
+    public long write(final ByteBuffer... buffers) {
+        if (nativeTerminalDevice.getSerialPort() == null) {
+            throw new InvalidPortException("Bad serial port!");
+        }
+        final int[] offsets = new int[buffers.length];
+        final int[] lengths = new int[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            if (!buffers[i].isDirect()) {
+                return writeSequentially(buffers);
+            }
+            offsets[i] = buffers[i].position();
+            lengths[i] = buffers[i].remaining();
+        }
+        final long numberOfWrittenBytes = NativeTerminalDevice.writev0(nativeTerminalDevice.getSerialPort().getFd(),
+                buffers, offsets, lengths, buffers.length);
+        if (SerialMetrics.ENABLED) {
+            long requested = 0;
+            for (int length : lengths) {
+                requested += length;
+            }
+            recordWriteStatus(requested, numberOfWrittenBytes);
+        }
+        checkStatus(numberOfWrittenBytes);
+        /* distribute the written bytes over the buffers in order */
+        long remaining = numberOfWrittenBytes;
+        for (int i = 0; i < buffers.length && remaining > 0; i++) {
+            final int bytes = (int) Math.min(remaining, lengths[i]);
+            buffers[i].position(offsets[i] + bytes);
+            remaining -= bytes;
         }
         return numberOfWrittenBytes;
     }
 
+    /**
+     * Writes the lower 8-bits of each integer element to this terminal
+     * device using a single native dispatch.
+     *
+     * @param data the data frame to write
+     * @return the number of written bytes
+     */
     public long write(final int[] data) {
+        final byte[] buffer = new byte[data.length];
+        for (int i = 0; i < data.length; i++) {
+            buffer[i] = (byte) data[i];
+        }
+        return write(buffer, 0, buffer.length);
+    }
+
+    private long writeSequentially(final ByteBuffer[] buffers) {
         long numberOfWrittenBytes = 0;
-        for (int datum : data) {
-            numberOfWrittenBytes += this.write(datum);
-            if (numberOfWrittenBytes <= 0) {
+        for (ByteBuffer buffer : buffers) {
+            final int length = buffer.remaining();
+            final long bytes = write(buffer);
+            numberOfWrittenBytes += bytes;
+            if (bytes < length) {
                 break;
             }
         }
@@ -335,8 +850,9 @@ public final class TerminalDevice {
         }
         long bytes = nativeTerminalDevice.sread();
         if (bytes == Errno.ERR_OPERATION_FAILED.getValue()) {
-            ErrnoToException.throwFromErrno(nativeTerminalDevice.getErrno());
+            throwFromNativeErrno();
         }
+        recordRead(bytes, bytes);
 
         return bytes;
     }
@@ -347,8 +863,9 @@ public final class TerminalDevice {
         }
         long bytes = nativeTerminalDevice.sread(length);
         if (bytes == Errno.ERR_OPERATION_FAILED.getValue()) {
-            ErrnoToException.throwFromErrno(nativeTerminalDevice.getErrno());
+            throwFromNativeErrno();
         }
+        recordRead(length, bytes);
 
         return bytes;
     }
@@ -359,12 +876,222 @@ public final class TerminalDevice {
         }
         long bytes = nativeTerminalDevice.iread(length);
         if (bytes == Errno.ERR_OPERATION_FAILED.getValue()) {
-            ErrnoToException.throwFromErrno(nativeTerminalDevice.getErrno());
+            throwFromNativeErrno();
         }
+        recordRead(length, bytes);
 
         return bytes;
     }
 
+    /**
+     * Reads the data from this terminal device directly into the remaining space
+     * of a direct byte buffer without allocating any intermediate Java buffers.
+     *
+     * <p>
+     * The data is read into the buffer starting from its current position, and the position
+     * is advanced by the number of the read bytes, the buffer limit is left unchanged.
+     * </p>
+     *
+     * <p>
+     * Non-direct buffers backed by an accessible array are read into using
+     * {@link TerminalDevice#read(byte[], int, int)}.
+     * </p>
+     *
+     * @param buffer a direct byte buffer to read the data into
+     * @return the number of the read bytes
+     * @throws IllegalArgumentException if the buffer is neither a direct buffer nor backed by an accessible array
+     */
+    public long read(final ByteBuffer buffer) {
+        if (nativeTerminalDevice.getSerialPort() == null) {
+            throw new InvalidPortException("Bad serial port!");
+        }
+        return checkStatus(tryRead(buffer));
+    }
+
+    /**
+     * Reads the data from this terminal device into a region of a caller-supplied
+     * byte array without allocating any intermediate Java buffers.
+     *
+     * <p>
+     * Unlike {@link TerminalDevice#iread(int)}, the read bytes are not widened into
+     * a new character buffer, and {@link TerminalDevice#getBuffer()} is left unchanged.
+     * </p>
+     *
+     * @param buffer the caller-supplied array to read the data into
+     * @param offset the start position in the array to read the data into
+     * @param length the maximum number of the bytes to read
+     * @return the number of the read bytes, a single dispatch might read fewer bytes than requested
+     * @throws IndexOutOfBoundsException if the region is out of the array bounds
+     */
+    public long read(final byte[] buffer, final int offset, final int length) {
+        if (nativeTerminalDevice.getSerialPort() == null) {
+            throw new InvalidPortException("Bad serial port!");
+        }
+        return checkStatus(tryRead(buffer, offset, length));
+    }
+
+    /**
+     * Reads the data from this terminal device into a region of a byte array returning a primitive
+     * status code instead of throwing on the native failures.
+     *
+     * <p>
+     * Polling loops should use this variant, an empty non-blocking read returns (-EAGAIN) instead of
+     * throwing, and the native errno is encoded into the returned status by the same native dispatch
+     * of the failing system call, so the errno can't be clobbered by a later dispatch.
+     * </p>
+     *
+     * @param buffer the caller-supplied array to read the data into
+     * @param offset the start position in the array to read the data into
+     * @param length the maximum number of the bytes to read
+     * @return the number of the read bytes, (-errno) for failure, (-EBADF) for invalid port
+     * @throws IndexOutOfBoundsException if the region is out of the array bounds
+     * @see IoResult#errnoOf(long)
+     */
+    public long tryRead(final byte[] buffer, final int offset, final int length) {
+        final SerialPort serialPort = nativeTerminalDevice.getSerialPort();
+        if (serialPort == null) {
+            return -Errno.EBADF.getValue();
+        }
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        final long status = NativeTerminalDevice.read0(serialPort.getFd(), buffer, offset, length);
+        recordReadStatus(length, status);
+        return status;
+    }
+
+    /**
+     * Reads the data from this terminal device into the remaining space of a byte buffer returning
+     * a primitive status code instead of throwing on the native failures, the buffer position is
+     * advanced by the number of the read bytes.
+     *
+     * @param buffer a direct byte buffer, or a buffer backed by an accessible array to read the data into
+     * @return the number of the read bytes, (-errno) for failure, (-EBADF) for invalid port
+     * @throws IllegalArgumentException if the buffer is neither a direct buffer nor backed by an accessible array
+     * @see TerminalDevice#tryRead(byte[], int, int)
+     */
+    public long tryRead(final ByteBuffer buffer) {
+        final SerialPort serialPort = nativeTerminalDevice.getSerialPort();
+        if (serialPort == null) {
+            return -Errno.EBADF.getValue();
+        }
+        final int position = buffer.position();
+        final long status;
+        if (!buffer.isDirect()) {
+            if (!buffer.hasArray()) {
+                throw new IllegalArgumentException("Cannot read into a non-direct buffer without an accessible array!");
+            }
+            status = tryRead(buffer.array(), buffer.arrayOffset() + position, buffer.remaining());
+        } else {
+            status = NativeTerminalDevice.read0(serialPort.getFd(), buffer, position, buffer.remaining());
+            recordReadStatus(buffer.remaining(), status);
+        }
+        if (status > 0) {
+            buffer.position(position + (int) status);
+        }
+        return status;
+    }
+
+    /**
+     * Reads the data from this terminal device into a region of a byte array without throwing
+     * on the native failures, the outcome is retained by a caller-supplied result.
+     *
+     * @param buffer the caller-supplied array to read the data into
+     * @param offset the start position in the array to read the data into
+     * @param length the maximum number of the bytes to read
+     * @param result a reusable result to hold the number of the read bytes or the native errno
+     * @return the supplied result
+     * @throws IndexOutOfBoundsException if the region is out of the array bounds
+     * @see TerminalDevice#tryRead(byte[], int, int)
+     */
+    public IoResult read(final byte[] buffer, final int offset, final int length, final IoResult result) {
+        return result.setStatus(tryRead(buffer, offset, length));
+    }
+
+    /**
+     * Reads the data from this terminal device into the remaining space of a byte buffer without
+     * throwing on the native failures, the outcome is retained by a caller-supplied result, and the
+     * buffer position is advanced by the number of the read bytes.
+     *
+     * @param buffer a direct byte buffer, or a buffer backed by an accessible array to read the data into
+     * @param result a reusable result to hold the number of the read bytes or the native errno
+     * @return the supplied result
+     * @throws IllegalArgumentException if the buffer is neither a direct buffer nor backed by an accessible array
+     * @see TerminalDevice#read(ByteBuffer)
+     */
+    public IoResult read(final ByteBuffer buffer, final IoResult result) {
+        return result.setStatus(tryRead(buffer));
+    }
+
+    /**
+     * Transfers the data from this terminal device to a file descriptor inside the kernel using
+     * "splice(2)", the data never crosses into the Java heap nor the user space; a native read and write
+     * loop is used instead if the destination doesn't support splicing.
+     *
+     * <p>
+     * The transfer stops when the maximum number of bytes is reached, or when no more data is available,
+     * so in the {@link ReadConfiguration#POLLING_READ} mode, a single dispatch transfers the data
+     * available at the input queue, and should be paired with {@link TerminalDevice#awaitReadable(long)}.
+     * </p>
+     *
+     * @param fd       the destination file descriptor, (e.g. a regular file, a socket or a pipe) in the blocking mode
+     * @param maxBytes the maximum number of bytes to transfer
+     * @return the number of the transferred bytes
+     */
+    public long transferTo(final int fd, final long maxBytes) {
+        if (nativeTerminalDevice.getSerialPort() == null) {
+            throw new InvalidPortException("Bad serial port!");
+        }
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Negative transfer size!");
+        }
+        final long status = NativeTerminalDevice.transferTo0(nativeTerminalDevice.getSerialPort().getFd(), fd, maxBytes);
+        recordReadStatus(maxBytes, status);
+        if (status >= 0) {
+            recordWrite(status, status);
+        }
+        return checkStatus(status);
+    }
+
+    /**
+     * Transfers the data from this terminal device to a channel, (e.g. a {@link java.nio.channels.FileChannel}
+     * or a blocking {@link java.nio.channels.SocketChannel}).
+     *
+     * <p>
+     * The data is transferred natively using {@link TerminalDevice#transferTo(int, long)} if the file descriptor
+     * of the channel is accessible, which requires the JVM options "--add-opens java.base/sun.nio.ch=ALL-UNNAMED"
+     * and "--add-opens java.base/java.io=ALL-UNNAMED"; otherwise, the data is copied through a direct buffer,
+     * which still never crosses into the Java heap.
+     * </p>
+     *
+     * @param channel  the destination channel
+     * @param maxBytes the maximum number of bytes to transfer
+     * @return the number of the transferred bytes
+     * @throws IOException if the channel has failed to write the data
+     */
+    public long transferTo(final WritableByteChannel channel, final long maxBytes) throws IOException {
+        final int fd = ChannelDescriptors.getFd(channel);
+        if (fd >= 0) {
+            return transferTo(fd, maxBytes);
+        }
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Negative transfer size!");
+        }
+        if (transferBuffer == null) {
+            transferBuffer = ByteBuffer.allocateDirect(TRANSFER_BUFFER_SIZE);
+        }
+        long total = 0;
+        while (total < maxBytes) {
+            transferBuffer.clear().limit((int) Math.min(TRANSFER_BUFFER_SIZE, maxBytes - total));
+            if (read(transferBuffer) <= 0) {
+                break;
+            }
+            transferBuffer.flip();
+            while (transferBuffer.hasRemaining()) {
+                total += channel.write(transferBuffer);
+            }
+        }
+        return total;
+    }
+
     /**
      * Moves the current file-system position by a 64-bit offset value
      * forwardly or backwardly according to the file-seek criterion (the "whence" parameter).
@@ -379,7 +1106,7 @@ public final class TerminalDevice {
         }
         long bytes = nativeTerminalDevice.seek(offset, criterion.getWhence());
         if (bytes == Errno.ERR_OPERATION_FAILED.getValue()) {
-            ErrnoToException.throwFromErrno(nativeTerminalDevice.getErrno());
+            throwFromNativeErrno();
         }
         return bytes;
     }
@@ -409,9 +1136,12 @@ public final class TerminalDevice {
         if (isSerial4jLoggingEnabled()) {
             LOGGER.log(Level.INFO, "Getting device baud");
         }
-        final int errno = nativeTerminalDevice.getBaudRate();
-        ErrnoToException.throwFromErrno(errno);
-        return errno;
+        final int baudRate = nativeTerminalDevice.getBaudRate();
+        /* the speed codes overlap with the errno values, only the negative codes are errors */
+        if (baudRate < 0) {
+            ErrnoToException.throwFromErrno(baudRate);
+        }
+        return baudRate;
     }
 
     /**
@@ -451,12 +1181,13 @@ public final class TerminalDevice {
         if (isSerial4jLoggingEnabled()) {
             LOGGER.log(Level.INFO, "Closing port: " + getSerialPort().getPath());
         }
+        markClosed();
         final int returnValue = nativeTerminalDevice.closePort();
         // sanity check for the business error code
         if (returnValue == Errno.ERR_INVALID_PORT.getValue()) {
             ErrnoToException.throwFromErrno(Errno.ERR_INVALID_PORT.getValue());
         } else if (returnValue < Errno.OPERATION_SUCCEEDED.getValue()) {
-            ErrnoToException.throwFromErrno(nativeTerminalDevice.getErrno());
+            throwFromNativeErrno();
         }
     }
 
@@ -487,6 +1218,17 @@ public final class TerminalDevice {
         return nativeTerminalDevice.getSerialPort();
     }
 
+    /**
+     * Retrieves the metrics of this device's serial port, the metrics are collected only
+     * when the system property "serial4j.metrics" is set to true.
+     *
+     * @return the metrics of the opened port, or null if the metrics are disabled or the port isn't opened
+     * @see SerialMetrics#ENABLED
+     */
+    public SerialMetrics getSerialMetrics() {
+        return serialMetrics;
+    }
+
     private void fetchSerialPorts() {
         if (isSerial4jLoggingEnabled()) {
             LOGGER.log(Level.INFO, "Fetching Serial ports.");
@@ -496,6 +1238,59 @@ public final class TerminalDevice {
         ErrnoToException.throwFromErrno(returnValue);
     }
 
+    private void throwFromNativeErrno() {
+        final int errno = nativeTerminalDevice.getErrno();
+        if (SerialMetrics.ENABLED && serialMetrics != null) {
+            serialMetrics.onError(errno);
+        }
+        ErrnoToException.throwFromErrno(errno);
+    }
+
+    /**
+     * Throws the exception of a failed status code of the fd-passing natives.
+     *
+     * @param status the number of the transferred bytes, or (-errno) for failure
+     * @return the number of the transferred bytes
+     */
+    private static long checkStatus(final long status) {
+        if (status < 0) {
+            ErrnoToException.throwFromErrno((int) -status);
+        }
+        return status;
+    }
+
+    private void recordReadStatus(final long requested, final long status) {
+        if (SerialMetrics.ENABLED && serialMetrics != null) {
+            if (status < 0) {
+                serialMetrics.onError((int) -status);
+            } else {
+                serialMetrics.onRead(requested, status);
+            }
+        }
+    }
+
+    private void recordWriteStatus(final long requested, final long status) {
+        if (SerialMetrics.ENABLED && serialMetrics != null) {
+            if (status < 0) {
+                serialMetrics.onError((int) -status);
+            } else {
+                serialMetrics.onWrite(requested, status);
+            }
+        }
+    }
+
+    private void recordRead(final long requested, final long bytes) {
+        if (SerialMetrics.ENABLED && serialMetrics != null) {
+            serialMetrics.onRead(requested, bytes);
+        }
+    }
+
+    private void recordWrite(final long requested, final long bytes) {
+        if (SerialMetrics.ENABLED && serialMetrics != null) {
+            serialMetrics.onWrite(requested, bytes);
+        }
+    }
+
     private boolean isOperationFailed(final int returnValue) {
         return returnValue == Errno.ERR_OPERATION_FAILED.getValue();
     }
@@ -51,6 +51,6 @@ public final class TerminalFlag extends AppendableFlag {
     }
 
     public static TerminalFlag build() {
-        return (TerminalFlag) AppendableFlag.build(TerminalFlag.class);
+        return new TerminalFlag(0, "");
     }
 }
\ No newline at end of file
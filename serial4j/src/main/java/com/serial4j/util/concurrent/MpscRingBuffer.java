@@ -0,0 +1,220 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.util.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded lock-free multi-producer/single-consumer ring buffer.
+ *
+ * <p>
+ * Each slot holds a sequence number that tells whether the slot is free for the producer
+ * at a position, or is published for the consumer at a position; the producers claim the
+ * positions using a compare-and-set on the producer index, and the single consumer
+ * releases the slots in order without any atomic read-modify-write operations.
+ * </p>
+ *
+ * <p>
+ * Note: {@link MpscRingBuffer#poll()} must be dispatched by a single consumer thread at a time,
+ * the offer methods are safe to be dispatched from any thread.
+ * </p>
+ *
+ * @param <E> the type of the buffer elements
+ * @author pavl_g
+ */
+public final class MpscRingBuffer<E> {
+
+    /**
+     * The maximum time a blocked producer parks before re-trying the offer.
+     */
+    private static final long BLOCK_PARK_NANOS = 50_000L;
+    private static final int BLOCK_SPIN_TRIES = 100;
+
+    private final int capacity;
+    private final int mask;
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private volatile long consumerIndex;
+
+    /**
+     * Instantiates a ring buffer with a capacity rounded up to the next power of two.
+     *
+     * @param capacity the minimum number of the elements that the buffer can hold
+     */
+    public MpscRingBuffer(final int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Ring buffer capacity must be in the range (0, 2^30]!");
+        }
+        this.capacity = 1 << (32 - Integer.numberOfLeadingZeros(capacity - 1));
+        this.mask = this.capacity - 1;
+        this.elements = new Object[this.capacity];
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Inserts an element if there is a free slot, without blocking.
+     *
+     * @param element the element to insert
+     * @return true if the element is inserted, false if the buffer is full
+     */
+    public boolean offer(final E element) {
+        if (element == null) {
+            throw new NullPointerException("Cannot offer a null element!");
+        }
+        long position = producerIndex.get();
+        for (;;) {
+            final int index = (int) (position & mask);
+            final long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                /* the slot is free at this position, claim it */
+                if (producerIndex.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    /* publish the element to the consumer */
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = producerIndex.get();
+            } else if (difference < 0) {
+                /* the slot is not released yet by the consumer */
+                return false;
+            } else {
+                /* another producer has claimed this position */
+                position = producerIndex.get();
+            }
+        }
+    }
+
+    /**
+     * Inserts an element, and applies a backpressure policy if the buffer is full.
+     *
+     * @param element the element to insert
+     * @param policy  the behavior when the buffer is full
+     * @return true if the element is inserted, false if it is dropped, or if a blocked
+     *         producer is interrupted, the interrupt status is retained in that case
+     * @throws IllegalStateException if the buffer is full and the policy is {@link BackpressurePolicy#FAIL}
+     */
+    public boolean offer(final E element, final BackpressurePolicy policy) {
+        if (offer(element)) {
+            return true;
+        }
+        switch (policy) {
+            case DROP:
+                return false;
+            case FAIL:
+                throw new IllegalStateException("Ring buffer is full, capacity = " + capacity);
+            default:
+                int tries = 0;
+                while (!offer(element)) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        return false;
+                    }
+                    if (tries++ < BLOCK_SPIN_TRIES) {
+                        Thread.onSpinWait();
+                    } else {
+                        LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+                    }
+                }
+                return true;
+        }
+    }
+
+    /**
+     * Removes the next element in the insertion order.
+     *
+     * @return the next element, or null if the buffer is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        final long position = consumerIndex;
+        final int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        final E element = (E) elements[index];
+        elements[index] = null;
+        /* release the slot to the producers of the next lap */
+        sequences.lazySet(index, position + capacity);
+        consumerIndex = position + 1;
+        return element;
+    }
+
+    /**
+     * Retrieves the next element in the insertion order without removing it.
+     *
+     * @return the next element, or null if the buffer is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        final long position = consumerIndex;
+        final int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        return (E) elements[index];
+    }
+
+    /**
+     * Retrieves an estimate of the number of the elements in this buffer, the claimed
+     * positions that are not published yet are counted.
+     *
+     * @return the number of the elements in this buffer
+     */
+    public int size() {
+        final long size = producerIndex.get() - consumerIndex;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    /**
+     * Tests whether this buffer is empty.
+     *
+     * @return true if there are no claimed positions in this buffer, false otherwise
+     */
+    public boolean isEmpty() {
+        return producerIndex.get() == consumerIndex;
+    }
+
+    /**
+     * Retrieves the capacity of this buffer.
+     *
+     * @return the maximum number of the elements that this buffer can hold
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
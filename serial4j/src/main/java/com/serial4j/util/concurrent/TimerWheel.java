@@ -0,0 +1,227 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.util.concurrent;
+
+import java.util.function.Consumer;
+
+/**
+ * A hashed timer wheel scheduling the timeouts of the tasks in O(1), owned by a single thread.
+ *
+ * <p>
+ * The time is divided into ticks, and the timeouts are hashed into the buckets of a circular wheel
+ * by their deadline tick; advancing the wheel visits only the buckets of the elapsed ticks, and the
+ * timeouts further than one revolution are retained for their remaining rounds.
+ * </p>
+ *
+ * <p>
+ * Note: this wheel is not thread-safe, the scheduling, the cancellation and the advancing should be
+ * dispatched by the thread owning the wheel.
+ * </p>
+ *
+ * @param <T> the type of the scheduled tasks
+ * @author pavl_g
+ */
+public final class TimerWheel<T> {
+
+    private final long tickNanos;
+    private final int mask;
+    private final Timeout<T>[] buckets;
+    private final long startNanos;
+    private long currentTick;
+    private int size;
+
+    /**
+     * Instantiates a timer wheel.
+     *
+     * @param tickNanos the duration of a tick in nanoseconds, the timeouts resolution
+     * @param wheelSize the number of the buckets, rounded up to the next power of two
+     * @param nowNanos  the current time in nanoseconds as of {@link System#nanoTime()}
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(final long tickNanos, final int wheelSize, final long nowNanos) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive!");
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 20)) {
+            throw new IllegalArgumentException("Wheel size must be in the range (0, 2^20]!");
+        }
+        this.tickNanos = tickNanos;
+        this.buckets = (Timeout<T>[]) new Timeout<?>[1 << (32 - Integer.numberOfLeadingZeros(wheelSize - 1))];
+        this.mask = buckets.length - 1;
+        this.startNanos = nowNanos;
+    }
+
+    /**
+     * Schedules a task to expire after a delay.
+     *
+     * @param task       the task to schedule
+     * @param delayNanos the delay in nanoseconds, rounded up to the next tick
+     * @param nowNanos   the current time in nanoseconds
+     * @return a timeout handle to cancel the task
+     */
+    public Timeout<T> schedule(final T task, final long delayNanos, final long nowNanos) {
+        final long elapsed = nowNanos - startNanos + Math.max(0, delayNanos);
+        /* a timeout never expires on the tick being advanced */
+        final long deadlineTick = Math.max(currentTick + 1, (elapsed + tickNanos - 1) / tickNanos);
+        final Timeout<T> timeout = new Timeout<>(task);
+        timeout.rounds = (deadlineTick - currentTick - 1) / buckets.length;
+        timeout.bucket = (int) (deadlineTick & mask);
+        link(timeout);
+        return timeout;
+    }
+
+    /**
+     * Cancels a scheduled timeout, this has no effect on an expired or a cancelled timeout.
+     *
+     * @param timeout the timeout handle
+     */
+    public void cancel(final Timeout<T> timeout) {
+        if (timeout.bucket < 0) {
+            return;
+        }
+        unlink(timeout);
+    }
+
+    /**
+     * Advances the wheel to the current time, expiring the timeouts of the elapsed ticks.
+     *
+     * @param nowNanos the current time in nanoseconds
+     * @param expired  dispatched with the task of each expired timeout
+     * @return the number of the expired timeouts
+     */
+    public int advance(final long nowNanos, final Consumer<T> expired) {
+        final long targetTick = (nowNanos - startNanos) / tickNanos;
+        if (size == 0) {
+            /* an empty wheel skips the idle ticks at once */
+            currentTick = Math.max(currentTick, targetTick);
+            return 0;
+        }
+        int count = 0;
+        while (currentTick < targetTick) {
+            currentTick++;
+            Timeout<T> timeout = buckets[(int) (currentTick & mask)];
+            while (timeout != null) {
+                final Timeout<T> next = timeout.next;
+                if (timeout.rounds <= 0) {
+                    unlink(timeout);
+                    expired.accept(timeout.task);
+                    count++;
+                } else {
+                    timeout.rounds--;
+                }
+                timeout = next;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Retrieves the number of the scheduled timeouts.
+     *
+     * @return the number of the timeouts neither expired nor cancelled
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the time until the next tick.
+     *
+     * @param nowNanos the current time in nanoseconds
+     * @return the remaining nanoseconds of the current tick
+     */
+    public long nanosToNextTick(final long nowNanos) {
+        final long nextTickNanos = startNanos + (currentTick + 1) * tickNanos;
+        return Math.max(0, nextTickNanos - nowNanos);
+    }
+
+    private void link(final Timeout<T> timeout) {
+        final Timeout<T> head = buckets[timeout.bucket];
+        timeout.next = head;
+        if (head != null) {
+            head.previous = timeout;
+        }
+        buckets[timeout.bucket] = timeout;
+        size++;
+    }
+
+    private void unlink(final Timeout<T> timeout) {
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            buckets[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+        size--;
+    }
+
+    /**
+     * A handle of a scheduled task, linked into a bucket of the wheel.
+     *
+     * @param <T> the type of the scheduled task
+     */
+    public static final class Timeout<T> {
+        private final T task;
+        private long rounds;
+        private int bucket = -1;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(final T task) {
+            this.task = task;
+        }
+
+        /**
+         * Retrieves the scheduled task.
+         *
+         * @return the task of this timeout
+         */
+        public T getTask() {
+            return task;
+        }
+
+        /**
+         * Tests whether this timeout is still scheduled.
+         *
+         * @return true if the timeout is neither expired nor cancelled, false otherwise
+         */
+        public boolean isScheduled() {
+            return bucket >= 0;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.util.concurrent;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Defines how a pipeline stage waits for a dependent {@link Sequence} to advance, trading the
+ * hand-over latency against the consumed cpu time.
+ *
+ * @author pavl_g
+ */
+public enum WaitStrategy {
+
+    /**
+     * Spins on the dependent sequence, this has the lowest latency, and occupies a cpu core
+     * per waiting thread.
+     */
+    BUSY_SPIN {
+        @Override
+        void idle(final int attempts) {
+            Thread.onSpinWait();
+        }
+    },
+
+    /**
+     * Spins for a short while, then yields the cpu to the other threads between the re-tries.
+     */
+    YIELD {
+        @Override
+        void idle(final int attempts) {
+            if (attempts < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    },
+
+    /**
+     * Spins for a short while, then parks the waiting thread between the re-tries, this consumes
+     * almost no cpu time when idle, at the expense of up to {@link WaitStrategy#PARK_NANOS} of latency.
+     */
+    PARK {
+        @Override
+        void idle(final int attempts) {
+            if (attempts < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+        }
+    };
+
+    /**
+     * The maximum time a parked thread waits before re-trying.
+     */
+    public static final long PARK_NANOS = 50_000L;
+    private static final int SPIN_TRIES = 100;
+
+    /**
+     * Waits until a dependent sequence reaches a position, or the wait is halted.
+     *
+     * @param sequence   the position to wait for
+     * @param dependency the sequence of the dependent stage
+     * @param halted     tests whether the wait should be abandoned
+     * @return the available position of the dependent sequence, which is less than the
+     *         requested position if the wait has been halted
+     */
+    public long waitFor(final long sequence, final Sequence dependency, final BooleanSupplier halted) {
+        long available;
+        int attempts = 0;
+        while ((available = dependency.get()) < sequence) {
+            if (halted.getAsBoolean()) {
+                return available;
+            }
+            idle(attempts);
+            if (attempts < SPIN_TRIES) {
+                attempts++;
+            }
+        }
+        return available;
+    }
+
+    /**
+     * Idles the waiting thread between two re-tries.
+     *
+     * @param attempts the number of the preceding re-tries, saturated at the spin tries
+     */
+    abstract void idle(int attempts);
+}
@@ -0,0 +1,460 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.util.metrics;
+
+import com.serial4j.core.errno.Errno;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Collects the hot-path metrics of a serial port; the native dispatches of the
+ * {@link com.serial4j.core.terminal.TerminalDevice}, and the listener dispatches of the monitor entities.
+ *
+ * <p>
+ * The metrics are disabled by default, and are enabled by the system property "-Dserial4j.metrics=true";
+ * the instrumented paths test the constant {@link SerialMetrics#ENABLED}, which the JIT compiler folds
+ * away when the metrics are disabled, so the disabled instrumentation costs nothing.
+ * </p>
+ *
+ * <p>
+ * The counters are striped {@link LongAdder}s, and the dispatch latencies are recorded into a
+ * {@link LatencyHistogram}, so the recording is allocation-free and scales with the number of the threads;
+ * the metrics of each port are registered as a {@link SerialMetricsMXBean} with the platform MBean server,
+ * and are pulled as immutable snapshots using {@link SerialMetrics#snapshot()}.
+ * </p>
+ *
+ * @author pavl_g
+ */
+public final class SerialMetrics implements SerialMetricsMXBean {
+
+    /**
+     * Whether the metrics are enabled by the system property "serial4j.metrics".
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("serial4j.metrics");
+
+    private static final Logger LOGGER = Logger.getLogger(SerialMetrics.class.getName());
+    private static final Map<String, SerialMetrics> REGISTRY = new ConcurrentHashMap<>();
+
+    private final String port;
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder partialReads = new LongAdder();
+    private final LongAdder emptyReads = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder partialWrites = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder tryAgainErrors = new LongAdder();
+    private final LongAdder dispatches = new LongAdder();
+    private final LongAdder framesDispatched = new LongAdder();
+    private final LatencyHistogram dispatchLatency = new LatencyHistogram();
+
+    private SerialMetrics(final String port) {
+        this.port = port;
+    }
+
+    /**
+     * Retrieves the metrics of a serial port, the metrics are created and registered with
+     * the platform MBean server on the first retrieval, and accumulate across the port re-openings.
+     *
+     * @param port the path of the serial port
+     * @return the metrics of the port
+     */
+    public static SerialMetrics forPort(final String port) {
+        return REGISTRY.computeIfAbsent(port, key -> {
+            final SerialMetrics metrics = new SerialMetrics(key);
+            registerMBean(metrics);
+            return metrics;
+        });
+    }
+
+    /**
+     * Retrieves the metrics of all the measured serial ports.
+     *
+     * @return a new list of the registered metrics
+     */
+    public static List<SerialMetrics> getRegisteredMetrics() {
+        return new ArrayList<>(REGISTRY.values());
+    }
+
+    /**
+     * Removes the metrics of a serial port, and unregisters its MBean.
+     *
+     * @param port the path of the serial port
+     */
+    public static void unregister(final String port) {
+        final SerialMetrics metrics = REGISTRY.remove(port);
+        if (metrics == null) {
+            return;
+        }
+        try {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName name = objectNameOf(port);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (final JMException e) {
+            LOGGER.log(Level.WARNING, "Cannot unregister the metrics MBean of " + port, e);
+        }
+    }
+
+    /**
+     * Records a native read dispatch.
+     *
+     * @param requested the number of the requested bytes
+     * @param bytes     the number of the read bytes
+     */
+    public void onRead(final long requested, final long bytes) {
+        reads.increment();
+        if (bytes <= 0) {
+            emptyReads.increment();
+            return;
+        }
+        bytesRead.add(bytes);
+        if (bytes < requested) {
+            partialReads.increment();
+        }
+    }
+
+    /**
+     * Records a native write dispatch.
+     *
+     * @param requested the number of the bytes requested to be written
+     * @param bytes     the number of the written bytes
+     */
+    public void onWrite(final long requested, final long bytes) {
+        writes.increment();
+        if (bytes > 0) {
+            bytesWritten.add(bytes);
+        }
+        if (bytes < requested) {
+            partialWrites.increment();
+        }
+    }
+
+    /**
+     * Records a failed native dispatch.
+     *
+     * @param errno the native error code
+     */
+    public void onError(final int errno) {
+        errors.increment();
+        if (errno == Errno.EAGAIN.getValue()) {
+            tryAgainErrors.increment();
+        }
+    }
+
+    /**
+     * Records a listener dispatch of a monitor entity.
+     *
+     * @param latencyNanos the time elapsed by the listener in nanoseconds
+     * @param frames       the number of the data frames dispatched
+     */
+    public void onDispatch(final long latencyNanos, final int frames) {
+        dispatches.increment();
+        if (frames > 0) {
+            framesDispatched.add(frames);
+        }
+        dispatchLatency.record(latencyNanos);
+    }
+
+    /**
+     * Pulls an immutable snapshot of these metrics.
+     *
+     * @return a new snapshot of the current values
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(this);
+    }
+
+    /**
+     * Retrieves the histogram of the listener dispatch latencies in nanoseconds.
+     *
+     * @return the dispatch latency histogram
+     */
+    public LatencyHistogram getDispatchLatency() {
+        return dispatchLatency;
+    }
+
+    @Override
+    public String getPort() {
+        return port;
+    }
+
+    @Override
+    public long getReads() {
+        return reads.sum();
+    }
+
+    @Override
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    @Override
+    public long getPartialReads() {
+        return partialReads.sum();
+    }
+
+    @Override
+    public long getEmptyReads() {
+        return emptyReads.sum();
+    }
+
+    @Override
+    public long getWrites() {
+        return writes.sum();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    @Override
+    public long getPartialWrites() {
+        return partialWrites.sum();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getTryAgainErrors() {
+        return tryAgainErrors.sum();
+    }
+
+    @Override
+    public long getDispatches() {
+        return dispatches.sum();
+    }
+
+    @Override
+    public long getFramesDispatched() {
+        return framesDispatched.sum();
+    }
+
+    @Override
+    public double getDispatchLatencyMeanNanos() {
+        return dispatchLatency.getMean();
+    }
+
+    @Override
+    public long getDispatchLatencyP50Nanos() {
+        return dispatchLatency.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getDispatchLatencyP99Nanos() {
+        return dispatchLatency.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getDispatchLatencyMaxNanos() {
+        return dispatchLatency.getMax();
+    }
+
+    @Override
+    public void reset() {
+        reads.reset();
+        bytesRead.reset();
+        partialReads.reset();
+        emptyReads.reset();
+        writes.reset();
+        bytesWritten.reset();
+        partialWrites.reset();
+        errors.reset();
+        tryAgainErrors.reset();
+        dispatches.reset();
+        framesDispatched.reset();
+        dispatchLatency.reset();
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+
+    private static void registerMBean(final SerialMetrics metrics) {
+        try {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName name = objectNameOf(metrics.port);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(metrics, name);
+            }
+        } catch (final JMException e) {
+            LOGGER.log(Level.WARNING, "Cannot register the metrics MBean of " + metrics.port, e);
+        }
+    }
+
+    private static ObjectName objectNameOf(final String port) throws JMException {
+        return new ObjectName("com.serial4j:type=SerialMetrics,port=" + ObjectName.quote(port));
+    }
+
+    /**
+     * An immutable point-in-time snapshot of the metrics of a serial port, the values
+     * are read individually, so a snapshot taken under load is only approximately consistent.
+     */
+    public static final class Snapshot {
+        private final String port;
+        private final long reads;
+        private final long bytesRead;
+        private final long partialReads;
+        private final long emptyReads;
+        private final long writes;
+        private final long bytesWritten;
+        private final long partialWrites;
+        private final long errors;
+        private final long tryAgainErrors;
+        private final long dispatches;
+        private final long framesDispatched;
+        private final double dispatchLatencyMeanNanos;
+        private final long dispatchLatencyP50Nanos;
+        private final long dispatchLatencyP99Nanos;
+        private final long dispatchLatencyMaxNanos;
+
+        private Snapshot(final SerialMetrics metrics) {
+            this.port = metrics.getPort();
+            this.reads = metrics.getReads();
+            this.bytesRead = metrics.getBytesRead();
+            this.partialReads = metrics.getPartialReads();
+            this.emptyReads = metrics.getEmptyReads();
+            this.writes = metrics.getWrites();
+            this.bytesWritten = metrics.getBytesWritten();
+            this.partialWrites = metrics.getPartialWrites();
+            this.errors = metrics.getErrors();
+            this.tryAgainErrors = metrics.getTryAgainErrors();
+            this.dispatches = metrics.getDispatches();
+            this.framesDispatched = metrics.getFramesDispatched();
+            this.dispatchLatencyMeanNanos = metrics.getDispatchLatencyMeanNanos();
+            this.dispatchLatencyP50Nanos = metrics.getDispatchLatencyP50Nanos();
+            this.dispatchLatencyP99Nanos = metrics.getDispatchLatencyP99Nanos();
+            this.dispatchLatencyMaxNanos = metrics.getDispatchLatencyMaxNanos();
+        }
+
+        public String getPort() {
+            return port;
+        }
+
+        public long getReads() {
+            return reads;
+        }
+
+        public long getBytesRead() {
+            return bytesRead;
+        }
+
+        public long getPartialReads() {
+            return partialReads;
+        }
+
+        public long getEmptyReads() {
+            return emptyReads;
+        }
+
+        public long getWrites() {
+            return writes;
+        }
+
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        public long getPartialWrites() {
+            return partialWrites;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getTryAgainErrors() {
+            return tryAgainErrors;
+        }
+
+        public long getDispatches() {
+            return dispatches;
+        }
+
+        public long getFramesDispatched() {
+            return framesDispatched;
+        }
+
+        public double getDispatchLatencyMeanNanos() {
+            return dispatchLatencyMeanNanos;
+        }
+
+        public long getDispatchLatencyP50Nanos() {
+            return dispatchLatencyP50Nanos;
+        }
+
+        public long getDispatchLatencyP99Nanos() {
+            return dispatchLatencyP99Nanos;
+        }
+
+        public long getDispatchLatencyMaxNanos() {
+            return dispatchLatencyMaxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "SerialMetrics[" + port +
+                    "] reads=" + reads +
+                    ", bytesRead=" + bytesRead +
+                    ", partialReads=" + partialReads +
+                    ", emptyReads=" + emptyReads +
+                    ", writes=" + writes +
+                    ", bytesWritten=" + bytesWritten +
+                    ", partialWrites=" + partialWrites +
+                    ", errors=" + errors +
+                    ", tryAgainErrors=" + tryAgainErrors +
+                    ", dispatches=" + dispatches +
+                    ", framesDispatched=" + framesDispatched +
+                    ", dispatchLatency[mean=" + (long) dispatchLatencyMeanNanos +
+                    "ns, p50=" + dispatchLatencyP50Nanos +
+                    "ns, p99=" + dispatchLatencyP99Nanos +
+                    "ns, max=" + dispatchLatencyMaxNanos + "ns]";
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2022, Scrappers Team, The AVR-Sandbox Project, Serial4j API.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.serial4j.util.metrics;
+
+/**
+ * The JMX management interface of the {@link SerialMetrics} of a serial port, registered with
+ * the platform MBean server under the name "com.serial4j:type=SerialMetrics,port=&lt;quoted port path&gt;".
+ *
+ * @author pavl_g
+ */
+public interface SerialMetricsMXBean {
+
+    /**
+     * @return the path of the measured serial port
+     */
+    String getPort();
+
+    /**
+     * @return the number of the native read dispatches
+     */
+    long getReads();
+
+    /**
+     * @return the number of the bytes read from the port
+     */
+    long getBytesRead();
+
+    /**
+     * @return the number of the reads returning fewer bytes than requested, excluding the empty reads
+     */
+    long getPartialReads();
+
+    /**
+     * @return the number of the reads returning no data
+     */
+    long getEmptyReads();
+
+    /**
+     * @return the number of the native write dispatches
+     */
+    long getWrites();
+
+    /**
+     * @return the number of the bytes written to the port
+     */
+    long getBytesWritten();
+
+    /**
+     * @return the number of the writes writing fewer bytes than requested
+     */
+    long getPartialWrites();
+
+    /**
+     * @return the number of the failed native dispatches
+     */
+    long getErrors();
+
+    /**
+     * @return the number of the native dispatches failed with "EAGAIN"
+     */
+    long getTryAgainErrors();
+
+    /**
+     * @return the number of the listener dispatches of the monitor entities
+     */
+    long getDispatches();
+
+    /**
+     * @return the number of the data frames dispatched to the listeners
+     */
+    long getFramesDispatched();
+
+    /**
+     * @return the mean latency of the listener dispatches in nanoseconds
+     */
+    double getDispatchLatencyMeanNanos();
+
+    /**
+     * @return the median latency of the listener dispatches in nanoseconds
+     */
+    long getDispatchLatencyP50Nanos();
+
+    /**
+     * @return the 99th percentile latency of the listener dispatches in nanoseconds
+     */
+    long getDispatchLatencyP99Nanos();
+
+    /**
+     * @return the maximum latency of the listener dispatches in nanoseconds
+     */
+    long getDispatchLatencyMaxNanos();
+
+    /**
+     * Clears the counters and the latency histogram.
+     */
+    void reset();
+}